@@ -0,0 +1,297 @@
+package com.lcsk42.starter.cache.redisson.analyzer;
+
+import com.lcsk42.starter.cache.redisson.config.CacheExtensionProperties;
+import com.lcsk42.starter.cache.redisson.util.CacheUtil;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 键空间分析器。
+ * <p>
+ * 以 SCAN 游标对键前缀下的键进行采样，并通过管道批量获取 MEMORY USAGE 与 PTTL，
+ * 按命名空间汇总内存占用与过期时间分布，标记大键和未设置过期时间的键。
+ * 分析过程按配置限速，同一时刻只允许一次分析，且两次分析之间有最小间隔。
+ * 可在调用线程中同步执行，也可通过 {@link #analyzeAsync()} 在后台线程中执行。
+ * </p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class KeyspaceAnalyzer implements DisposableBean {
+
+    private static final byte[] MEMORY_USAGE = "USAGE".getBytes(StandardCharsets.UTF_8);
+
+    private static final String NAMESPACE_SEPARATOR = ":";
+
+    private static final long[] SIZE_BUCKETS = {1L << 10, 10L << 10, 100L << 10, 1L << 20};
+
+    private static final String[] SIZE_BUCKET_LABELS = {"<1KB", "<10KB", "<100KB", "<1MB", ">=1MB"};
+
+    private static final long[] TTL_BUCKETS = {
+            TimeUnit.MINUTES.toMillis(1), TimeUnit.HOURS.toMillis(1), TimeUnit.DAYS.toMillis(1)
+    };
+
+    private static final String[] TTL_BUCKET_LABELS = {"<1m", "<1h", "<1d", ">=1d"};
+
+    private static final String TTL_NONE_LABEL = "none";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final CacheExtensionProperties cacheExtensionProperties;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /**
+     * 最近一次的分析报告
+     */
+    @Getter
+    private volatile KeyspaceReport lastReport;
+
+    // 最近一次分析结束的时间戳
+    private volatile long lastFinishedMillis;
+
+    // 正在执行后台分析的线程
+    private volatile Thread worker;
+
+    /**
+     * 执行一次键空间分析。
+     * 若已有分析正在进行，或距上次分析未超过最小间隔，则直接返回最近一次的报告（可能为 null）。
+     *
+     * @return 分析报告
+     */
+    public KeyspaceReport analyze() {
+        if (!tryStart()) {
+            return lastReport;
+        }
+        return run();
+    }
+
+    /**
+     * 在后台线程中执行一次键空间分析，立即返回，完成后可通过 {@link #getLastReport()} 获取报告。
+     * 若已有分析正在进行，或距上次分析未超过最小间隔，则不会启动新的分析。
+     *
+     * @return 是否启动了新的分析
+     */
+    public boolean analyzeAsync() {
+        if (!tryStart()) {
+            return false;
+        }
+        try {
+            Thread thread = Thread.ofPlatform()
+                    .name("keyspace-analyzer")
+                    .daemon(true)
+                    .unstarted(() -> {
+                        try {
+                            run();
+                        } catch (RuntimeException ex) {
+                            log.warn("[Omega Starter] - Keyspace analysis failed.", ex);
+                        } finally {
+                            worker = null;
+                        }
+                    });
+            worker = thread;
+            thread.start();
+        } catch (RuntimeException | Error ex) {
+            running.set(false);
+            throw ex;
+        }
+        return true;
+    }
+
+    /**
+     * 是否有分析正在进行
+     *
+     * @return 正在分析时返回 true
+     */
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    @Override
+    public void destroy() {
+        Thread current = worker;
+        if (Objects.nonNull(current)) {
+            current.interrupt();
+        }
+    }
+
+    private boolean tryStart() {
+        CacheExtensionProperties.Analyzer analyzer = cacheExtensionProperties.getAnalyzer();
+        if (Objects.nonNull(lastReport)
+                && System.currentTimeMillis() - lastFinishedMillis < analyzer.getMinIntervalMillis()) {
+            return false;
+        }
+        return running.compareAndSet(false, true);
+    }
+
+    private KeyspaceReport run() {
+        try {
+            KeyspaceReport report = doAnalyze(cacheExtensionProperties.getAnalyzer());
+            lastReport = report;
+            lastFinishedMillis = System.currentTimeMillis();
+            log.info("[Omega Starter] - Keyspace analysis finished, sampled {} keys in {} ms.",
+                    report.getSampledKeys(), report.getElapsedMillis());
+            return report;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private KeyspaceReport doAnalyze(CacheExtensionProperties.Analyzer analyzer) {
+        KeyspaceReport report = new KeyspaceReport();
+        report.setStartTime(LocalDateTime.now());
+        long startNanos = System.nanoTime();
+        int batchSize = analyzer.getBatchSize();
+        // 键前缀可能包含通配符，转义后只匹配字面前缀
+        ScanOptions scanOptions = ScanOptions.scanOptions()
+                .match(CacheUtil.escapeGlob(cacheExtensionProperties.getPrefix()) + "*")
+                .count(batchSize)
+                .build();
+        stringRedisTemplate.execute((RedisCallback<Void>) connection -> {
+            List<byte[]> batch = new ArrayList<>(batchSize);
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(scanOptions)) {
+                while (cursor.hasNext()) {
+                    if (report.getSampledKeys() >= analyzer.getSampleLimit()) {
+                        report.setTruncated(true);
+                        break;
+                    }
+                    batch.add(cursor.next());
+                    report.setSampledKeys(report.getSampledKeys() + 1);
+                    if (batch.size() < batchSize && cursor.hasNext()) {
+                        continue;
+                    }
+                    inspect(batch, report, analyzer);
+                    batch.clear();
+                    if (!throttle(report.getSampledKeys(), startNanos, analyzer.getMaxKeysPerSecond())) {
+                        report.setTruncated(true);
+                        break;
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                inspect(batch, report, analyzer);
+            }
+            return null;
+        });
+        report.getNamespaces().values().forEach(each -> {
+            each.getBigKeys().sort(Comparator.comparingLong(KeyspaceReport.BigKey::getBytes).reversed());
+            trim(each.getBigKeys(), analyzer.getMaxFlaggedKeys());
+        });
+        report.setElapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        return report;
+    }
+
+    /**
+     * 以管道方式批量获取一批键的内存占用与剩余过期时间并汇总
+     */
+    private void inspect(List<byte[]> rawKeys, KeyspaceReport report, CacheExtensionProperties.Analyzer analyzer) {
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            rawKeys.forEach(each -> {
+                connection.execute("MEMORY", MEMORY_USAGE, each);
+                connection.keyCommands().pTtl(each);
+            });
+            return null;
+        });
+        for (int i = 0; i < rawKeys.size(); i++) {
+            Object bytes = results.get(i * 2);
+            Object ttl = results.get(i * 2 + 1);
+            // 键在扫描后已过期或被删除
+            if (!(bytes instanceof Long size) || !(ttl instanceof Long ttlMillis) || ttlMillis == -2) {
+                continue;
+            }
+            String key = stripPrefix(new String(rawKeys.get(i), StandardCharsets.UTF_8));
+            KeyspaceReport.NamespaceStats stats = report.getNamespaces()
+                    .computeIfAbsent(namespace(key, analyzer.getNamespaceDepth()),
+                            namespace -> new KeyspaceReport.NamespaceStats());
+            stats.setKeyCount(stats.getKeyCount() + 1);
+            stats.setTotalBytes(stats.getTotalBytes() + size);
+            stats.setMaxBytes(Math.max(stats.getMaxBytes(), size));
+            report.setTotalBytes(report.getTotalBytes() + size);
+            increment(stats.getSizeHistogram(), bucket(size, SIZE_BUCKETS, SIZE_BUCKET_LABELS));
+            increment(stats.getTtlHistogram(),
+                    ttlMillis < 0 ? TTL_NONE_LABEL : bucket(ttlMillis, TTL_BUCKETS, TTL_BUCKET_LABELS));
+            if (size >= analyzer.getBigKeyThresholdBytes()) {
+                stats.getBigKeys().add(new KeyspaceReport.BigKey(key, size, ttlMillis));
+                // 采样期间控制列表规模，最终再统一排序截取
+                if (stats.getBigKeys().size() >= analyzer.getMaxFlaggedKeys() * 2) {
+                    stats.getBigKeys().sort(Comparator.comparingLong(KeyspaceReport.BigKey::getBytes).reversed());
+                    trim(stats.getBigKeys(), analyzer.getMaxFlaggedKeys());
+                }
+            }
+            if (ttlMillis < 0 && stats.getImmortalKeys().size() < analyzer.getMaxFlaggedKeys()) {
+                stats.getImmortalKeys().add(key);
+            }
+        }
+    }
+
+    /**
+     * 按目标速率限速，线程被中断时返回 false 以结束分析
+     */
+    private boolean throttle(long sampledKeys, long startNanos, long maxKeysPerSecond) {
+        if (Thread.currentThread().isInterrupted()) {
+            return false;
+        }
+        if (maxKeysPerSecond <= 0) {
+            return true;
+        }
+        long expectedMillis = sampledKeys * 1_000L / maxKeysPerSecond;
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        if (expectedMillis <= elapsedMillis) {
+            return true;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(expectedMillis - elapsedMillis);
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private String stripPrefix(String key) {
+        return StringUtils.removeStart(key, cacheExtensionProperties.getPrefix());
+    }
+
+    private static String namespace(String key, int depth) {
+        String[] parts = StringUtils.split(key, NAMESPACE_SEPARATOR);
+        if (parts.length <= 1) {
+            return key;
+        }
+        return StringUtils.join(parts, NAMESPACE_SEPARATOR, 0, Math.min(depth, parts.length - 1));
+    }
+
+    private static String bucket(long value, long[] bounds, String[] labels) {
+        for (int i = 0; i < bounds.length; i++) {
+            if (value < bounds[i]) {
+                return labels[i];
+            }
+        }
+        return labels[bounds.length];
+    }
+
+    private static void increment(Map<String, Long> histogram, String label) {
+        histogram.merge(label, 1L, Long::sum);
+    }
+
+    private static <T> void trim(List<T> list, int maxSize) {
+        if (list.size() > maxSize) {
+            list.subList(maxSize, list.size()).clear();
+        }
+    }
+}
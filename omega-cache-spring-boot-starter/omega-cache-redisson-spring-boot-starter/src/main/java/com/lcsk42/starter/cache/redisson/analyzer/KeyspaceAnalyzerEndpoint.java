@@ -0,0 +1,52 @@
+package com.lcsk42.starter.cache.redisson.analyzer;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+/**
+ * 键空间分析端点。
+ * <p>
+ * GET 返回最近一次的分析报告，POST 在后台触发一次新的分析（受分析器的限速与最小间隔约束）并立即返回，
+ * 分析完成后通过 GET 获取报告。
+ * </p>
+ */
+@Endpoint(id = KeyspaceAnalyzerEndpoint.ENDPOINT_ID)
+@RequiredArgsConstructor
+public class KeyspaceAnalyzerEndpoint {
+
+    public static final String ENDPOINT_ID = "cachekeyspace";
+
+    private final KeyspaceAnalyzer keyspaceAnalyzer;
+
+    /**
+     * 获取最近一次的分析报告
+     *
+     * @return 分析报告，尚未分析时为 null
+     */
+    @ReadOperation
+    public KeyspaceReport report() {
+        return keyspaceAnalyzer.getLastReport();
+    }
+
+    /**
+     * 在后台触发一次键空间分析
+     *
+     * @return 触发结果
+     */
+    @WriteOperation
+    public AnalyzeResult analyze() {
+        boolean accepted = keyspaceAnalyzer.analyzeAsync();
+        return new AnalyzeResult(accepted, keyspaceAnalyzer.isRunning());
+    }
+
+    /**
+     * 分析触发结果
+     *
+     * @param accepted 是否启动了新的分析，已有分析进行中或未超过最小间隔时为 false
+     * @param running  是否有分析正在进行
+     */
+    public record AnalyzeResult(boolean accepted, boolean running) {
+    }
+}
@@ -0,0 +1,115 @@
+package com.lcsk42.starter.cache.redisson.analyzer;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 键空间分析报告
+ */
+@Data
+public class KeyspaceReport {
+
+    /**
+     * 分析开始时间
+     */
+    private LocalDateTime startTime;
+
+    /**
+     * 分析耗时 (单位: 毫秒)
+     */
+    private long elapsedMillis;
+
+    /**
+     * 采样的键数量
+     */
+    private long sampledKeys;
+
+    /**
+     * 采样键的内存占用总和 (单位: 字节)
+     */
+    private long totalBytes;
+
+    /**
+     * 是否因达到采样上限或被中断而提前结束
+     */
+    private boolean truncated;
+
+    /**
+     * 按命名空间汇总的统计信息
+     */
+    private Map<String, NamespaceStats> namespaces = new TreeMap<>();
+
+    /**
+     * 命名空间统计信息
+     */
+    @Data
+    public static class NamespaceStats {
+
+        /**
+         * 键数量
+         */
+        private long keyCount;
+
+        /**
+         * 内存占用总和 (单位: 字节)
+         */
+        private long totalBytes;
+
+        /**
+         * 单个键的最大内存占用 (单位: 字节)
+         */
+        private long maxBytes;
+
+        /**
+         * 内存占用分布（区间 -> 键数量）
+         */
+        private Map<String, Long> sizeHistogram = new LinkedHashMap<>();
+
+        /**
+         * 剩余过期时间分布（区间 -> 键数量）
+         */
+        private Map<String, Long> ttlHistogram = new LinkedHashMap<>();
+
+        /**
+         * 超过阈值的大键（按内存占用降序）
+         */
+        private List<BigKey> bigKeys = new ArrayList<>();
+
+        /**
+         * 未设置过期时间的键
+         */
+        private List<String> immortalKeys = new ArrayList<>();
+    }
+
+    /**
+     * 大键信息
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BigKey {
+
+        /**
+         * 键名（不含键前缀）
+         */
+        private String key;
+
+        /**
+         * 内存占用 (单位: 字节)
+         */
+        private long bytes;
+
+        /**
+         * 剩余过期时间 (单位: 毫秒)，-1 表示未设置过期时间
+         */
+        private long ttlMillis;
+    }
+}
@@ -0,0 +1,47 @@
+package com.lcsk42.starter.cache.redisson.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 分布式限流注解，标注在控制器等 Spring Bean 的方法上，超出限制时抛出客户端异常
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimit {
+
+    /**
+     * 限流名称，默认使用 类名.方法名
+     */
+    String name() default "";
+
+    /**
+     * 限流维度的 SpEL 表达式（如 {@code #userId}），为空时按方法整体限流
+     */
+    String key() default "";
+
+    /**
+     * 每个时间间隔内允许的请求数，即令牌桶容量
+     */
+    long permits();
+
+    /**
+     * 令牌桶从空补满所需的时间间隔
+     */
+    long interval() default 1;
+
+    /**
+     * 时间间隔单位
+     */
+    TimeUnit timeUnit() default TimeUnit.SECONDS;
+
+    /**
+     * 超出限制时的提示信息
+     */
+    String message() default "Too many requests, please try again later";
+}
@@ -1,17 +1,40 @@
 package com.lcsk42.starter.cache.redisson.config;
 
+import com.lcsk42.starter.cache.redisson.analyzer.KeyspaceAnalyzer;
+import com.lcsk42.starter.cache.redisson.analyzer.KeyspaceAnalyzerEndpoint;
+import com.lcsk42.starter.cache.redisson.core.DistributedCache;
+import com.lcsk42.starter.cache.redisson.core.LocalDistributedCache;
+import com.lcsk42.starter.cache.redisson.core.ShardedDistributedCache;
 import com.lcsk42.starter.cache.redisson.core.StringRedisTemplateProxy;
+import com.lcsk42.starter.cache.redisson.counter.CardinalityCounter;
+import com.lcsk42.starter.cache.redisson.counter.DistributedCounter;
+import com.lcsk42.starter.cache.redisson.ratelimit.DistributedRateLimiter;
+import com.lcsk42.starter.cache.redisson.ratelimit.RateLimitAspect;
 import com.lcsk42.starter.cache.redisson.serializer.RedisKeySerializer;
 import jakarta.annotation.PostConstruct;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.redisson.Redisson;
 import org.redisson.api.RBloomFilter;
 import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import org.redisson.spring.data.connection.RedissonConnectionFactory;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @AllArgsConstructor
@@ -42,6 +65,7 @@ public class CacheAutoConfiguration {
     }
 
     @Bean
+    @ConditionalOnProperty(name = CacheExtensionProperties.TYPE, havingValue = "redis", matchIfMissing = true)
     public StringRedisTemplateProxy stringRedisTemplateProxy(RedisKeySerializer redisKeySerializer,
                                                              StringRedisTemplate stringRedisTemplate,
                                                              RedissonClient redissonClient) {
@@ -49,6 +73,91 @@ public class CacheAutoConfiguration {
         return new StringRedisTemplateProxy(stringRedisTemplate, cacheExtensionProperties, redissonClient);
     }
 
+    @Bean
+    @ConditionalOnProperty(name = CacheExtensionProperties.TYPE, havingValue = "local")
+    public LocalDistributedCache localDistributedCache() {
+        return new LocalDistributedCache(cacheExtensionProperties);
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = CacheExtensionProperties.SHARDING, name = "enabled", havingValue = "true")
+    public ShardedDistributedCache shardedDistributedCache(RedisKeySerializer redisKeySerializer) {
+        CacheExtensionProperties.Sharding sharding = cacheExtensionProperties.getSharding();
+        Assert.notEmpty(sharding.getNodes(), "Sharding nodes cannot be empty when sharding is enabled.");
+        Map<String, DistributedCache> shards = new LinkedHashMap<>();
+        List<RedissonClient> redissonClients = new ArrayList<>();
+        try {
+            sharding.getNodes().forEach(address -> {
+                Config config = new Config();
+                config.useSingleServer()
+                        .setAddress(address)
+                        .setPassword(sharding.getPassword());
+                RedissonClient shardRedissonClient = Redisson.create(config);
+                redissonClients.add(shardRedissonClient);
+                StringRedisTemplate shardRedisTemplate =
+                        new StringRedisTemplate(new RedissonConnectionFactory(shardRedissonClient));
+                shardRedisTemplate.setKeySerializer(redisKeySerializer);
+                shards.put(address,
+                        new StringRedisTemplateProxy(shardRedisTemplate, cacheExtensionProperties, shardRedissonClient));
+            });
+        } catch (RuntimeException ex) {
+            // 后续分片创建失败时关闭已创建的客户端，避免连接与线程泄漏
+            shards.values().forEach(each -> ((StringRedisTemplateProxy) each).destroy());
+            redissonClients.forEach(each -> {
+                try {
+                    each.shutdown();
+                } catch (RuntimeException shutdownEx) {
+                    ex.addSuppressed(shutdownEx);
+                }
+            });
+            throw ex;
+        }
+        return new ShardedDistributedCache(shards, sharding.getVirtualNodes(), redissonClients);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = CacheExtensionProperties.ANALYZER, name = "enabled", havingValue = "true")
+    public KeyspaceAnalyzer keyspaceAnalyzer(StringRedisTemplate stringRedisTemplate) {
+        return new KeyspaceAnalyzer(stringRedisTemplate, cacheExtensionProperties);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = CacheExtensionProperties.COUNTER, name = "enabled", havingValue = "true")
+    public DistributedCounter distributedCounter(StringRedisTemplate stringRedisTemplate) {
+        return new DistributedCounter(stringRedisTemplate, cacheExtensionProperties.getCounter());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = CacheExtensionProperties.CARDINALITY, name = "enabled", havingValue = "true")
+    public CardinalityCounter cardinalityCounter(StringRedisTemplate stringRedisTemplate) {
+        return new CardinalityCounter(stringRedisTemplate, cacheExtensionProperties.getCardinality());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = CacheExtensionProperties.RATE_LIMITER, name = "enabled", havingValue = "true")
+    public DistributedRateLimiter distributedRateLimiter(StringRedisTemplate stringRedisTemplate) {
+        return new DistributedRateLimiter(stringRedisTemplate, cacheExtensionProperties.getRateLimiter());
+    }
+
+    @Bean
+    @ConditionalOnClass(name = "org.aspectj.lang.annotation.Aspect")
+    @ConditionalOnProperty(prefix = CacheExtensionProperties.RATE_LIMITER, name = "enabled", havingValue = "true")
+    public RateLimitAspect rateLimitAspect(DistributedRateLimiter distributedRateLimiter) {
+        return new RateLimitAspect(distributedRateLimiter);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(Endpoint.class)
+    @ConditionalOnProperty(prefix = CacheExtensionProperties.ANALYZER, name = "enabled", havingValue = "true")
+    static class KeyspaceAnalyzerEndpointConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public KeyspaceAnalyzerEndpoint keyspaceAnalyzerEndpoint(KeyspaceAnalyzer keyspaceAnalyzer) {
+            return new KeyspaceAnalyzerEndpoint(keyspaceAnalyzer);
+        }
+    }
 
     @PostConstruct
     public void postConstruct() {
@@ -1,9 +1,14 @@
 package com.lcsk42.starter.cache.redisson.config;
 
+import com.lcsk42.starter.cache.redisson.enums.CacheType;
+import com.lcsk42.starter.cache.redisson.enums.LoaderOverflowPolicy;
+import com.lcsk42.starter.cache.redisson.enums.LocalStoreType;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 @Data
@@ -12,8 +17,25 @@ public class CacheExtensionProperties {
 
     public static final String PREFIX = "framework.cache.redisson";
 
+    public static final String TYPE = PREFIX + ".type";
+
     public static final String BLOOM_FILTER = PREFIX + ".default-bloom-filter";
 
+    public static final String SHARDING = PREFIX + ".sharding";
+
+    public static final String ANALYZER = PREFIX + ".analyzer";
+
+    public static final String COUNTER = PREFIX + ".counter";
+
+    public static final String CARDINALITY = PREFIX + ".cardinality";
+
+    public static final String RATE_LIMITER = PREFIX + ".rate-limiter";
+
+    /**
+     * 分布式缓存实现类型
+     */
+    private CacheType type = CacheType.REDIS;
+
     /**
      * 键前缀
      */
@@ -37,15 +59,70 @@ public class CacheExtensionProperties {
     /**
      * Bloom 过滤器
      */
-    private BloomFilter defaultBloomFilter;
+    private BloomFilter defaultBloomFilter = new BloomFilter();
+
+    /**
+     * 按模式批量删除
+     */
+    private BulkDelete bulkDelete = new BulkDelete();
+
+    /**
+     * 客户端分片
+     */
+    private Sharding sharding = new Sharding();
+
+    /**
+     * 键空间分析
+     */
+    private Analyzer analyzer = new Analyzer();
+
+    /**
+     * 进程内缓存（type 为 local 时生效）
+     */
+    private Local local = new Local();
+
+    /**
+     * 自动管道合并
+     */
+    private AutoPipeline autoPipeline = new AutoPipeline();
+
+    /**
+     * 乐观并发更新
+     */
+    private Compute compute = new Compute();
+
+    /**
+     * 分布式计数器
+     */
+    private Counter counter = new Counter();
+
+    /**
+     * 缓存加载并发预算
+     */
+    private LoaderBudget loaderBudget = new LoaderBudget();
+
+    /**
+     * 版本戳校验的本地副本
+     */
+    private Revalidation revalidation = new Revalidation();
+
+    /**
+     * 基数统计
+     */
+    private Cardinality cardinality = new Cardinality();
+
+    /**
+     * 分布式限流
+     */
+    private RateLimiter rateLimiter = new RateLimiter();
 
     @Data
     public static class BloomFilter {
 
         /**
-         * 是否开启 boolean 过滤器
+         * 是否开启 Bloom 过滤器
          */
-        private Boolean enable = false;
+        private Boolean enabled = false;
 
         /**
          * Bloom 过滤器实例的默认名称
@@ -62,5 +139,307 @@ public class CacheExtensionProperties {
          */
         private Double falseProbability = 0.03D;
     }
-}
 
+    @Data
+    public static class BulkDelete {
+
+        /**
+         * 每批次扫描并删除的键数量（同时作为 SCAN 的 COUNT 参数）
+         */
+        private Integer batchSize = 500;
+
+        /**
+         * 批次之间的暂停时间 (单位: 毫秒)，用于让出 Redis 处理其他客户端请求
+         */
+        private Long batchPauseMillis = 10L;
+    }
+
+    @Data
+    public static class Sharding {
+
+        /**
+         * 是否开启客户端一致性哈希分片
+         */
+        private Boolean enabled = false;
+
+        /**
+         * 分片节点地址（如 redis://127.0.0.1:6379），每个节点为独立的单机 Redis 实例
+         */
+        private List<String> nodes = new ArrayList<>();
+
+        /**
+         * 分片节点密码
+         */
+        private String password;
+
+        /**
+         * 每个节点的虚拟节点数量
+         */
+        private Integer virtualNodes = 160;
+    }
+
+    @Data
+    public static class Analyzer {
+
+        /**
+         * 是否开启键空间分析
+         */
+        private Boolean enabled = false;
+
+        /**
+         * 单次分析最多采样的键数量
+         */
+        private Long sampleLimit = 100_000L;
+
+        /**
+         * 每批次扫描并检查的键数量
+         */
+        private Integer batchSize = 200;
+
+        /**
+         * 每秒最多检查的键数量（小于等于 0 表示不限速）
+         */
+        private Long maxKeysPerSecond = 2_000L;
+
+        /**
+         * 两次分析之间的最小间隔 (单位: 毫秒)
+         */
+        private Long minIntervalMillis = 60 * 1_000L;
+
+        /**
+         * 命名空间深度，即取键中前几段（以 ':' 分隔）作为命名空间
+         */
+        private Integer namespaceDepth = 1;
+
+        /**
+         * 大键阈值 (单位: 字节)
+         */
+        private Long bigKeyThresholdBytes = 512 * 1024L;
+
+        /**
+         * 每个命名空间最多记录的大键及未设置过期时间的键数量
+         */
+        private Integer maxFlaggedKeys = 20;
+    }
+
+    @Data
+    public static class Local {
+
+        /**
+         * 最大缓存条目数量，平均分配到各存储分段，分段超出容量时按最近最少使用淘汰，仅在存储类型为 HEAP 时生效
+         */
+        private Integer maximumSize = 10_000;
+
+        /**
+         * 存储类型，堆外存储适用于大容量本地缓存，避免增加堆占用与 GC 停顿
+         */
+        private LocalStoreType storeType = LocalStoreType.HEAP;
+
+        /**
+         * 堆外存储容量 (单位: 字节)，平均分配到各存储分段，仅在存储类型为 OFF_HEAP 时生效
+         */
+        private Long offHeapCapacityBytes = 256L * 1024 * 1024;
+
+        /**
+         * 是否在停机时将热点条目写入内存映射快照，并在启动时按需加载
+         */
+        private Boolean snapshotEnabled = Boolean.FALSE;
+
+        /**
+         * 快照文件路径
+         */
+        private String snapshotPath = System.getProperty("java.io.tmpdir") + "/omega-local-cache.snapshot";
+
+        /**
+         * 快照最多保存的条目数量，按最近访问顺序优先保存
+         */
+        private Integer snapshotMaxEntries = 10_000;
+    }
+
+    @Data
+    public static class AutoPipeline {
+
+        /**
+         * 是否开启单键 GET/SET 命令的自动管道合并
+         */
+        private Boolean enabled = false;
+
+        /**
+         * 单次管道最多合并的命令数量
+         */
+        private Integer batchSize = 128;
+
+        /**
+         * 批次未满时等待后续命令的时间窗口 (单位: 微秒)，为 0 时只合并已到达的命令
+         */
+        private Long windowMicros = 200L;
+
+        /**
+         * 待合并命令队列容量，队列满时命令在调用方线程中直接执行
+         */
+        private Integer queueCapacity = 8192;
+
+        /**
+         * 调用方等待命令结果的超时时间 (单位: 毫秒)
+         */
+        private Long awaitTimeoutMillis = 10_000L;
+    }
+
+    @Data
+    public static class Compute {
+
+        /**
+         * 版本冲突时的最大尝试次数
+         */
+        private Integer maxAttempts = 16;
+
+        /**
+         * 首次重试的退避时间 (单位: 毫秒)，之后按指数增长
+         */
+        private Long initialBackoffMillis = 1L;
+
+        /**
+         * 最大退避时间 (单位: 毫秒)
+         */
+        private Long maxBackoffMillis = 64L;
+    }
+
+    @Data
+    public static class Counter {
+
+        /**
+         * 是否开启分布式计数器
+         */
+        private Boolean enabled = false;
+
+        /**
+         * 每个计数器在 Redis 中的子键数量
+         */
+        private Integer shards = 8;
+
+        /**
+         * 本地增量刷新到 Redis 的间隔 (单位: 毫秒)
+         */
+        private Long flushIntervalMillis = 1_000L;
+
+        /**
+         * 子键的过期时间 (单位: 毫秒)，每次刷新时续期，小于等于 0 表示不过期
+         */
+        private Long keyTimeoutMillis = 0L;
+
+        /**
+         * 计数器闲置超过该时间（没有增量也未被读取）后释放本地状态 (单位: 毫秒)，小于等于 0 表示不释放
+         */
+        private Long idleTimeoutMillis = 600_000L;
+    }
+
+    @Data
+    public static class LoaderBudget {
+
+        /**
+         * 是否开启全局缓存加载并发预算，限制 safeGet 未命中时整个集群同时执行的加载数量
+         */
+        private Boolean enabled = Boolean.FALSE;
+
+        /**
+         * 全局许可数量
+         */
+        private Integer permits = 64;
+
+        /**
+         * 许可租期 (单位: 毫秒)，持有节点宕机时许可到期自动归还
+         */
+        private Long leaseMillis = 30_000L;
+
+        /**
+         * 等待许可的最长时间 (单位: 毫秒)
+         */
+        private Long maxWaitMillis = 3_000L;
+
+        /**
+         * 预算耗尽时的处理策略
+         */
+        private LoaderOverflowPolicy overflowPolicy = LoaderOverflowPolicy.WAIT;
+
+        /**
+         * 过期副本的保留时间 (单位: 毫秒)，仅在策略为 STALE 时生效
+         */
+        private Long staleTimeoutMillis = 600_000L;
+    }
+
+    @Data
+    public static class Revalidation {
+
+        /**
+         * 是否开启版本戳校验模式：写入方在 put/delete 时更新版本键，读取方批量比较版本后仅重新读取变化的值
+         * <p>
+         * 所有写入方都需要开启该模式，否则其写入不会更新版本键。值与版本键在同一脚本中原子写入，
+         * 集群模式下版本键带有与缓存键相同的哈希标签；键中的花括号使两者无法位于同一槽位时该键不保留本地副本
+         * </p>
+         */
+        private Boolean enabled = Boolean.FALSE;
+
+        /**
+         * 本地副本最大数量，超出时按最近最少使用淘汰
+         */
+        private Integer maximumSize = 10_000;
+
+        /**
+         * 保留本地副本的最小值长度 (单位: 字符)，较小的值直接读取比校验版本更划算
+         */
+        private Integer minValueLength = 1024;
+    }
+
+    @Data
+    public static class Cardinality {
+
+        /**
+         * 是否开启基于 HyperLogLog 的基数统计
+         */
+        private Boolean enabled = false;
+
+        /**
+         * 时间桶长度 (单位: 毫秒)
+         */
+        private Long bucketMillis = 3_600_000L;
+
+        /**
+         * 本地草图合并到 Redis 的间隔 (单位: 毫秒)
+         */
+        private Long flushIntervalMillis = 1_000L;
+
+        /**
+         * 时间桶键的过期时间 (单位: 毫秒)，每次合并时续期，小于等于 0 表示不过期
+         */
+        private Long keyTimeoutMillis = 7 * 24 * 3_600_000L;
+    }
+
+    @Data
+    public static class RateLimiter {
+
+        /**
+         * 是否开启分布式限流
+         */
+        private Boolean enabled = false;
+
+        /**
+         * 单次租借令牌占桶容量的最大比例，实际批量按本节点的消耗自适应
+         */
+        private Double leaseRatio = 0.1D;
+
+        /**
+         * 单次租借令牌的最大数量
+         */
+        private Long maxLeaseSize = 100L;
+
+        /**
+         * 本地令牌租期 (单位: 毫秒)，到期后未用完的令牌在下次租借时归还令牌桶
+         */
+        private Long leaseMillis = 100L;
+
+        /**
+         * 本地租约数量上限，超出时清理已过期的租约
+         */
+        private Integer maxLocalKeys = 10_000;
+    }
+}
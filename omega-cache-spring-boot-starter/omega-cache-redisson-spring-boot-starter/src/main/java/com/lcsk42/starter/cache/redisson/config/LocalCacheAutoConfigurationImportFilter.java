@@ -0,0 +1,60 @@
+package com.lcsk42.starter.cache.redisson.config;
+
+import com.lcsk42.starter.cache.redisson.enums.CacheType;
+import org.springframework.boot.autoconfigure.AutoConfigurationImportFilter;
+import org.springframework.boot.autoconfigure.AutoConfigurationMetadata;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 进程内缓存模式下的自动配置过滤器。
+ * <p>
+ * 缓存类型为 local 时排除 Redisson 的自动配置，不再创建 RedissonClient，启动时也不会连接 Redis。
+ * 开启了缓存穿透 Bloom 过滤器时保留 Redisson 的自动配置，Bloom 过滤器仍由 Redis 维护。
+ * </p>
+ */
+public class LocalCacheAutoConfigurationImportFilter implements AutoConfigurationImportFilter, EnvironmentAware {
+
+    private static final String REDISSON_AUTO_CONFIGURATION_PACKAGE = "org.redisson.spring.starter.";
+
+    private static final String BLOOM_FILTER_ENABLED = CacheExtensionProperties.BLOOM_FILTER + ".enabled";
+
+    private Environment environment;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public boolean[] match(String[] autoConfigurationClasses, AutoConfigurationMetadata autoConfigurationMetadata) {
+        if (Objects.isNull(environment)) {
+            return matchAll(autoConfigurationClasses.length);
+        }
+        Binder binder = Binder.get(environment);
+        boolean local = binder.bind(CacheExtensionProperties.TYPE, CacheType.class)
+                .map(CacheType.LOCAL::equals)
+                .orElse(false);
+        // 缓存穿透 Bloom 过滤器依赖 RedissonClient
+        boolean bloomFilterEnabled = binder.bind(BLOOM_FILTER_ENABLED, Boolean.class).orElse(false);
+        if (!local || bloomFilterEnabled) {
+            return matchAll(autoConfigurationClasses.length);
+        }
+        boolean[] matches = new boolean[autoConfigurationClasses.length];
+        for (int i = 0; i < autoConfigurationClasses.length; i++) {
+            String each = autoConfigurationClasses[i];
+            matches[i] = Objects.isNull(each) || !each.startsWith(REDISSON_AUTO_CONFIGURATION_PACKAGE);
+        }
+        return matches;
+    }
+
+    private static boolean[] matchAll(int size) {
+        boolean[] matches = new boolean[size];
+        Arrays.fill(matches, true);
+        return matches;
+    }
+}
@@ -0,0 +1,237 @@
+package com.lcsk42.starter.cache.redisson.core;
+
+import com.lcsk42.starter.cache.redisson.config.CacheExtensionProperties;
+import com.lcsk42.starter.core.exception.base.ServiceException;
+import com.lcsk42.starter.core.threadpool.build.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.client.RedisConnectionException;
+import org.redisson.client.RedisTimeoutException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * 自动管道合并器。
+ * <p>
+ * 收集并发调用方提交的单键命令，在极短的时间窗口内或达到批次上限时合并为一次管道执行，
+ * 再按提交顺序分别完成各调用方的 {@link CompletableFuture}，从而减少往返次数与系统调用。
+ * 批次中个别命令出错时只有该命令的调用方失败；驱动未返回逐条结果时批次中的命令会逐条重新执行，
+ * 因此提交的命令应可安全重复执行（如 GET 与覆盖写 SET），连接级错误则使整批失败。
+ * 队列已满或合并器已停止时命令在调用方线程中直接执行，以此形成背压；
+ * 合并线程退出时剩余命令在该线程中执行，调用方等待结果的时间受超时时间限制。
+ * </p>
+ */
+@Slf4j
+public class AutoPipeliner {
+
+    private static final long IDLE_POLL_MILLIS = 500L;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final int batchSize;
+
+    private final long windowNanos;
+
+    private final long awaitTimeoutMillis;
+
+    private final BlockingQueue<PendingCommand> queue;
+
+    private final Thread flusher;
+
+    private volatile boolean running = true;
+
+    public AutoPipeliner(StringRedisTemplate stringRedisTemplate, CacheExtensionProperties.AutoPipeline autoPipeline) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.batchSize = autoPipeline.getBatchSize();
+        this.windowNanos = TimeUnit.MICROSECONDS.toNanos(autoPipeline.getWindowMicros());
+        this.awaitTimeoutMillis = autoPipeline.getAwaitTimeoutMillis();
+        this.queue = new LinkedBlockingQueue<>(autoPipeline.getQueueCapacity());
+        this.flusher = ThreadFactoryBuilder.builder()
+                .prefix("cache-auto-pipeline")
+                .daemon(true)
+                .build()
+                .newThread(this::flushLoop);
+        this.flusher.start();
+    }
+
+    /**
+     * 提交一条命令，命令将与其他调用方的命令合并为一次管道执行
+     *
+     * @param command 在管道连接上发出的命令
+     * @return 命令结果（已经过模板的值序列化器反序列化）
+     */
+    public CompletableFuture<Object> submit(Consumer<RedisConnection> command) {
+        PendingCommand pending = new PendingCommand(command, new CompletableFuture<>());
+        if (!running || !queue.offer(pending)) {
+            flush(List.of(pending));
+        } else if (!running) {
+            // 入队与停止并发时合并线程可能已退出，由调用方线程执行队列中剩余的命令
+            flushRemaining();
+        }
+        return pending.future();
+    }
+
+    /**
+     * 等待命令结果，并将执行异常按原样抛出
+     *
+     * @param future 命令结果
+     * @return 命令结果
+     * @throws ServiceException 如果超过等待时间或等待期间被中断
+     */
+    public Object await(CompletableFuture<Object> future) {
+        try {
+            return future.get(awaitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new CompletionException(ex.getCause());
+        } catch (TimeoutException ex) {
+            throw new ServiceException("Auto pipeline command did not complete within " + awaitTimeoutMillis + " ms");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ServiceException("Auto pipeline command interrupted");
+        }
+    }
+
+    /**
+     * 停止合并线程，并在当前线程中执行队列中剩余的命令
+     */
+    public void shutdown() {
+        running = false;
+        flusher.interrupt();
+        flushRemaining();
+    }
+
+    private void flushRemaining() {
+        List<PendingCommand> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            flush(remaining);
+        }
+    }
+
+    private void flushLoop() {
+        try {
+            doFlushLoop();
+        } finally {
+            // 合并线程因停止或意外错误退出，之后的命令由调用方线程直接执行，已入队的命令在此执行或失败
+            running = false;
+            flushRemaining();
+        }
+    }
+
+    private void doFlushLoop() {
+        List<PendingCommand> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                PendingCommand first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                // 批次未满时在时间窗口内继续等待后续命令
+                long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < batchSize && windowNanos > 0) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingCommand next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } finally {
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                    batch.clear();
+                }
+            }
+        }
+    }
+
+    private void flush(List<PendingCommand> batch) {
+        try {
+            List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                batch.forEach(each -> each.command().accept(connection));
+                return null;
+            });
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future().complete(i < results.size() ? results.get(i) : null);
+            }
+        } catch (RedisPipelineException ex) {
+            completeEach(batch, ex);
+        } catch (RuntimeException ex) {
+            failAll(batch, ex);
+        } catch (Error ex) {
+            // 先让等待中的调用方失败返回，再继续抛出错误
+            batch.forEach(each -> each.future().completeExceptionally(ex));
+            throw ex;
+        }
+    }
+
+    /**
+     * 管道中部分命令出错时，按位置以各命令自身的结果或异常完成调用方，只有连接级错误才使整批失败
+     */
+    private void completeEach(List<PendingCommand> batch, RedisPipelineException ex) {
+        List<Object> results = ex.getPipelineResult();
+        if (results.size() == batch.size()) {
+            for (int i = 0; i < batch.size(); i++) {
+                Object result = results.get(i);
+                if (result instanceof Throwable failure) {
+                    batch.get(i).future().completeExceptionally(failure);
+                } else {
+                    batch.get(i).future().complete(deserialize(result));
+                }
+            }
+        } else if (batch.size() == 1 || isConnectionFailure(ex)) {
+            failAll(batch, ex);
+        } else {
+            // 驱动未返回逐条结果（Redisson 遇到出错的命令时整批只抛出第一个错误），逐条单独执行以隔离出错的命令
+            batch.forEach(each -> flush(List.of(each)));
+        }
+    }
+
+    private void failAll(List<PendingCommand> batch, RuntimeException ex) {
+        log.warn("[Omega Starter] - Auto pipeline flush of {} commands failed.", batch.size(), ex);
+        batch.forEach(each -> each.future().completeExceptionally(ex));
+    }
+
+    private Object deserialize(Object result) {
+        if (result instanceof byte[] bytes) {
+            return stringRedisTemplate.getValueSerializer().deserialize(bytes);
+        }
+        return result;
+    }
+
+    private static boolean isConnectionFailure(Throwable ex) {
+        for (Throwable cause = ex; Objects.nonNull(cause); cause = cause.getCause()) {
+            if (cause instanceof RedisConnectionFailureException || cause instanceof QueryTimeoutException
+                    || cause instanceof RedisConnectionException || cause instanceof RedisTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record PendingCommand(Consumer<RedisConnection> command, CompletableFuture<Object> future) {
+    }
+}
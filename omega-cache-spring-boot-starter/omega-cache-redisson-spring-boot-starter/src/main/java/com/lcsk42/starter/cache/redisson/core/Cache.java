@@ -1,9 +1,11 @@
 package com.lcsk42.starter.cache.redisson.core;
 
+import com.lcsk42.starter.cache.redisson.function.CacheDeleteListener;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
 import java.util.Collection;
+import java.util.Map;
 
 /**
  * 统一的缓存接口定义。
@@ -24,6 +26,16 @@ public interface Cache {
      */
     <T> T get(@NotBlank String key, Class<T> clazz);
 
+    /**
+     * 通过多个键批量获取对象。
+     *
+     * @param keys  缓存键集合（不可为 null）
+     * @param clazz 预期的对象类型
+     * @param <T>   值的类型
+     * @return 键与缓存对象的映射，按传入顺序排列，未找到的键不包含在内
+     */
+    <T> Map<String, T> multiGet(@NotNull Collection<String> keys, Class<T> clazz);
+
     /**
      * 将对象存入缓存。
      *
@@ -58,6 +70,26 @@ public interface Cache {
      */
     Long delete(@NotNull Collection<String> keys);
 
+    /**
+     * 按模式批量删除缓存键。
+     * <p>
+     * 以游标方式逐批扫描匹配的键并删除，无需预先获取全部键。
+     * </p>
+     *
+     * @param pattern 键匹配模式（不含键前缀，如 {@code user:*}）
+     * @return 成功删除的键数量
+     */
+    Long deleteByPattern(@NotBlank String pattern);
+
+    /**
+     * 按模式批量删除缓存键，并在每个批次完成后回调进度。
+     *
+     * @param pattern  键匹配模式（不含键前缀，如 {@code user:*}）
+     * @param listener 进度回调，返回 {@code false} 时取消后续批次（可为 null）
+     * @return 成功删除的键数量
+     */
+    Long deleteByPattern(@NotBlank String pattern, CacheDeleteListener listener);
+
     /**
      * 检查键是否存在于缓存中。
      *
@@ -0,0 +1,145 @@
+package com.lcsk42.starter.cache.redisson.core;
+
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RPermitExpirableSemaphore;
+import org.redisson.api.RedissonClient;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 缓存加载并发预算。
+ * <p>
+ * 基于 Redisson 可过期许可信号量限制整个集群同时执行的 {@code CacheLoader} 数量，
+ * 许可带有租期，节点宕机后许可到期自动归还。
+ * 本地维护许可缓存：加载结束时若本节点仍有等待者，许可直接在本地转交而无需访问 Redis；
+ * 没有等待者时立即归还全局信号量，避免空闲节点占用预算。
+ * </p>
+ */
+@Slf4j
+public class CacheLoaderBudget {
+
+    private static final String SEMAPHORE_NAME = "cache_loader_budget";
+
+    // 单次向 Redis 申请许可的最长阻塞时间，阻塞期间无法感知本地转交的许可
+    private static final long ACQUIRE_SLICE_MILLIS = 50L;
+
+    private final RPermitExpirableSemaphore semaphore;
+
+    private final long leaseMillis;
+
+    private final Deque<LeasedPermit> localPermits = new ArrayDeque<>();
+
+    private final AtomicInteger waiters = new AtomicInteger();
+
+    public CacheLoaderBudget(RedissonClient redissonClient, int permits, long leaseMillis) {
+        this.semaphore = redissonClient.getPermitExpirableSemaphore(SEMAPHORE_NAME);
+        this.leaseMillis = leaseMillis;
+        // 信号量可能已由其他节点或此前的配置创建，按当前配置设置总许可数，已借出的许可不受影响
+        semaphore.setPermits(permits);
+        log.info("[Omega Starter] - Cache loader budget set to {} permits.", permits);
+    }
+
+    /**
+     * 申请加载许可，优先使用本地缓存的许可
+     *
+     * @param maxWaitMillis 最长等待时间 (单位: 毫秒)
+     * @return 许可，等待超时或线程被中断时返回 null
+     */
+    public LeasedPermit tryAcquire(long maxWaitMillis) {
+        LeasedPermit permit = pollLocal();
+        if (Objects.nonNull(permit)) {
+            return permit;
+        }
+        long deadline = System.currentTimeMillis() + maxWaitMillis;
+        waiters.incrementAndGet();
+        try {
+            while (true) {
+                if (Objects.nonNull(permit = pollLocal())) {
+                    return permit;
+                }
+                long now = System.currentTimeMillis();
+                long remaining = deadline - now;
+                String permitId = semaphore.tryAcquire(
+                        Math.max(0L, Math.min(remaining, ACQUIRE_SLICE_MILLIS)), leaseMillis, TimeUnit.MILLISECONDS);
+                if (Objects.nonNull(permitId)) {
+                    return new LeasedPermit(permitId, now + leaseMillis);
+                }
+                if (remaining <= 0L) {
+                    return null;
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            if (waiters.decrementAndGet() == 0) {
+                drainLocal();
+            }
+        }
+    }
+
+    /**
+     * 释放许可：本节点仍有等待者时在本地转交，否则归还全局信号量
+     *
+     * @param permit 许可
+     */
+    public void release(LeasedPermit permit) {
+        if (waiters.get() > 0 && isReusable(permit)) {
+            synchronized (localPermits) {
+                localPermits.push(permit);
+            }
+            // 入队期间最后一个等待者可能已经退出，再次检查以免许可滞留在本地直到租期结束
+            if (waiters.get() == 0) {
+                drainLocal();
+            }
+            return;
+        }
+        semaphore.tryRelease(permit.id());
+    }
+
+    private LeasedPermit pollLocal() {
+        while (true) {
+            LeasedPermit permit;
+            synchronized (localPermits) {
+                permit = localPermits.poll();
+            }
+            if (Objects.isNull(permit) || isReusable(permit)) {
+                return permit;
+            }
+            semaphore.tryRelease(permit.id());
+        }
+    }
+
+    private void drainLocal() {
+        LeasedPermit permit;
+        while (true) {
+            synchronized (localPermits) {
+                permit = localPermits.poll();
+            }
+            if (Objects.isNull(permit)) {
+                return;
+            }
+            semaphore.tryRelease(permit.id());
+        }
+    }
+
+    /**
+     * 剩余租期不足一半的许可不再转交，避免使用方在加载过程中许可到期
+     */
+    private boolean isReusable(LeasedPermit permit) {
+        return permit.expireAt() - System.currentTimeMillis() > leaseMillis / 2;
+    }
+
+    /**
+     * 带租期的加载许可
+     *
+     * @param id       许可标识
+     * @param expireAt 租期结束时间戳 (单位: 毫秒)
+     */
+    public record LeasedPermit(String id, long expireAt) {
+    }
+}
@@ -3,6 +3,7 @@ package com.lcsk42.starter.cache.redisson.core;
 import com.lcsk42.starter.cache.redisson.function.CacheGetFilter;
 import com.lcsk42.starter.cache.redisson.function.CacheGetIfAbsent;
 import com.lcsk42.starter.cache.redisson.function.CacheLoader;
+import com.lcsk42.starter.cache.redisson.function.CacheUpdater;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import org.redisson.api.RBloomFilter;
@@ -140,6 +141,22 @@ public interface DistributedCache extends Cache {
      */
     void safePut(@NotBlank String key, Object value, long timeout, TimeUnit timeUnit, RBloomFilter<String> bloomFilter);
 
+    /**
+     * 以乐观并发方式更新缓存值，无需分布式锁。
+     * 读取当前值后在客户端执行 {@link CacheUpdater}，提交时比较值版本，
+     * 若期间已被其他调用方修改则退避后基于最新值重试。
+     *
+     * @return 更新后的值，{@link CacheUpdater} 返回 null 时键被删除并返回 null
+     */
+    <T> T compute(@NotBlank String key, Class<T> clazz, CacheUpdater<T> updater, long timeout);
+
+    /**
+     * 以乐观并发方式更新缓存值并设置自定义过期时间，无需分布式锁。
+     *
+     * @return 更新后的值，{@link CacheUpdater} 返回 null 时键被删除并返回 null
+     */
+    <T> T compute(@NotBlank String key, Class<T> clazz, CacheUpdater<T> updater, long timeout, TimeUnit timeUnit);
+
     /**
      * 统计指定键在缓存中存在的数量。
      */
@@ -0,0 +1,52 @@
+package com.lcsk42.starter.cache.redisson.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 堆内缓存存储，基于访问顺序的 {@link LinkedHashMap}，超出容量时淘汰最近最少使用的条目
+ */
+public class HeapLocalCacheStore implements LocalCacheStore {
+
+    private final Map<String, LocalEntry> store;
+
+    public HeapLocalCacheStore(int maximumSize) {
+        this.store = new LinkedHashMap<>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, LocalEntry> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    @Override
+    public LocalEntry get(String key) {
+        return store.get(key);
+    }
+
+    @Override
+    public void put(String key, LocalEntry entry) {
+        store.put(key, entry);
+    }
+
+    @Override
+    public LocalEntry remove(String key) {
+        return store.remove(key);
+    }
+
+    @Override
+    public List<String> keys() {
+        // 访问顺序的 LinkedHashMap 由旧到新迭代，逆序后最近访问的键在前
+        List<String> keys = new ArrayList<>(store.keySet());
+        Collections.reverse(keys);
+        return keys;
+    }
+
+    @Override
+    public int size() {
+        return store.size();
+    }
+}
@@ -0,0 +1,198 @@
+package com.lcsk42.starter.cache.redisson.core;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 进程内缓存的内存映射快照。
+ * <p>
+ * 文件格式：头部为魔数、格式版本、条目数量与写入时间戳，
+ * 之后依次为各条目的 [键长度][键][过期时间戳][值长度][值]，值为缓存中的保存形式（字符串原样保存，其他类型为 JSON），
+ * 值长度为 -1 表示值为 null。
+ * 启动时仅扫描键与过期时间建立索引，值在首次访问时才从映射中解码，实现按需加载。
+ * </p>
+ */
+@Slf4j
+public final class LocalCacheSnapshot {
+
+    private static final int MAGIC = 0x4F4D4353;
+
+    private static final int FORMAT_VERSION = 1;
+
+    // 值为 null 时写入的值长度
+    private static final int NULL_VALUE_LENGTH = -1;
+
+    // 魔数 + 格式版本 + 条目数量 + 写入时间戳
+    private static final int HEADER_BYTES = Integer.BYTES * 3 + Long.BYTES;
+
+    private final MappedByteBuffer buffer;
+
+    // 键 -> 条目中过期时间戳的偏移量
+    private final Map<String, Integer> index;
+
+    private LocalCacheSnapshot(MappedByteBuffer buffer, Map<String, Integer> index) {
+        this.buffer = buffer;
+        this.index = index;
+    }
+
+    /**
+     * 打开快照文件并建立索引。文件映射后即被删除，避免异常退出后重复加载过期的快照。
+     *
+     * @param path 快照文件路径
+     * @return 快照，文件不存在或格式不兼容时返回 null
+     */
+    public static LocalCacheSnapshot open(Path path) {
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.capacity() < HEADER_BYTES
+                    || buffer.getInt(0) != MAGIC
+                    || buffer.getInt(Integer.BYTES) != FORMAT_VERSION) {
+                log.warn("[Omega Starter] - Local cache snapshot {} is incompatible and will be ignored.", path);
+                return null;
+            }
+            int count = buffer.getInt(Integer.BYTES * 2);
+            long now = System.currentTimeMillis();
+            Map<String, Integer> index = new ConcurrentHashMap<>(Math.max(16, count * 2));
+            int offset = HEADER_BYTES;
+            for (int i = 0; i < count; i++) {
+                int keyLength = buffer.getInt(offset);
+                byte[] key = new byte[keyLength];
+                buffer.get(offset + Integer.BYTES, key);
+                int expireAtOffset = offset + Integer.BYTES + keyLength;
+                if (buffer.getLong(expireAtOffset) > now) {
+                    index.put(new String(key, StandardCharsets.UTF_8), expireAtOffset);
+                }
+                offset = expireAtOffset + Long.BYTES + Integer.BYTES
+                        + Math.max(0, buffer.getInt(expireAtOffset + Long.BYTES));
+            }
+            log.info("[Omega Starter] - Local cache snapshot {} opened with {} live entries.", path, index.size());
+            return new LocalCacheSnapshot(buffer, index);
+        } catch (IOException | RuntimeException ex) {
+            log.warn("[Omega Starter] - Failed to open local cache snapshot {}.", path, ex);
+            return null;
+        } finally {
+            deleteQuietly(path);
+        }
+    }
+
+    /**
+     * 将条目写入快照文件。先写入临时文件，完成后原子替换，避免写入中断产生损坏的快照。
+     *
+     * @param path    快照文件路径
+     * @param entries 待写入的条目（按热度从高到低）
+     */
+    public static void write(Path path, List<SnapshotEntry> entries) throws IOException {
+        List<byte[][]> encoded = entries.stream()
+                .map(each -> new byte[][]{
+                        each.key().getBytes(StandardCharsets.UTF_8),
+                        Objects.isNull(each.value()) ? null : each.value().getBytes(StandardCharsets.UTF_8)
+                })
+                .toList();
+        long size = HEADER_BYTES;
+        for (byte[][] each : encoded) {
+            size += Integer.BYTES + each[0].length + Long.BYTES + Integer.BYTES + valueLength(each[1]);
+        }
+        Path parent = Objects.requireNonNullElse(path.toAbsolutePath().getParent(), path);
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.putInt(MAGIC)
+                    .putInt(FORMAT_VERSION)
+                    .putInt(encoded.size())
+                    .putLong(System.currentTimeMillis());
+            for (int i = 0; i < encoded.size(); i++) {
+                byte[][] each = encoded.get(i);
+                buffer.putInt(each[0].length)
+                        .put(each[0])
+                        .putLong(entries.get(i).expireAt())
+                        .putInt(Objects.isNull(each[1]) ? NULL_VALUE_LENGTH : each[1].length);
+                if (Objects.nonNull(each[1])) {
+                    buffer.put(each[1]);
+                }
+            }
+            buffer.force();
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 取出并移除快照中的条目，值在此时才从映射中解码
+     *
+     * @param key 缓存键
+     * @return 快照条目，不存在或已过期时返回 null
+     */
+    public SnapshotEntry take(String key) {
+        Integer expireAtOffset = index.remove(key);
+        if (Objects.isNull(expireAtOffset)) {
+            return null;
+        }
+        long expireAt = buffer.getLong(expireAtOffset);
+        if (expireAt <= System.currentTimeMillis()) {
+            return null;
+        }
+        int valueLength = buffer.getInt(expireAtOffset + Long.BYTES);
+        if (valueLength == NULL_VALUE_LENGTH) {
+            return new SnapshotEntry(key, null, expireAt);
+        }
+        byte[] value = new byte[valueLength];
+        buffer.get(expireAtOffset + Long.BYTES + Integer.BYTES, value);
+        return new SnapshotEntry(key, new String(value, StandardCharsets.UTF_8), expireAt);
+    }
+
+    /**
+     * 丢弃快照中的条目，用于键被写入或删除后避免旧值被重新加载
+     *
+     * @param key 缓存键
+     */
+    public void discard(String key) {
+        index.remove(key);
+    }
+
+    /**
+     * 获取快照中尚未加载的键
+     *
+     * @return 键集合
+     */
+    public Set<String> keys() {
+        return index.keySet();
+    }
+
+    private static int valueLength(byte[] value) {
+        return Objects.isNull(value) ? 0 : value.length;
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ex) {
+            log.debug("[Omega Starter] - Failed to delete local cache snapshot {}.", path, ex);
+        }
+    }
+
+    /**
+     * 快照条目
+     *
+     * @param key      缓存键
+     * @param value    保存形式的缓存值，可能为 null
+     * @param expireAt 过期时间戳 (单位: 毫秒)
+     */
+    public record SnapshotEntry(String key, String value, long expireAt) {
+    }
+}
@@ -0,0 +1,64 @@
+package com.lcsk42.starter.cache.redisson.core;
+
+import java.util.List;
+
+/**
+ * 进程内缓存存储。
+ * <p>
+ * 负责条目的保存与容量淘汰，实现无需保证线程安全，由 {@link LocalDistributedCache} 按分段加锁访问；
+ * 过期判断同样由调用方负责。
+ * </p>
+ */
+public interface LocalCacheStore {
+
+    /**
+     * 获取条目并记录访问
+     *
+     * @param key 缓存键
+     * @return 条目，不存在时返回 null
+     */
+    LocalEntry get(String key);
+
+    /**
+     * 写入条目，容量不足时按存储自身的策略淘汰其他条目
+     *
+     * @param key   缓存键
+     * @param entry 条目
+     */
+    void put(String key, LocalEntry entry);
+
+    /**
+     * 移除条目
+     *
+     * @param key 缓存键
+     * @return 被移除的条目，不存在时返回 null
+     */
+    LocalEntry remove(String key);
+
+    /**
+     * 获取全部键，支持访问顺序的存储按最近访问优先排列
+     *
+     * @return 键列表
+     */
+    List<String> keys();
+
+    /**
+     * 获取条目数量
+     *
+     * @return 条目数量
+     */
+    int size();
+
+    /**
+     * 本地缓存条目
+     *
+     * @param value    缓存值的保存形式（字符串原样保存，其他类型为 JSON）
+     * @param expireAt 过期时间戳 (单位: 毫秒)
+     */
+    record LocalEntry(String value, long expireAt) {
+
+        public boolean isExpired(long now) {
+            return now >= expireAt;
+        }
+    }
+}
@@ -0,0 +1,595 @@
+package com.lcsk42.starter.cache.redisson.core;
+
+import com.lcsk42.starter.cache.redisson.config.CacheExtensionProperties;
+import com.lcsk42.starter.cache.redisson.core.LocalCacheStore.LocalEntry;
+import com.lcsk42.starter.cache.redisson.enums.LocalStoreType;
+import com.lcsk42.starter.cache.redisson.function.CacheDeleteListener;
+import com.lcsk42.starter.cache.redisson.function.CacheGetFilter;
+import com.lcsk42.starter.cache.redisson.function.CacheGetIfAbsent;
+import com.lcsk42.starter.cache.redisson.function.CacheLoader;
+import com.lcsk42.starter.cache.redisson.function.CacheUpdater;
+import com.lcsk42.starter.cache.redisson.util.CacheUtil;
+import com.lcsk42.starter.core.exception.base.ServiceException;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBloomFilter;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * 进程内分布式缓存实现。
+ * <p>
+ * 值按与 Redis 实现相同的规则序列化后保存在本地存储中（字符串原样保存，其他类型为 JSON），
+ * 写入后调用方修改原对象不影响缓存，每次读取都返回新的实例；读取时无网络开销。
+ * 存储按键哈希分为多个分段，每个分段持有独立的锁与存储，容量在分段间平均分配，
+ * 堆内存储在分段内按最近最少使用淘汰，堆外存储以直接内存保存并按 CLOCK 算法淘汰，过期条目在访问时惰性清除。
+ * {@code safeGet} 使用按键分段的本地锁保证同一键只加载一次，适用于单实例部署与测试环境。
+ * 开启快照后，停机时热点条目写入内存映射文件，重启后未命中的键会先从快照中按需恢复。
+ * </p>
+ */
+@Slf4j
+public class LocalDistributedCache implements DistributedCache, DisposableBean {
+
+    private static final String PLACEHOLDER_VALUE = "default";
+
+    // 分段锁数量，必须为 2 的幂
+    private static final int LOCK_STRIPES = 64;
+
+    // 存储分段数量上限，必须为 2 的幂
+    private static final int STORE_STRIPES = 16;
+
+    // 堆内存储每个分段的最小容量，总容量较小时减少分段数量，避免按分段淘汰偏离整体的最近最少使用顺序
+    private static final int MIN_HEAP_STRIPE_SIZE = 64;
+
+    // 堆外存储每个分段的最小容量（1 页）
+    private static final long MIN_OFF_HEAP_STRIPE_BYTES = 1L << 20;
+
+    private final CacheExtensionProperties cacheExtensionProperties;
+
+    // 存储分段，与 storeLocks 一一对应，访问某个分段的存储前须持有对应的锁
+    private final LocalCacheStore[] stores;
+
+    private final ReentrantLock[] storeLocks;
+
+    private final ReentrantLock[] loadLocks = Stream.generate(ReentrantLock::new)
+            .limit(LOCK_STRIPES)
+            .toArray(ReentrantLock[]::new);
+
+    private volatile LocalCacheSnapshot snapshot;
+
+    public LocalDistributedCache(CacheExtensionProperties cacheExtensionProperties) {
+        this.cacheExtensionProperties = cacheExtensionProperties;
+        CacheExtensionProperties.Local local = cacheExtensionProperties.getLocal();
+        this.stores = createStores(local);
+        this.storeLocks = Stream.generate(ReentrantLock::new)
+                .limit(stores.length)
+                .toArray(ReentrantLock[]::new);
+        if (Boolean.TRUE.equals(local.getSnapshotEnabled())) {
+            this.snapshot = LocalCacheSnapshot.open(Path.of(local.getSnapshotPath()));
+        }
+    }
+
+    @Override
+    public <T> T get(String key, Class<T> clazz) {
+        LocalEntry entry = getEntry(key);
+        return Objects.isNull(entry) ? null : CacheUtil.deserialize(entry.value(), clazz);
+    }
+
+    @Override
+    public <T> Map<String, T> multiGet(@NotNull Collection<String> keys, Class<T> clazz) {
+        Map<String, T> result = new LinkedHashMap<>();
+        keys.forEach(each -> {
+            T value = get(each, clazz);
+            if (Objects.nonNull(value)) {
+                result.put(each, value);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public void put(String key, Object value) {
+        put(key, value, cacheExtensionProperties.getValueTimeout());
+    }
+
+    @Override
+    public Boolean putIfAllAbsent(@NotNull Collection<String> keys) {
+        long expireAt = expireAt(cacheExtensionProperties.getValueTimeout(), TimeUnit.MILLISECONDS);
+        // 按分段序号升序加锁，避免并发的多键操作相互等待
+        int[] involved = keys.stream()
+                .mapToInt(this::stripeOf)
+                .distinct()
+                .sorted()
+                .toArray();
+        int locked = 0;
+        try {
+            for (int each : involved) {
+                storeLocks[each].lock();
+                locked++;
+            }
+            if (keys.stream().anyMatch(each -> Objects.nonNull(getEntryLocked(each)))) {
+                return Boolean.FALSE;
+            }
+            keys.forEach(each -> putLocked(each, new LocalEntry(PLACEHOLDER_VALUE, expireAt)));
+            return Boolean.TRUE;
+        } finally {
+            for (int i = locked - 1; i >= 0; i--) {
+                storeLocks[involved[i]].unlock();
+            }
+        }
+    }
+
+    @Override
+    public Boolean delete(String key) {
+        int stripe = stripeOf(key);
+        storeLocks[stripe].lock();
+        try {
+            LocalEntry removed = Optional.ofNullable(stores[stripe].remove(key))
+                    .orElseGet(() -> takeSnapshotEntry(key));
+            return Objects.nonNull(removed) && !removed.isExpired(System.currentTimeMillis());
+        } finally {
+            storeLocks[stripe].unlock();
+        }
+    }
+
+    @Override
+    public Long delete(Collection<String> keys) {
+        return keys.stream()
+                .filter(this::delete)
+                .count();
+    }
+
+    @Override
+    public Long deleteByPattern(String pattern) {
+        return deleteByPattern(pattern, null);
+    }
+
+    @Override
+    public Long deleteByPattern(String pattern, CacheDeleteListener listener) {
+        Pattern regex = globToRegex(pattern);
+        LocalCacheSnapshot current = snapshot;
+        List<String> matched = Stream.concat(IntStream.range(0, stores.length).mapToObj(this::keysOf)
+                                .flatMap(List::stream),
+                        Objects.isNull(current) ? Stream.empty() : List.copyOf(current.keys()).stream())
+                .distinct()
+                .filter(each -> regex.matcher(each).matches())
+                .toList();
+        int batchSize = cacheExtensionProperties.getBulkDelete().getBatchSize();
+        long deleted = 0L;
+        for (int from = 0; from < matched.size(); from += batchSize) {
+            int to = Math.min(from + batchSize, matched.size());
+            deleted += delete(matched.subList(from, to));
+            if (Objects.nonNull(listener) && !listener.onBatch(to, deleted)) {
+                break;
+            }
+        }
+        return deleted;
+    }
+
+    @Override
+    public <T> T get(@NotBlank String key, Class<T> clazz, CacheLoader<T> cacheLoader, long timeout) {
+        return get(key, clazz, cacheLoader, timeout, cacheExtensionProperties.getValueTimeUnit());
+    }
+
+    @Override
+    public <T> T get(@NotBlank String key,
+                     Class<T> clazz,
+                     CacheLoader<T> cacheLoader,
+                     long timeout,
+                     TimeUnit timeUnit) {
+        T result = get(key, clazz);
+        if (!CacheUtil.isNullOrBlank(result)) {
+            return result;
+        }
+        return loadAndSet(key, cacheLoader, timeout, timeUnit, false, null);
+    }
+
+    @Override
+    public <T> T safeGet(@NotBlank String key, Class<T> clazz, CacheLoader<T> cacheLoader, long timeout) {
+        return safeGet(key, clazz, cacheLoader, timeout, cacheExtensionProperties.getValueTimeUnit());
+    }
+
+    @Override
+    public <T> T safeGet(@NotBlank String key,
+                         Class<T> clazz,
+                         CacheLoader<T> cacheLoader,
+                         long timeout,
+                         TimeUnit timeUnit) {
+        return safeGet(key, clazz, cacheLoader, timeout, timeUnit, null);
+    }
+
+    @Override
+    public <T> T safeGet(@NotBlank String key,
+                         Class<T> clazz,
+                         CacheLoader<T> cacheLoader,
+                         long timeout,
+                         RBloomFilter<String> bloomFilter) {
+        return safeGet(key, clazz, cacheLoader, timeout, bloomFilter, null, null);
+    }
+
+    @Override
+    public <T> T safeGet(@NotBlank String key,
+                         Class<T> clazz,
+                         CacheLoader<T> cacheLoader,
+                         long timeout,
+                         TimeUnit timeUnit,
+                         RBloomFilter<String> bloomFilter) {
+        return safeGet(key, clazz, cacheLoader, timeout, timeUnit, bloomFilter, null, null);
+    }
+
+    @Override
+    public <T> T safeGet(String key,
+                         Class<T> clazz,
+                         CacheLoader<T> cacheLoader,
+                         long timeout,
+                         RBloomFilter<String> bloomFilter,
+                         CacheGetFilter<String> cacheCheckFilter) {
+        return safeGet(key,
+                clazz,
+                cacheLoader,
+                timeout,
+                cacheExtensionProperties.getValueTimeUnit(),
+                bloomFilter,
+                cacheCheckFilter,
+                null);
+    }
+
+    @Override
+    public <T> T safeGet(String key,
+                         Class<T> clazz,
+                         CacheLoader<T> cacheLoader,
+                         long timeout, TimeUnit timeUnit,
+                         RBloomFilter<String> bloomFilter,
+                         CacheGetFilter<String> cacheCheckFilter) {
+        return safeGet(key, clazz, cacheLoader, timeout, timeUnit, bloomFilter, cacheCheckFilter, null);
+    }
+
+    @Override
+    public <T> T safeGet(String key,
+                         Class<T> clazz,
+                         CacheLoader<T> cacheLoader,
+                         long timeout,
+                         RBloomFilter<String> bloomFilter,
+                         CacheGetFilter<String> cacheGetFilter,
+                         CacheGetIfAbsent<String> cacheGetIfAbsent) {
+        return safeGet(key,
+                clazz,
+                cacheLoader,
+                timeout,
+                cacheExtensionProperties.getValueTimeUnit(),
+                bloomFilter,
+                cacheGetFilter,
+                cacheGetIfAbsent);
+    }
+
+    @Override
+    public <T> T safeGet(String key,
+                         Class<T> clazz,
+                         CacheLoader<T> cacheLoader,
+                         long timeout,
+                         TimeUnit timeUnit,
+                         RBloomFilter<String> bloomFilter,
+                         CacheGetFilter<String> cacheGetFilter,
+                         CacheGetIfAbsent<String> cacheGetIfAbsent) {
+        T result = get(key, clazz);
+        // 与 Redis 实现保持一致：命中、被过滤或布隆过滤器判定不存在时直接返回
+        if (!CacheUtil.isNullOrBlank(result)
+                || Optional.ofNullable(cacheGetFilter).map(each -> each.filter(key)).orElse(false)
+                || Optional.ofNullable(bloomFilter).map(each -> !each.contains(key)).orElse(false)) {
+            return result;
+        }
+        ReentrantLock lock = loadLocks[key.hashCode() & (LOCK_STRIPES - 1)];
+        lock.lock();
+        try {
+            if (CacheUtil.isNullOrBlank(result = get(key, clazz))) {
+                if (CacheUtil.isNullOrBlank(
+                        result = loadAndSet(key, cacheLoader, timeout, timeUnit, true, bloomFilter)
+                )) {
+                    Optional.ofNullable(cacheGetIfAbsent).ifPresent(each -> each.accept(key));
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        return result;
+    }
+
+    @Override
+    public void put(String key, Object value, long timeout) {
+        put(key, value, timeout, cacheExtensionProperties.getValueTimeUnit());
+    }
+
+    @Override
+    public void put(String key, Object value, long timeout, TimeUnit timeUnit) {
+        if (Objects.isNull(value)) {
+            return;
+        }
+        // 写入时序列化，调用方之后修改原对象不会影响缓存中的值
+        LocalEntry entry = new LocalEntry(CacheUtil.serialize(value), expireAt(timeout, timeUnit));
+        int stripe = stripeOf(key);
+        storeLocks[stripe].lock();
+        try {
+            putLocked(key, entry);
+        } finally {
+            storeLocks[stripe].unlock();
+        }
+    }
+
+    @Override
+    public <T> T compute(String key, Class<T> clazz, CacheUpdater<T> updater, long timeout) {
+        return compute(key, clazz, updater, timeout, cacheExtensionProperties.getValueTimeUnit());
+    }
+
+    @Override
+    public <T> T compute(String key, Class<T> clazz, CacheUpdater<T> updater, long timeout, TimeUnit timeUnit) {
+        int maxAttempts = cacheExtensionProperties.getCompute().getMaxAttempts();
+        int stripe = stripeOf(key);
+        for (int attempt = 0; attempt < maxAttempts; attempt++) {
+            // 以条目本身作为版本，更新回调在锁外执行，提交时比较条目是否仍未变化
+            LocalEntry current = getEntry(key);
+            // 每次尝试都从保存形式反序列化出新的副本，回调修改参数不会影响缓存中的值，重试时也不会重复叠加
+            T copy = Objects.isNull(current) ? null : CacheUtil.deserialize(current.value(), clazz);
+            T updated = updater.apply(copy);
+            storeLocks[stripe].lock();
+            try {
+                if (Objects.equals(getEntryLocked(key), current)) {
+                    if (Objects.isNull(updated)) {
+                        stores[stripe].remove(key);
+                    } else {
+                        putLocked(key, new LocalEntry(CacheUtil.serialize(updated), expireAt(timeout, timeUnit)));
+                    }
+                    return updated;
+                }
+            } finally {
+                storeLocks[stripe].unlock();
+            }
+            Thread.onSpinWait();
+        }
+        throw new ServiceException("Cache compute conflict, retries exhausted for key: " + key);
+    }
+
+    @Override
+    public void safePut(String key, Object value, long timeout, RBloomFilter<String> bloomFilter) {
+        safePut(key, value, timeout, cacheExtensionProperties.getValueTimeUnit(), bloomFilter);
+    }
+
+    @Override
+    public void safePut(String key, Object value, long timeout, TimeUnit timeUnit, RBloomFilter<String> bloomFilter) {
+        put(key, value, timeout, timeUnit);
+        if (bloomFilter != null) {
+            bloomFilter.add(key);
+        }
+    }
+
+    @Override
+    public Boolean hasKey(String key) {
+        return Objects.nonNull(getEntry(key));
+    }
+
+    @Override
+    public Object getInstance() {
+        return List.of(stores);
+    }
+
+    @Override
+    public Long countExistingKeys(String... keys) {
+        return Stream.of(keys)
+                .filter(this::hasKey)
+                .count();
+    }
+
+    @Override
+    public void destroy() {
+        CacheExtensionProperties.Local local = cacheExtensionProperties.getLocal();
+        if (!Boolean.TRUE.equals(local.getSnapshotEnabled())) {
+            return;
+        }
+        List<LocalCacheSnapshot.SnapshotEntry> entries = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        // 各分段按最近访问优先返回键，轮流从各分段取出，使热点条目优先写入
+        List<List<String>> stripeKeys = IntStream.range(0, stores.length)
+                .mapToObj(this::keysOf)
+                .toList();
+        int maxKeys = stripeKeys.stream().mapToInt(List::size).max().orElse(0);
+        for (int rank = 0; rank < maxKeys && entries.size() < local.getSnapshotMaxEntries(); rank++) {
+            for (int stripe = 0; stripe < stores.length && entries.size() < local.getSnapshotMaxEntries(); stripe++) {
+                List<String> keys = stripeKeys.get(stripe);
+                if (rank >= keys.size()) {
+                    continue;
+                }
+                String key = keys.get(rank);
+                LocalEntry entry = peekLocked(stripe, key);
+                if (Objects.nonNull(entry) && !entry.isExpired(now)) {
+                    // 条目中已是保存形式，原样写入，恢复时按与存活值相同的规则反序列化
+                    entries.add(new LocalCacheSnapshot.SnapshotEntry(key, entry.value(), entry.expireAt()));
+                }
+            }
+        }
+        // 上次快照中尚未被访问的条目同样保留，排在本地条目之后
+        LocalCacheSnapshot current = snapshot;
+        if (Objects.nonNull(current)) {
+            for (String each : List.copyOf(current.keys())) {
+                if (entries.size() >= local.getSnapshotMaxEntries()) {
+                    break;
+                }
+                Optional.ofNullable(current.take(each)).ifPresent(entries::add);
+            }
+        }
+        try {
+            LocalCacheSnapshot.write(Path.of(local.getSnapshotPath()), entries);
+            log.info("[Omega Starter] - Local cache snapshot written with {} entries.", entries.size());
+        } catch (IOException ex) {
+            log.warn("[Omega Starter] - Failed to write local cache snapshot.", ex);
+        }
+    }
+
+    private static LocalCacheStore[] createStores(CacheExtensionProperties.Local local) {
+        if (local.getStoreType() == LocalStoreType.OFF_HEAP) {
+            long capacityBytes = local.getOffHeapCapacityBytes();
+            int stripes = stripeCount(capacityBytes / MIN_OFF_HEAP_STRIPE_BYTES);
+            return Stream.generate(() -> new OffHeapLocalCacheStore(capacityBytes / stripes))
+                    .limit(stripes)
+                    .toArray(LocalCacheStore[]::new);
+        }
+        int maximumSize = local.getMaximumSize();
+        int stripes = stripeCount(maximumSize / MIN_HEAP_STRIPE_SIZE);
+        // 向上取整，保证总容量不小于配置值
+        int stripeSize = Math.ceilDiv(maximumSize, stripes);
+        return Stream.generate(() -> new HeapLocalCacheStore(stripeSize))
+                .limit(stripes)
+                .toArray(LocalCacheStore[]::new);
+    }
+
+    private static int stripeCount(long maxStripes) {
+        return Integer.highestOneBit((int) Math.clamp(maxStripes, 1L, STORE_STRIPES));
+    }
+
+    private int stripeOf(String key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & (stores.length - 1);
+    }
+
+    private List<String> keysOf(int stripe) {
+        storeLocks[stripe].lock();
+        try {
+            return stores[stripe].keys();
+        } finally {
+            storeLocks[stripe].unlock();
+        }
+    }
+
+    /**
+     * 读取分段中的条目，不从快照中加载
+     */
+    private LocalEntry peekLocked(int stripe, String key) {
+        storeLocks[stripe].lock();
+        try {
+            return stores[stripe].get(key);
+        } finally {
+            storeLocks[stripe].unlock();
+        }
+    }
+
+    private LocalEntry getEntry(String key) {
+        int stripe = stripeOf(key);
+        storeLocks[stripe].lock();
+        try {
+            return getEntryLocked(key);
+        } finally {
+            storeLocks[stripe].unlock();
+        }
+    }
+
+    /**
+     * 在持有键所属分段锁的前提下读取条目，过期条目在此惰性清除
+     */
+    private LocalEntry getEntryLocked(String key) {
+        LocalCacheStore store = stores[stripeOf(key)];
+        LocalEntry entry = store.get(key);
+        if (Objects.isNull(entry)) {
+            entry = takeSnapshotEntry(key);
+            if (Objects.isNull(entry)) {
+                return null;
+            }
+            store.put(key, entry);
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            store.remove(key);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * 在持有键所属分段锁的前提下写入条目，并丢弃快照中的同名条目，避免旧值在淘汰后被重新加载
+     */
+    private void putLocked(String key, LocalEntry entry) {
+        stores[stripeOf(key)].put(key, entry);
+        LocalCacheSnapshot current = snapshot;
+        if (Objects.nonNull(current)) {
+            current.discard(key);
+        }
+    }
+
+    /**
+     * 从快照中取出条目，快照中的值与存活条目一样是 {@link CacheUtil#serialize(Object)} 的保存形式，读取时按目标类型反序列化
+     */
+    private LocalEntry takeSnapshotEntry(String key) {
+        LocalCacheSnapshot current = snapshot;
+        if (Objects.isNull(current)) {
+            return null;
+        }
+        LocalCacheSnapshot.SnapshotEntry entry = current.take(key);
+        if (current.keys().isEmpty()) {
+            // 快照已全部加载，释放映射
+            snapshot = null;
+        }
+        return Objects.isNull(entry) ? null : new LocalEntry(entry.value(), entry.expireAt());
+    }
+
+    private <T> T loadAndSet(String key,
+                             CacheLoader<T> cacheLoader,
+                             long timeout,
+                             TimeUnit timeUnit,
+                             boolean safeFlag,
+                             RBloomFilter<String> bloomFilter) {
+        T result = cacheLoader.get();
+        if (CacheUtil.isNullOrBlank(result)) {
+            return result;
+        }
+        if (safeFlag) {
+            safePut(key, result, timeout, timeUnit, bloomFilter);
+        } else {
+            put(key, result, timeout, timeUnit);
+        }
+        return result;
+    }
+
+    private static long expireAt(long timeout, TimeUnit timeUnit) {
+        return timeout > 0 ? System.currentTimeMillis() + timeUnit.toMillis(timeout) : Long.MAX_VALUE;
+    }
+
+    /**
+     * 将 Redis glob 风格的匹配模式（支持 *、? 与 [...]）转换为正则表达式
+     */
+    private static Pattern globToRegex(String pattern) {
+        StringBuilder regex = new StringBuilder(pattern.length() + 8);
+        boolean inBracket = false;
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '\\' && i + 1 < pattern.length()) {
+                regex.append(Pattern.quote(String.valueOf(pattern.charAt(++i))));
+            } else if (inBracket) {
+                if (c == ']') {
+                    inBracket = false;
+                }
+                regex.append(c);
+            } else if (c == '*') {
+                regex.append(".*");
+            } else if (c == '?') {
+                regex.append('.');
+            } else if (c == '[') {
+                inBracket = true;
+                regex.append(c);
+            } else {
+                regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+}
@@ -0,0 +1,562 @@
+package com.lcsk42.starter.cache.redisson.core;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 堆外缓存存储。
+ * <p>
+ * 值以保存形式（字符串原样保存，其他类型为 JSON）编码为 UTF-8 后保存在直接内存段中，
+ * 段内按 1MB 页划分，页在使用期间归属一个 2 的幂大小级别并切分为等长槽位，槽位全部空闲后归还段内的空闲页池，
+ * 可被其他大小级别重新使用；每个段使用开放寻址的 {@code long[]} 作为哈希索引，查找时直接比较内存中的键字符，不产生对象分配。
+ * 同一大小级别没有空闲槽位且段内没有空闲页时，按 CLOCK 算法淘汰最近未被访问的条目，
+ * 该级别还没有任何页时从拥有多页的其他级别取回一页；分配失败时与新值过大时一样移除键的旧条目，之后读取为未命中而不是旧值。
+ * 直接内存总量受 {@code -XX:MaxDirectMemorySize} 限制，容量配置需与之匹配。
+ * </p>
+ */
+@Slf4j
+public class OffHeapLocalCacheStore implements LocalCacheStore {
+
+    private static final int PAGE_BYTES = 1 << 20;
+
+    // 最小槽位 64B，最大槽位为整页
+    private static final int MIN_SLOT_SHIFT = 6;
+
+    private static final int MAX_SLOT_SHIFT = 20;
+
+    private static final long MAX_SEGMENT_BYTES = 1L << 30;
+
+    // 槽位头部布局：标志位(1) + 填充(3) + 哈希(4) + 键长度(4) + 值长度(4) + 过期时间(8)
+    // 空闲槽位复用哈希与键长度字段保存空闲链表中后一个与前一个槽位的偏移量
+    private static final int FLAGS_OFFSET = 0;
+
+    private static final int HASH_OFFSET = 4;
+
+    private static final int NEXT_FREE_OFFSET = HASH_OFFSET;
+
+    private static final int KEY_LENGTH_OFFSET = 8;
+
+    private static final int PREV_FREE_OFFSET = KEY_LENGTH_OFFSET;
+
+    private static final int VALUE_LENGTH_OFFSET = 12;
+
+    private static final int EXPIRE_AT_OFFSET = 16;
+
+    private static final int HEADER_BYTES = 24;
+
+    private static final byte LIVE = 1;
+
+    private static final byte REFERENCED = 2;
+
+    // 值为 null 时写入的值长度
+    private static final int NULL_VALUE_LENGTH = -1;
+
+    // 页未归属任何大小级别
+    private static final byte UNASSIGNED = -1;
+
+    private static final int INITIAL_INDEX_CAPACITY = 1024;
+
+    private final Segment[] segments;
+
+    private int size;
+
+    public OffHeapLocalCacheStore(long capacityBytes) {
+        long totalPages = Math.max(1L, capacityBytes / PAGE_BYTES);
+        int segmentCount = (int) Math.ceilDiv(totalPages * PAGE_BYTES, MAX_SEGMENT_BYTES);
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            long pages = totalPages / segmentCount + (i < totalPages % segmentCount ? 1 : 0);
+            segments[i] = new Segment((int) pages);
+        }
+    }
+
+    @Override
+    public LocalEntry get(String key) {
+        int hash = hash(key);
+        Segment segment = segmentFor(hash);
+        int slot = segment.find(key, hash);
+        if (slot < 0) {
+            return null;
+        }
+        int offset = Segment.offsetOf(segment.index[slot]);
+        ByteBuffer buffer = segment.buffer;
+        buffer.put(offset + FLAGS_OFFSET, (byte) (buffer.get(offset + FLAGS_OFFSET) | REFERENCED));
+        return segment.read(offset);
+    }
+
+    @Override
+    public void put(String key, LocalEntry entry) {
+        int hash = hash(key);
+        Segment segment = segmentFor(hash);
+        int slot = segment.find(key, hash);
+        // 条目中的值已是保存形式，直接编码，不再经过 JSON 序列化
+        byte[] value = Objects.isNull(entry.value()) ? null : entry.value().getBytes(StandardCharsets.UTF_8);
+        long required = (long) HEADER_BYTES + (long) key.length() * Character.BYTES
+                + (Objects.isNull(value) ? 0 : value.length);
+        if (required > PAGE_BYTES) {
+            // 新值无法保存，移除旧条目，避免之后读到已被覆盖的旧值
+            log.debug("[Omega Starter] - Off-heap cache entry too large, key: {}, bytes: {}", key, required);
+            removeAt(segment, slot);
+            return;
+        }
+        int sizeClass = sizeClassOf((int) required);
+        if (slot >= 0) {
+            int offset = Segment.offsetOf(segment.index[slot]);
+            if (segment.pageClasses[offset / PAGE_BYTES] == sizeClass) {
+                // 大小级别不变时原地覆盖，不需要重新分配
+                segment.write(offset, hash, key, value, entry.expireAt());
+                return;
+            }
+        }
+        int offset = segment.allocate(sizeClass);
+        if (offset < 0) {
+            // 新值无法保存，移除旧条目，避免之后读到已被覆盖的旧值；分配过程可能移动索引项，需重新查找
+            log.debug("[Omega Starter] - Off-heap cache allocation failed, key: {}, bytes: {}", key, required);
+            removeAt(segment, segment.find(key, hash));
+            return;
+        }
+        // 分配时可能淘汰其他条目并移动索引项，需重新查找旧条目的位置
+        removeAt(segment, segment.find(key, hash));
+        segment.write(offset, hash, key, value, entry.expireAt());
+        segment.insert(hash, offset);
+        size++;
+    }
+
+    @Override
+    public LocalEntry remove(String key) {
+        int hash = hash(key);
+        Segment segment = segmentFor(hash);
+        int slot = segment.find(key, hash);
+        if (slot < 0) {
+            return null;
+        }
+        LocalEntry removed = segment.read(Segment.offsetOf(segment.index[slot]));
+        removeAt(segment, slot);
+        return removed;
+    }
+
+    @Override
+    public List<String> keys() {
+        List<String> keys = new ArrayList<>(size);
+        for (Segment segment : segments) {
+            for (long each : segment.index) {
+                if (each != 0L) {
+                    keys.add(segment.readKey(Segment.offsetOf(each)));
+                }
+            }
+        }
+        return keys;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private void removeAt(Segment segment, int slot) {
+        if (slot < 0) {
+            return;
+        }
+        int offset = Segment.offsetOf(segment.index[slot]);
+        segment.removeIndexAt(slot);
+        segment.free(offset);
+        size--;
+    }
+
+    private Segment segmentFor(int hash) {
+        return segments[Math.floorMod(hash >>> 16, segments.length)];
+    }
+
+    private static int hash(String key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static int sizeClassOf(int required) {
+        int shift = Math.max(MIN_SLOT_SHIFT, 32 - Integer.numberOfLeadingZeros(required - 1));
+        return shift - MIN_SLOT_SHIFT;
+    }
+
+    /**
+     * 存储段：一块直接内存及其哈希索引
+     */
+    private final class Segment {
+
+        private final ByteBuffer buffer;
+
+        private final int pageCount;
+
+        // 每页所属的大小级别，未归属时为 UNASSIGNED
+        private final byte[] pageClasses;
+
+        // 每页中存活（已分配）的槽位数量
+        private final int[] pageLiveSlots;
+
+        // 已归还的空闲页
+        private final int[] freePages;
+
+        private int freePageCount;
+
+        private final SizeClass[] sizeClasses = new SizeClass[MAX_SLOT_SHIFT - MIN_SLOT_SHIFT + 1];
+
+        // 已从段中切分过的页数，之后的新页从空闲页池中获取
+        private int allocatedPages;
+
+        // 索引项：高 32 位为哈希，低 32 位为槽位偏移量 + 1，0 表示空
+        private long[] index = new long[INITIAL_INDEX_CAPACITY];
+
+        private int indexSize;
+
+        private Segment(int pageCount) {
+            this.buffer = ByteBuffer.allocateDirect(pageCount * PAGE_BYTES);
+            this.pageCount = pageCount;
+            this.pageClasses = new byte[pageCount];
+            Arrays.fill(pageClasses, UNASSIGNED);
+            this.pageLiveSlots = new int[pageCount];
+            this.freePages = new int[pageCount];
+            for (int i = 0; i < sizeClasses.length; i++) {
+                sizeClasses[i] = new SizeClass(1 << (i + MIN_SLOT_SHIFT));
+            }
+        }
+
+        private static int offsetOf(long indexEntry) {
+            return (int) indexEntry - 1;
+        }
+
+        private int find(String key, int hash) {
+            int mask = index.length - 1;
+            for (int i = hash & mask; ; i = (i + 1) & mask) {
+                long each = index[i];
+                if (each == 0L) {
+                    return -1;
+                }
+                if ((int) (each >>> 32) == hash && keyEquals(offsetOf(each), key)) {
+                    return i;
+                }
+            }
+        }
+
+        private boolean keyEquals(int offset, String key) {
+            int length = buffer.getInt(offset + KEY_LENGTH_OFFSET);
+            if (length != key.length()) {
+                return false;
+            }
+            int base = offset + HEADER_BYTES;
+            for (int i = 0; i < length; i++) {
+                if (buffer.getChar(base + i * Character.BYTES) != key.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void insert(int hash, int offset) {
+            if ((indexSize + 1) * 4 > index.length * 3) {
+                long[] previous = index;
+                index = new long[previous.length << 1];
+                for (long each : previous) {
+                    if (each != 0L) {
+                        place(each);
+                    }
+                }
+            }
+            place(((long) hash << 32) | (offset + 1L));
+            indexSize++;
+        }
+
+        private void place(long indexEntry) {
+            int mask = index.length - 1;
+            int i = (int) (indexEntry >>> 32) & mask;
+            while (index[i] != 0L) {
+                i = (i + 1) & mask;
+            }
+            index[i] = indexEntry;
+        }
+
+        /**
+         * 线性探测的回移删除，保证后续探测链不被空位截断
+         */
+        private void removeIndexAt(int slot) {
+            int mask = index.length - 1;
+            int hole = slot;
+            for (int i = (hole + 1) & mask; index[i] != 0L; i = (i + 1) & mask) {
+                int home = (int) (index[i] >>> 32) & mask;
+                boolean movable = i > hole ? (home <= hole || home > i) : (home <= hole && home > i);
+                if (movable) {
+                    index[hole] = index[i];
+                    hole = i;
+                }
+            }
+            index[hole] = 0L;
+            indexSize--;
+        }
+
+        private void removeIndexOf(int offset) {
+            int mask = index.length - 1;
+            for (int i = buffer.getInt(offset + HASH_OFFSET) & mask; ; i = (i + 1) & mask) {
+                if (offsetOf(index[i]) == offset) {
+                    removeIndexAt(i);
+                    return;
+                }
+            }
+        }
+
+        /**
+         * 分配槽位：依次尝试本级别的空闲槽位、空闲页、其他级别中已全部空闲的页，再按 CLOCK 淘汰本级别的条目；
+         * 本级别还没有任何页时无法淘汰，从其他级别取回一页并淘汰页内的条目
+         */
+        private int allocate(int sizeClass) {
+            SizeClass target = sizeClasses[sizeClass];
+            if (target.freeHead < 0) {
+                int page = takeFreePage();
+                if (page < 0) {
+                    page = reclaimEmptyPage(sizeClass);
+                }
+                if (page < 0 && target.pageCount == 0) {
+                    page = stealPage(sizeClass);
+                }
+                if (page >= 0) {
+                    assignPage(page, sizeClass);
+                }
+            }
+            if (target.freeHead >= 0) {
+                int offset = popFree(target);
+                pageLiveSlots[offset / PAGE_BYTES]++;
+                return offset;
+            }
+            return evict(target);
+        }
+
+        private int takeFreePage() {
+            if (freePageCount > 0) {
+                return freePages[--freePageCount];
+            }
+            return allocatedPages < pageCount ? allocatedPages++ : -1;
+        }
+
+        /**
+         * 从其他大小级别中取回一个槽位已全部空闲的页
+         */
+        private int reclaimEmptyPage(int sizeClass) {
+            for (int page = 0; page < allocatedPages; page++) {
+                if (pageClasses[page] != UNASSIGNED && pageClasses[page] != sizeClass && pageLiveSlots[page] == 0) {
+                    unassignPage(page);
+                    return freePages[--freePageCount];
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * 从拥有多页的其他大小级别中选取存活槽位最少的一页，淘汰页内全部条目后取回；
+         * 不取走其他级别的最后一页，避免各级别之间来回争抢整页
+         */
+        private int stealPage(int sizeClass) {
+            int victim = -1;
+            for (int page = 0; page < allocatedPages; page++) {
+                int owner = pageClasses[page];
+                if (owner != UNASSIGNED && owner != sizeClass && sizeClasses[owner].pageCount > 1
+                        && (victim < 0 || pageLiveSlots[page] < pageLiveSlots[victim])) {
+                    victim = page;
+                }
+            }
+            if (victim < 0) {
+                return -1;
+            }
+            SizeClass owner = sizeClasses[pageClasses[victim]];
+            int base = victim * PAGE_BYTES;
+            for (int slot = 0; slot < owner.slotsPerPage; slot++) {
+                int offset = base + slot * owner.slotBytes;
+                if ((buffer.get(offset + FLAGS_OFFSET) & LIVE) != 0) {
+                    removeIndexOf(offset);
+                    buffer.put(offset + FLAGS_OFFSET, (byte) 0);
+                    pushFree(owner, offset);
+                    size--;
+                }
+            }
+            pageLiveSlots[victim] = 0;
+            unassignPage(victim);
+            return freePages[--freePageCount];
+        }
+
+        private void assignPage(int page, int sizeClass) {
+            SizeClass target = sizeClasses[sizeClass];
+            pageClasses[page] = (byte) sizeClass;
+            target.addPage(page);
+            int base = page * PAGE_BYTES;
+            for (int slot = target.slotsPerPage - 1; slot >= 0; slot--) {
+                pushFree(target, base + slot * target.slotBytes);
+            }
+        }
+
+        /**
+         * 将槽位已全部空闲的页从所属大小级别中移出，归还空闲页池
+         */
+        private void unassignPage(int page) {
+            SizeClass target = sizeClasses[pageClasses[page]];
+            int base = page * PAGE_BYTES;
+            for (int slot = 0; slot < target.slotsPerPage; slot++) {
+                unlinkFree(target, base + slot * target.slotBytes);
+            }
+            target.removePage(page);
+            pageClasses[page] = UNASSIGNED;
+            freePages[freePageCount++] = page;
+        }
+
+        /**
+         * CLOCK 淘汰：已过期或未被访问的条目直接回收，被访问过的条目清除访问标记后跳过
+         */
+        private int evict(SizeClass target) {
+            int totalSlots = target.pageCount * target.slotsPerPage;
+            if (totalSlots == 0) {
+                return -1;
+            }
+            long now = System.currentTimeMillis();
+            for (int round = 0; round < totalSlots * 2; round++) {
+                int slot = target.clockHand;
+                target.clockHand = (slot + 1) % totalSlots;
+                int offset = target.pages[slot / target.slotsPerPage] * PAGE_BYTES
+                        + (slot % target.slotsPerPage) * target.slotBytes;
+                byte flags = buffer.get(offset + FLAGS_OFFSET);
+                if ((flags & LIVE) == 0) {
+                    continue;
+                }
+                if ((flags & REFERENCED) != 0 && buffer.getLong(offset + EXPIRE_AT_OFFSET) > now) {
+                    buffer.put(offset + FLAGS_OFFSET, LIVE);
+                    continue;
+                }
+                removeIndexOf(offset);
+                buffer.put(offset + FLAGS_OFFSET, (byte) 0);
+                size--;
+                return offset;
+            }
+            return -1;
+        }
+
+        private void free(int offset) {
+            int page = offset / PAGE_BYTES;
+            SizeClass target = sizeClasses[pageClasses[page]];
+            buffer.put(offset + FLAGS_OFFSET, (byte) 0);
+            pushFree(target, offset);
+            // 页已全部空闲，且本级别在其他页中仍有至少一页的空闲槽位时归还空闲页池，
+            // 保留一页余量，避免在边界上反复写入删除时频繁切分页
+            if (--pageLiveSlots[page] == 0 && target.freeSlots >= target.slotsPerPage * 2) {
+                unassignPage(page);
+            }
+        }
+
+        private void pushFree(SizeClass target, int offset) {
+            buffer.putInt(offset + NEXT_FREE_OFFSET, target.freeHead);
+            buffer.putInt(offset + PREV_FREE_OFFSET, -1);
+            if (target.freeHead >= 0) {
+                buffer.putInt(target.freeHead + PREV_FREE_OFFSET, offset);
+            }
+            target.freeHead = offset;
+            target.freeSlots++;
+        }
+
+        private int popFree(SizeClass target) {
+            int offset = target.freeHead;
+            unlinkFree(target, offset);
+            return offset;
+        }
+
+        private void unlinkFree(SizeClass target, int offset) {
+            int next = buffer.getInt(offset + NEXT_FREE_OFFSET);
+            int prev = buffer.getInt(offset + PREV_FREE_OFFSET);
+            if (prev >= 0) {
+                buffer.putInt(prev + NEXT_FREE_OFFSET, next);
+            } else {
+                target.freeHead = next;
+            }
+            if (next >= 0) {
+                buffer.putInt(next + PREV_FREE_OFFSET, prev);
+            }
+            target.freeSlots--;
+        }
+
+        private void write(int offset, int hash, String key, byte[] value, long expireAt) {
+            buffer.putInt(offset + HASH_OFFSET, hash);
+            buffer.putInt(offset + KEY_LENGTH_OFFSET, key.length());
+            buffer.putInt(offset + VALUE_LENGTH_OFFSET, Objects.isNull(value) ? NULL_VALUE_LENGTH : value.length);
+            buffer.putLong(offset + EXPIRE_AT_OFFSET, expireAt);
+            int base = offset + HEADER_BYTES;
+            for (int i = 0; i < key.length(); i++) {
+                buffer.putChar(base + i * Character.BYTES, key.charAt(i));
+            }
+            if (Objects.nonNull(value)) {
+                buffer.put(base + key.length() * Character.BYTES, value);
+            }
+            buffer.put(offset + FLAGS_OFFSET, LIVE);
+        }
+
+        private LocalEntry read(int offset) {
+            long expireAt = buffer.getLong(offset + EXPIRE_AT_OFFSET);
+            int valueLength = buffer.getInt(offset + VALUE_LENGTH_OFFSET);
+            if (valueLength == NULL_VALUE_LENGTH) {
+                return new LocalEntry(null, expireAt);
+            }
+            byte[] value = new byte[valueLength];
+            int keyLength = buffer.getInt(offset + KEY_LENGTH_OFFSET);
+            buffer.get(offset + HEADER_BYTES + keyLength * Character.BYTES, value);
+            return new LocalEntry(new String(value, StandardCharsets.UTF_8), expireAt);
+        }
+
+        private String readKey(int offset) {
+            char[] key = new char[buffer.getInt(offset + KEY_LENGTH_OFFSET)];
+            for (int i = 0; i < key.length; i++) {
+                key[i] = buffer.getChar(offset + HEADER_BYTES + i * Character.BYTES);
+            }
+            return new String(key);
+        }
+    }
+
+    /**
+     * 大小级别：同一级别的槽位等长，维护所属页、双向空闲链表与 CLOCK 指针
+     */
+    private static final class SizeClass {
+
+        private final int slotBytes;
+
+        private final int slotsPerPage;
+
+        private int[] pages = new int[4];
+
+        private int pageCount;
+
+        private int freeHead = -1;
+
+        private int freeSlots;
+
+        private int clockHand;
+
+        private SizeClass(int slotBytes) {
+            this.slotBytes = slotBytes;
+            this.slotsPerPage = PAGE_BYTES / slotBytes;
+        }
+
+        private void addPage(int page) {
+            if (pageCount == pages.length) {
+                pages = Arrays.copyOf(pages, pageCount << 1);
+            }
+            pages[pageCount++] = page;
+        }
+
+        private void removePage(int page) {
+            for (int i = 0; i < pageCount; i++) {
+                if (pages[i] == page) {
+                    pages[i] = pages[--pageCount];
+                    break;
+                }
+            }
+            // 页的顺序已变化，CLOCK 指针从头开始
+            clockHand = 0;
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package com.lcsk42.starter.cache.redisson.core;
+
+import com.lcsk42.starter.cache.redisson.function.CacheDeleteListener;
+import com.lcsk42.starter.cache.redisson.function.CacheGetFilter;
+import com.lcsk42.starter.cache.redisson.function.CacheGetIfAbsent;
+import com.lcsk42.starter.cache.redisson.function.CacheLoader;
+import com.lcsk42.starter.cache.redisson.function.CacheUpdater;
+import com.lcsk42.starter.cache.redisson.util.CacheUtil;
+import com.lcsk42.starter.cache.redisson.util.ConsistentHashRing;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import org.apache.commons.lang3.BooleanUtils;
+import org.redisson.api.RBloomFilter;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 基于客户端一致性哈希的分片缓存。
+ * <p>
+ * 将键按哈希标签（无标签时为完整键）路由到多个独立的 Redis 实例，
+ * 多键操作按分片分组后并行执行，从而水平扩展缓存容量与吞吐量。
+ * </p>
+ */
+public class ShardedDistributedCache implements DistributedCache, DisposableBean {
+
+    private final ConsistentHashRing<DistributedCache> ring;
+
+    private final List<RedissonClient> redissonClients;
+
+    /**
+     * 构造分片缓存
+     *
+     * @param shards          节点地址与对应缓存实例的映射
+     * @param virtualNodes    每个节点的虚拟节点数量
+     * @param redissonClients 分片独占的 Redisson 客户端，销毁时一并关闭
+     */
+    public ShardedDistributedCache(Map<String, DistributedCache> shards,
+                                   int virtualNodes,
+                                   List<RedissonClient> redissonClients) {
+        this.ring = new ConsistentHashRing<>(shards, virtualNodes);
+        this.redissonClients = redissonClients;
+    }
+
+    /**
+     * 获取键所属的分片
+     *
+     * @param key 缓存键
+     * @return 分片缓存实例
+     */
+    public DistributedCache shard(String key) {
+        return ring.get(CacheUtil.hashTag(key));
+    }
+
+    @Override
+    public <T> T get(String key, Class<T> clazz) {
+        return shard(key).get(key, clazz);
+    }
+
+    @Override
+    public <T> Map<String, T> multiGet(@NotNull Collection<String> keys, Class<T> clazz) {
+        Map<DistributedCache, List<String>> groups = groupByShard(keys);
+        Map<String, T> merged = new LinkedHashMap<>();
+        CacheUtil.invokeAll(groups.entrySet(), each -> each.getKey().multiGet(each.getValue(), clazz))
+                .forEach(merged::putAll);
+        // 按传入顺序重新排列
+        Map<String, T> result = new LinkedHashMap<>();
+        keys.forEach(each -> {
+            T value = merged.get(each);
+            if (Objects.nonNull(value)) {
+                result.put(each, value);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public void put(String key, Object value) {
+        shard(key).put(key, value);
+    }
+
+    @Override
+    public Boolean putIfAllAbsent(@NotNull Collection<String> keys) {
+        Map<DistributedCache, List<String>> groups = groupByShard(keys);
+        if (groups.size() == 1) {
+            Map.Entry<DistributedCache, List<String>> entry = groups.entrySet().iterator().next();
+            return entry.getKey().putIfAllAbsent(entry.getValue());
+        }
+        // 跨分片时并行写入，任一分片失败则回滚已写入的分片
+        List<Map.Entry<DistributedCache, List<String>>> entries = List.copyOf(groups.entrySet());
+        List<Boolean> results = CacheUtil.invokeAll(entries, each -> each.getKey().putIfAllAbsent(each.getValue()));
+        if (results.stream().allMatch(BooleanUtils::isTrue)) {
+            return Boolean.TRUE;
+        }
+        IntStream.range(0, entries.size())
+                .filter(i -> BooleanUtils.isTrue(results.get(i)))
+                .mapToObj(entries::get)
+                .forEach(each -> each.getKey().delete(each.getValue()));
+        return Boolean.FALSE;
+    }
+
+    @Override
+    public Boolean delete(String key) {
+        return shard(key).delete(key);
+    }
+
+    @Override
+    public Long delete(Collection<String> keys) {
+        Map<DistributedCache, List<String>> groups = groupByShard(keys);
+        return CacheUtil.invokeAll(groups.entrySet(), each -> each.getKey().delete(each.getValue())).stream()
+                .filter(Objects::nonNull)
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    @Override
+    public Long deleteByPattern(String pattern) {
+        return deleteByPattern(pattern, null);
+    }
+
+    @Override
+    public Long deleteByPattern(String pattern, CacheDeleteListener listener) {
+        return ring.getNodes().stream()
+                .map(each -> each.deleteByPattern(pattern, listener))
+                .filter(Objects::nonNull)
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    @Override
+    public Boolean hasKey(String key) {
+        return shard(key).hasKey(key);
+    }
+
+    @Override
+    public Object getInstance() {
+        return ring.getNodes().stream()
+                .map(Cache::getInstance)
+                .toList();
+    }
+
+    @Override
+    public <T> T get(@NotBlank String key, Class<T> clazz, CacheLoader<T> cacheLoader, long timeout) {
+        return shard(key).get(key, clazz, cacheLoader, timeout);
+    }
+
+    @Override
+    public <T> T get(@NotBlank String key,
+                     Class<T> clazz,
+                     CacheLoader<T> cacheLoader,
+                     long timeout,
+                     TimeUnit timeUnit) {
+        return shard(key).get(key, clazz, cacheLoader, timeout, timeUnit);
+    }
+
+    @Override
+    public <T> T safeGet(@NotBlank String key, Class<T> clazz, CacheLoader<T> cacheLoader, long timeout) {
+        return shard(key).safeGet(key, clazz, cacheLoader, timeout);
+    }
+
+    @Override
+    public <T> T safeGet(@NotBlank String key,
+                         Class<T> clazz,
+                         CacheLoader<T> cacheLoader,
+                         long timeout,
+                         TimeUnit timeUnit) {
+        return shard(key).safeGet(key, clazz, cacheLoader, timeout, timeUnit);
+    }
+
+    @Override
+    public <T> T safeGet(@NotBlank String key,
+                         Class<T> clazz,
+                         CacheLoader<T> cacheLoader,
+                         long timeout,
+                         RBloomFilter<String> bloomFilter) {
+        return shard(key).safeGet(key, clazz, cacheLoader, timeout, bloomFilter);
+    }
+
+    @Override
+    public <T> T safeGet(@NotBlank String key,
+                         Class<T> clazz,
+                         CacheLoader<T> cacheLoader,
+                         long timeout,
+                         TimeUnit timeUnit,
+                         RBloomFilter<String> bloomFilter) {
+        return shard(key).safeGet(key, clazz, cacheLoader, timeout, timeUnit, bloomFilter);
+    }
+
+    @Override
+    public <T> T safeGet(String key,
+                         Class<T> clazz,
+                         CacheLoader<T> cacheLoader,
+                         long timeout,
+                         RBloomFilter<String> bloomFilter,
+                         CacheGetFilter<String> cacheCheckFilter) {
+        return shard(key).safeGet(key, clazz, cacheLoader, timeout, bloomFilter, cacheCheckFilter);
+    }
+
+    @Override
+    public <T> T safeGet(String key,
+                         Class<T> clazz,
+                         CacheLoader<T> cacheLoader,
+                         long timeout,
+                         TimeUnit timeUnit,
+                         RBloomFilter<String> bloomFilter,
+                         CacheGetFilter<String> cacheCheckFilter) {
+        return shard(key).safeGet(key, clazz, cacheLoader, timeout, timeUnit, bloomFilter, cacheCheckFilter);
+    }
+
+    @Override
+    public <T> T safeGet(String key,
+                         Class<T> clazz,
+                         CacheLoader<T> cacheLoader,
+                         long timeout,
+                         RBloomFilter<String> bloomFilter,
+                         CacheGetFilter<String> cacheGetFilter,
+                         CacheGetIfAbsent<String> cacheGetIfAbsent) {
+        return shard(key).safeGet(key, clazz, cacheLoader, timeout, bloomFilter, cacheGetFilter, cacheGetIfAbsent);
+    }
+
+    @Override
+    public <T> T safeGet(String key,
+                         Class<T> clazz,
+                         CacheLoader<T> cacheLoader,
+                         long timeout,
+                         TimeUnit timeUnit,
+                         RBloomFilter<String> bloomFilter,
+                         CacheGetFilter<String> cacheGetFilter,
+                         CacheGetIfAbsent<String> cacheGetIfAbsent) {
+        return shard(key).safeGet(key,
+                clazz,
+                cacheLoader,
+                timeout,
+                timeUnit,
+                bloomFilter,
+                cacheGetFilter,
+                cacheGetIfAbsent);
+    }
+
+    @Override
+    public void put(String key, Object value, long timeout) {
+        shard(key).put(key, value, timeout);
+    }
+
+    @Override
+    public void put(String key, Object value, long timeout, TimeUnit timeUnit) {
+        shard(key).put(key, value, timeout, timeUnit);
+    }
+
+    @Override
+    public <T> T compute(String key, Class<T> clazz, CacheUpdater<T> updater, long timeout) {
+        return shard(key).compute(key, clazz, updater, timeout);
+    }
+
+    @Override
+    public <T> T compute(String key, Class<T> clazz, CacheUpdater<T> updater, long timeout, TimeUnit timeUnit) {
+        return shard(key).compute(key, clazz, updater, timeout, timeUnit);
+    }
+
+    @Override
+    public void safePut(String key, Object value, long timeout, RBloomFilter<String> bloomFilter) {
+        shard(key).safePut(key, value, timeout, bloomFilter);
+    }
+
+    @Override
+    public void safePut(String key, Object value, long timeout, TimeUnit timeUnit, RBloomFilter<String> bloomFilter) {
+        shard(key).safePut(key, value, timeout, timeUnit, bloomFilter);
+    }
+
+    @Override
+    public Long countExistingKeys(String... keys) {
+        return groupByShard(List.of(keys)).entrySet().stream()
+                .map(each -> each.getKey().countExistingKeys(each.getValue().toArray(String[]::new)))
+                .filter(Objects::nonNull)
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (DistributedCache each : ring.getNodes()) {
+            if (each instanceof DisposableBean disposableBean) {
+                disposableBean.destroy();
+            }
+        }
+        redissonClients.forEach(RedissonClient::shutdown);
+    }
+
+    private Map<DistributedCache, List<String>> groupByShard(Collection<String> keys) {
+        Map<DistributedCache, List<String>> groups = new LinkedHashMap<>();
+        keys.forEach(each -> groups.computeIfAbsent(shard(each), shard -> new ArrayList<>()).add(each));
+        return groups;
+    }
+}
@@ -1,47 +1,111 @@
 package com.lcsk42.starter.cache.redisson.core;
 
 import com.lcsk42.starter.cache.redisson.config.CacheExtensionProperties;
+import com.lcsk42.starter.cache.redisson.enums.LoaderOverflowPolicy;
+import com.lcsk42.starter.cache.redisson.function.CacheDeleteListener;
 import com.lcsk42.starter.cache.redisson.function.CacheGetFilter;
 import com.lcsk42.starter.cache.redisson.function.CacheGetIfAbsent;
 import com.lcsk42.starter.cache.redisson.function.CacheLoader;
+import com.lcsk42.starter.cache.redisson.function.CacheUpdater;
 import com.lcsk42.starter.cache.redisson.util.CacheUtil;
 import com.lcsk42.starter.core.Singleton;
-import com.lcsk42.starter.json.jackson.util.JacksonUtil;
+import com.lcsk42.starter.core.exception.base.ServiceException;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
-import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.BooleanUtils;
 import org.redisson.api.RBloomFilter;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.scripting.support.ResourceScriptSource;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
-@RequiredArgsConstructor
-public class StringRedisTemplateProxy implements DistributedCache {
+public class StringRedisTemplateProxy implements DistributedCache, DisposableBean {
 
     private final StringRedisTemplate stringRedisTemplate;
     private final CacheExtensionProperties cacheExtensionProperties;
     private final RedissonClient redissonClient;
+    // 自动管道合并器，未开启时为 null
+    private final AutoPipeliner autoPipeliner;
+    // 全局缓存加载并发预算，未开启时为 null
+    private final CacheLoaderBudget cacheLoaderBudget;
+    // 版本戳校验的本地副本，未开启时为 null
+    private final VersionedLocalCopies versionedLocalCopies;
 
     private static final String LUA_PUT_IF_ALL_ABSENT_SCRIPT_PATH = "lua/putIfAllAbsent.lua";
+    private static final String LUA_COMPARE_AND_SET_SCRIPT_PATH = "lua/compareAndSet.lua";
+    private static final String LUA_PUT_VERSIONED_SCRIPT_PATH = "lua/putVersioned.lua";
     private static final String SAFE_GET_DISTRIBUTED_LOCK_KEY_PREFIX = "safe_get_distributed_lock_get:";
+    private static final String SAFE_GET_STALE_VALUE_KEY_PREFIX = "safe_get_stale_value:";
+    private static final String VERSION_KEY_PREFIX = "cache_version:";
+
+    public StringRedisTemplateProxy(StringRedisTemplate stringRedisTemplate,
+                                    CacheExtensionProperties cacheExtensionProperties,
+                                    RedissonClient redissonClient) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.cacheExtensionProperties = cacheExtensionProperties;
+        this.redissonClient = redissonClient;
+        CacheExtensionProperties.AutoPipeline autoPipeline = cacheExtensionProperties.getAutoPipeline();
+        this.autoPipeliner = BooleanUtils.isTrue(autoPipeline.getEnabled())
+                ? new AutoPipeliner(stringRedisTemplate, autoPipeline)
+                : null;
+        CacheExtensionProperties.LoaderBudget loaderBudget = cacheExtensionProperties.getLoaderBudget();
+        this.cacheLoaderBudget = BooleanUtils.isTrue(loaderBudget.getEnabled())
+                ? new CacheLoaderBudget(redissonClient, loaderBudget.getPermits(), loaderBudget.getLeaseMillis())
+                : null;
+        CacheExtensionProperties.Revalidation revalidation = cacheExtensionProperties.getRevalidation();
+        this.versionedLocalCopies = BooleanUtils.isTrue(revalidation.getEnabled())
+                ? new VersionedLocalCopies(revalidation.getMaximumSize())
+                : null;
+    }
 
     @Override
     public <T> T get(String key, Class<T> clazz) {
-        String value = stringRedisTemplate.opsForValue().get(key);
-        if (String.class.isAssignableFrom(clazz)) {
-            return clazz.cast(value);
-        }
-        return JacksonUtil.fromJson(value, clazz);
+        return CacheUtil.deserialize(Objects.isNull(versionedLocalCopies) ? getRaw(key) : getRevalidated(key), clazz);
+    }
+
+    @Override
+    public <T> Map<String, T> multiGet(@NotNull Collection<String> keys, Class<T> clazz) {
+        Map<String, String> values = Objects.isNull(versionedLocalCopies)
+                ? multiGetRaw(keys)
+                : multiGetRevalidated(keys);
+        Map<String, T> result = new LinkedHashMap<>();
+        keys.forEach(each -> {
+            String value = values.get(each);
+            if (Objects.nonNull(value)) {
+                result.put(each, CacheUtil.deserialize(value, clazz));
+            }
+        });
+        return result;
     }
 
     @Override
@@ -62,20 +126,129 @@ public class StringRedisTemplateProxy implements DistributedCache {
         if (Objects.isNull(actual)) {
             return Boolean.FALSE;
         }
-        Boolean result = stringRedisTemplate.execute(actual,
-                List.copyOf(keys),
-                cacheExtensionProperties.getValueTimeout().toString());
-        return BooleanUtils.isTrue(result);
+        List<List<String>> groups = groupBySlot(keys);
+        if (groups.size() <= 1) {
+            return putIfAllAbsent(actual, List.copyOf(keys));
+        }
+        // 集群模式下键跨越多个槽位时，按槽位分组并行执行脚本，任一分组失败则回滚已写入的分组
+        List<Boolean> results = CacheUtil.invokeAll(groups, each -> putIfAllAbsent(actual, each));
+        if (results.stream().allMatch(BooleanUtils::isTrue)) {
+            return Boolean.TRUE;
+        }
+        List<String> written = IntStream.range(0, groups.size())
+                .filter(i -> BooleanUtils.isTrue(results.get(i)))
+                .mapToObj(groups::get)
+                .flatMap(List::stream)
+                .toList();
+        if (!written.isEmpty()) {
+            delete(written);
+        }
+        return Boolean.FALSE;
     }
 
     @Override
     public Boolean delete(String key) {
-        return stringRedisTemplate.delete(key);
+        if (!isStaleFallbackEnabled() && Objects.isNull(versionedLocalCopies)) {
+            return stringRedisTemplate.delete(key);
+        }
+        return delete(List.of(key)) > 0;
     }
 
     @Override
     public Long delete(Collection<String> keys) {
-        return stringRedisTemplate.delete(keys);
+        List<String> companions = companionKeys(keys);
+        if (companions.isEmpty()) {
+            return deleteAll(keys);
+        }
+        // 过期副本与版本键随缓存键在同一管道中删除，不额外增加往返；返回值只统计缓存键
+        List<String> ordered = List.copyOf(keys);
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            Stream.concat(ordered.stream(), companions.stream())
+                    .forEach(each -> connection.keyCommands().del(rawKey(each)));
+            return null;
+        });
+        if (Objects.nonNull(versionedLocalCopies)) {
+            ordered.forEach(versionedLocalCopies::remove);
+        }
+        return results.subList(0, ordered.size()).stream()
+                .filter(Long.class::isInstance)
+                .mapToLong(Long.class::cast)
+                .sum();
+    }
+
+    /**
+     * 缓存键附带的过期副本键与版本键
+     */
+    private List<String> companionKeys(Collection<String> keys) {
+        List<String> companions = new ArrayList<>();
+        if (isStaleFallbackEnabled()) {
+            keys.forEach(each -> companions.add(SAFE_GET_STALE_VALUE_KEY_PREFIX + each));
+        }
+        if (Objects.nonNull(versionedLocalCopies)) {
+            keys.forEach(each -> companions.add(versionKey(each)));
+        }
+        return companions;
+    }
+
+    private Long deleteAll(Collection<String> keys) {
+        List<List<String>> groups = groupBySlot(keys);
+        if (groups.size() <= 1) {
+            return stringRedisTemplate.delete(keys);
+        }
+        return CacheUtil.invokeAll(groups, stringRedisTemplate::delete).stream()
+                .filter(Objects::nonNull)
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    @Override
+    public Long deleteByPattern(String pattern) {
+        return deleteByPattern(pattern, null);
+    }
+
+    @Override
+    public Long deleteByPattern(String pattern, CacheDeleteListener listener) {
+        Long deleted = scanAndDelete(pattern, listener);
+        if (Objects.nonNull(versionedLocalCopies)) {
+            // 删除匹配键对应的版本键，其他节点的本地副本在下次校验时失效
+            scanAndDelete(VERSION_KEY_PREFIX + pattern + "{*}", null);
+            versionedLocalCopies.clear();
+        }
+        return deleted;
+    }
+
+    private Long scanAndDelete(String pattern, CacheDeleteListener listener) {
+        CacheExtensionProperties.BulkDelete bulkDelete = cacheExtensionProperties.getBulkDelete();
+        int batchSize = bulkDelete.getBatchSize();
+        // 键前缀可能包含通配符，转义后只匹配字面前缀，调用方的匹配模式原样追加
+        ScanOptions scanOptions = ScanOptions.scanOptions()
+                .match(CacheUtil.escapeGlob(cacheExtensionProperties.getPrefix()) + pattern)
+                .count(batchSize)
+                .build();
+        Long deleted = stringRedisTemplate.execute((RedisCallback<Long>) connection -> {
+            long scannedCount = 0L;
+            long deletedCount = 0L;
+            List<byte[]> batch = new ArrayList<>(batchSize);
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(scanOptions)) {
+                while (cursor.hasNext()) {
+                    batch.add(cursor.next());
+                    scannedCount++;
+                    if (batch.size() < batchSize && cursor.hasNext()) {
+                        continue;
+                    }
+                    deletedCount += unlink(batch);
+                    batch.clear();
+                    if (Objects.nonNull(listener) && !listener.onBatch(scannedCount, deletedCount)) {
+                        break;
+                    }
+                    if (!pause(bulkDelete.getBatchPauseMillis())) {
+                        break;
+                    }
+                }
+            }
+            return deletedCount;
+        });
+        return Optional.ofNullable(deleted).orElse(0L);
     }
 
     @Override
@@ -196,9 +369,8 @@ public class StringRedisTemplateProxy implements DistributedCache {
         lock.lock();
         try {
             if (CacheUtil.isNullOrBlank(result = get(key, clazz))) {
-                if (CacheUtil.isNullOrBlank(
-                        result = loadAndSet(key, cacheLoader, timeout, timeUnit, true, bloomFilter)
-                )) {
+                if (CacheUtil.isNullOrBlank(result = loadWithinBudget(key, clazz,
+                        () -> loadAndSet(key, cacheLoader, timeout, timeUnit, true, bloomFilter)))) {
                     Optional.ofNullable(cacheGetIfAbsent).ifPresent(each -> each.accept(key));
                 }
             }
@@ -215,10 +387,65 @@ public class StringRedisTemplateProxy implements DistributedCache {
 
     @Override
     public void put(String key, Object value, long timeout, TimeUnit timeUnit) {
-        String actual = value instanceof String ? (String) value : JacksonUtil.toJSON(value);
-        if (Objects.nonNull(actual)) {
+        String actual = CacheUtil.serialize(value);
+        if (Objects.isNull(actual)) {
+            return;
+        }
+        if (Objects.nonNull(versionedLocalCopies)) {
+            putVersioned(key, actual, timeout, timeUnit);
+        } else if (Objects.isNull(autoPipeliner)) {
             stringRedisTemplate.opsForValue().set(key, actual, timeout, timeUnit);
+        } else {
+            byte[] rawValue = stringRedisTemplate.getStringSerializer().serialize(actual);
+            Expiration expiration = Expiration.from(timeout, timeUnit);
+            autoPipeliner.await(autoPipeliner.submit(connection -> connection.stringCommands()
+                    .set(rawKey(key), rawValue, expiration, RedisStringCommands.SetOption.upsert())));
+        }
+    }
+
+    @Override
+    public <T> T compute(String key, Class<T> clazz, CacheUpdater<T> updater, long timeout) {
+        return compute(key, clazz, updater, timeout, cacheExtensionProperties.getValueTimeUnit());
+    }
+
+    @Override
+    public <T> T compute(String key, Class<T> clazz, CacheUpdater<T> updater, long timeout, TimeUnit timeUnit) {
+        DefaultRedisScript<Long> compareAndSetScript = Singleton.get(LUA_COMPARE_AND_SET_SCRIPT_PATH, () -> {
+            DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+            redisScript.setScriptSource(
+                    new ResourceScriptSource(new ClassPathResource(LUA_COMPARE_AND_SET_SCRIPT_PATH))
+            );
+            redisScript.setResultType(Long.class);
+            return redisScript;
+        });
+        CacheExtensionProperties.Compute compute = cacheExtensionProperties.getCompute();
+        String ttlMillis = String.valueOf(timeUnit.toMillis(timeout));
+        // 版本戳校验模式下版本键与值由同一脚本写入或删除
+        String versionKey = versionKeyIfCoLocated(key);
+        List<String> scriptKeys = Objects.isNull(versionKey) ? List.of(key) : List.of(key, versionKey);
+        for (int attempt = 0; attempt < compute.getMaxAttempts(); attempt++) {
+            // 以当前序列化值的 SHA-1 作为版本，提交时由脚本比较，避免额外的版本键
+            String current = getRaw(key);
+            T updated = updater.apply(CacheUtil.deserialize(current, clazz));
+            String payload = CacheUtil.serialize(updated);
+            boolean remove = Objects.isNull(payload);
+            String stamp = newVersion();
+            Long result = stringRedisTemplate.execute(compareAndSetScript,
+                    scriptKeys,
+                    version(current),
+                    remove ? "" : payload,
+                    ttlMillis,
+                    remove ? "1" : "0",
+                    stamp);
+            if (Objects.equals(result, 1L)) {
+                if (Objects.nonNull(versionedLocalCopies)) {
+                    remember(key, payload, Objects.isNull(versionKey) ? null : stamp);
+                }
+                return updated;
+            }
+            backoff(attempt, compute);
         }
+        throw new ServiceException("Cache compute conflict, retries exhausted for key: " + key);
     }
 
     @Override
@@ -249,6 +476,338 @@ public class StringRedisTemplateProxy implements DistributedCache {
         return stringRedisTemplate.countExistingKeys(List.of(keys));
     }
 
+    @Override
+    public void destroy() {
+        if (Objects.nonNull(autoPipeliner)) {
+            autoPipeliner.shutdown();
+        }
+    }
+
+    private String getRaw(String key) {
+        if (Objects.isNull(autoPipeliner)) {
+            return stringRedisTemplate.opsForValue().get(key);
+        }
+        return (String) autoPipeliner.await(
+                autoPipeliner.submit(connection -> connection.stringCommands().get(rawKey(key)))
+        );
+    }
+
+    /**
+     * 计算值的版本（与脚本中 redis.sha1hex 的结果一致），值不存在时为空字符串
+     */
+    private static String version(String value) {
+        if (Objects.isNull(value)) {
+            return "";
+        }
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-1");
+            return HexFormat.of().formatHex(messageDigest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-1 algorithm is not available", ex);
+        }
+    }
+
+    /**
+     * 带随机抖动的指数退避，线程被中断时抛出异常以结束重试
+     */
+    private static void backoff(int attempt, CacheExtensionProperties.Compute compute) {
+        long maxBackoff = compute.getMaxBackoffMillis();
+        long backoff = Math.min(maxBackoff, compute.getInitialBackoffMillis() << Math.min(attempt, 20));
+        long jittered = backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+        try {
+            TimeUnit.MILLISECONDS.sleep(jittered);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ServiceException("Cache compute interrupted");
+        }
+    }
+
+    private Boolean putIfAllAbsent(DefaultRedisScript<Boolean> script, List<String> keys) {
+        Boolean result = stringRedisTemplate.execute(script,
+                keys,
+                cacheExtensionProperties.getValueTimeout().toString());
+        return BooleanUtils.isTrue(result);
+    }
+
+    /**
+     * 版本戳校验模式下读取单个键：版本未变化时直接返回本地副本
+     */
+    private String getRevalidated(String key) {
+        VersionedLocalCopies.LocalCopy copy = versionedLocalCopies.get(key);
+        String versionKey = versionKey(key);
+        // 先读版本再读值：写入方在同一脚本中写入值与版本，读取到的版本只可能旧于值，下次校验时会重新读取
+        if (Objects.isNull(copy) && groupBySlot(List.of(versionKey, key)).size() == 1) {
+            // 没有本地副本时版本与值都要读取，同一节点上的管道按顺序执行，一次往返完成
+            List<String> versionAndValue = getRawInOrder(versionKey, key);
+            remember(key, versionAndValue.get(1), versionAndValue.get(0));
+            return versionAndValue.get(1);
+        }
+        String version = getRaw(versionKey);
+        if (Objects.nonNull(copy) && Objects.nonNull(version) && version.equals(copy.version())) {
+            return copy.value();
+        }
+        String value = getRaw(key);
+        remember(key, value, version);
+        return value;
+    }
+
+    /**
+     * 版本戳校验模式下批量读取：一次 MGET 获取全部版本，仅对版本变化或无副本的键读取值。
+     * 非集群模式下没有副本的键与版本在同一管道中按先版本后值的顺序读取，只有副本失效的键需要再读取一次
+     */
+    private Map<String, String> multiGetRevalidated(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return new HashMap<>();
+        }
+        Map<String, String> versionKeyByKey = new LinkedHashMap<>();
+        keys.forEach(each -> versionKeyByKey.computeIfAbsent(each, this::versionKey));
+        List<String> versionKeys = List.copyOf(versionKeyByKey.values());
+        Map<String, String> result = new HashMap<>();
+        Map<String, String> versions;
+        List<String> changed = new ArrayList<>();
+        if (redissonClient.getConfig().isClusterConfig()) {
+            versions = multiGetRaw(versionKeys);
+        } else {
+            List<String> uncopied = keys.stream()
+                    .filter(each -> Objects.isNull(versionedLocalCopies.get(each)))
+                    .distinct()
+                    .toList();
+            List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.stringCommands().mGet(versionKeys.stream().map(this::rawKey).toArray(byte[][]::new));
+                if (!uncopied.isEmpty()) {
+                    connection.stringCommands().mGet(uncopied.stream().map(this::rawKey).toArray(byte[][]::new));
+                }
+                return null;
+            });
+            versions = zip(versionKeys, results.get(0));
+            if (!uncopied.isEmpty()) {
+                zip(uncopied, results.get(1)).forEach((key, value) -> {
+                    remember(key, value, versions.get(versionKeyByKey.get(key)));
+                    result.put(key, value);
+                });
+            }
+        }
+        keys.forEach(each -> {
+            if (result.containsKey(each)) {
+                return;
+            }
+            VersionedLocalCopies.LocalCopy copy = versionedLocalCopies.get(each);
+            String version = versions.get(versionKeyByKey.get(each));
+            if (Objects.nonNull(copy) && Objects.nonNull(version) && version.equals(copy.version())) {
+                result.put(each, copy.value());
+            } else {
+                changed.add(each);
+            }
+        });
+        if (!changed.isEmpty()) {
+            multiGetRaw(changed).forEach((key, value) -> {
+                remember(key, value, versions.get(versionKeyByKey.get(key)));
+                result.put(key, value);
+            });
+        }
+        return result;
+    }
+
+    /**
+     * 在同一管道中按顺序读取两个键，调用方需保证两个键位于同一槽位。
+     * 不经过自动管道合并器：队列已满时命令会在调用方线程中直接执行，无法保证两条命令的先后顺序
+     */
+    private List<String> getRawInOrder(String first, String second) {
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().get(rawKey(first));
+            connection.stringCommands().get(rawKey(second));
+            return null;
+        });
+        return Arrays.asList((String) results.get(0), (String) results.get(1));
+    }
+
+    private static Map<String, String> zip(List<String> keys, Object values) {
+        Map<String, String> result = new HashMap<>();
+        List<?> list = values instanceof List<?> each ? each : Collections.emptyList();
+        for (int i = 0; i < keys.size(); i++) {
+            result.put(keys.get(i), i < list.size() ? (String) list.get(i) : null);
+        }
+        return result;
+    }
+
+    private Map<String, String> multiGetRaw(Collection<String> keys) {
+        Map<String, String> result = new HashMap<>();
+        if (keys.isEmpty()) {
+            return result;
+        }
+        List<List<String>> groups = groupBySlot(keys);
+        List<List<String>> values = groups.size() <= 1
+                ? Collections.singletonList(stringRedisTemplate.opsForValue().multiGet(groups.get(0)))
+                : CacheUtil.invokeAll(groups, each -> stringRedisTemplate.opsForValue().multiGet(each));
+        for (int i = 0; i < groups.size(); i++) {
+            List<String> group = groups.get(i);
+            List<String> groupValues = values.get(i);
+            for (int j = 0; j < group.size(); j++) {
+                result.put(group.get(j), Objects.isNull(groupValues) ? null : groupValues.get(j));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 保存本地副本，值或版本缺失、值较小时移除副本
+     */
+    private void remember(String key, String value, String version) {
+        if (Objects.isNull(value)
+                || Objects.isNull(version)
+                || value.length() < cacheExtensionProperties.getRevalidation().getMinValueLength()) {
+            versionedLocalCopies.remove(key);
+            return;
+        }
+        versionedLocalCopies.put(key, value, version);
+    }
+
+    /**
+     * 版本戳校验模式下写入新值：值与新版本在同一脚本中原子写入，读取方不会看到新值配旧版本或旧值配新版本。
+     * 版本键无法与缓存键位于同一槽位时只写入值，该键没有版本，始终从 Redis 读取
+     */
+    private void putVersioned(String key, String value, long timeout, TimeUnit timeUnit) {
+        String versionKey = versionKeyIfCoLocated(key);
+        if (Objects.isNull(versionKey)) {
+            stringRedisTemplate.opsForValue().set(key, value, timeout, timeUnit);
+            versionedLocalCopies.remove(key);
+            return;
+        }
+        String version = newVersion();
+        stringRedisTemplate.execute(putVersionedScript(),
+                List.of(key, versionKey),
+                value,
+                version,
+                String.valueOf(timeUnit.toMillis(timeout)));
+        remember(key, value, version);
+    }
+
+    private DefaultRedisScript<Long> putVersionedScript() {
+        return Singleton.get(LUA_PUT_VERSIONED_SCRIPT_PATH, () -> {
+            DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+            redisScript.setScriptSource(
+                    new ResourceScriptSource(new ClassPathResource(LUA_PUT_VERSIONED_SCRIPT_PATH))
+            );
+            redisScript.setResultType(Long.class);
+            return redisScript;
+        });
+    }
+
+    /**
+     * 新的版本戳。使用随机值而非自增，避免版本键过期后重新计数导致旧副本被误判为有效
+     */
+    private static String newVersion() {
+        return Long.toHexString(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * 缓存键对应的版本键。版本键以缓存键（含前缀）的有效哈希标签结尾，集群模式下与缓存键位于同一槽位
+     */
+    private String versionKey(String key) {
+        String raw = new String(rawKey(key), StandardCharsets.UTF_8);
+        int open = raw.indexOf('{');
+        int close = open < 0 ? -1 : raw.indexOf('}', open + 1);
+        String tag = close > open + 1 ? raw.substring(open + 1, close) : raw;
+        return VERSION_KEY_PREFIX + key + "{" + tag + "}";
+    }
+
+    /**
+     * 版本戳校验模式下与缓存键位于同一槽位的版本键；未开启，或键中的花括号使两者无法位于同一槽位时返回 null
+     */
+    private String versionKeyIfCoLocated(String key) {
+        if (Objects.isNull(versionedLocalCopies)) {
+            return null;
+        }
+        String versionKey = versionKey(key);
+        return groupBySlot(List.of(key, versionKey)).size() == 1 ? versionKey : null;
+    }
+
+    /**
+     * 集群模式下按键（含前缀）所在槽位分组，非集群模式下所有键归为同一组
+     */
+    private List<List<String>> groupBySlot(Collection<String> keys) {
+        if (!redissonClient.getConfig().isClusterConfig()) {
+            return List.of(List.copyOf(keys));
+        }
+        Map<Integer, List<String>> groups = new LinkedHashMap<>();
+        keys.forEach(each -> groups
+                .computeIfAbsent(ClusterSlotHashUtil.calculateSlot(rawKey(each)), slot -> new ArrayList<>())
+                .add(each));
+        return List.copyOf(groups.values());
+    }
+
+    @SuppressWarnings("unchecked")
+    private byte[] rawKey(String key) {
+        return ((RedisSerializer<String>) stringRedisTemplate.getKeySerializer()).serialize(key);
+    }
+
+    /**
+     * 以管道方式逐个 UNLINK 一批键，键的内存由 Redis 后台线程异步回收
+     */
+    private long unlink(List<byte[]> rawKeys) {
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            rawKeys.forEach(each -> connection.keyCommands().unlink(each));
+            return null;
+        });
+        return results.stream()
+                .filter(Long.class::isInstance)
+                .mapToLong(Long.class::cast)
+                .sum();
+    }
+
+    /**
+     * 批次间暂停，线程被中断时返回 false 以取消后续批次
+     */
+    private boolean pause(long millis) {
+        if (Thread.currentThread().isInterrupted()) {
+            return false;
+        }
+        if (millis <= 0) {
+            return true;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 在全局加载并发预算内执行加载，预算耗尽时按策略等待或返回过期副本
+     */
+    private <T> T loadWithinBudget(String key, Class<T> clazz, Supplier<T> loader) {
+        if (Objects.isNull(cacheLoaderBudget)) {
+            return loader.get();
+        }
+        CacheExtensionProperties.LoaderBudget loaderBudget = cacheExtensionProperties.getLoaderBudget();
+        CacheLoaderBudget.LeasedPermit permit = null;
+        if (isStaleFallbackEnabled()) {
+            permit = cacheLoaderBudget.tryAcquire(0L);
+            if (Objects.isNull(permit)) {
+                T stale = get(SAFE_GET_STALE_VALUE_KEY_PREFIX + key, clazz);
+                if (!CacheUtil.isNullOrBlank(stale)) {
+                    return stale;
+                }
+            }
+        }
+        if (Objects.isNull(permit)
+                && Objects.isNull(permit = cacheLoaderBudget.tryAcquire(loaderBudget.getMaxWaitMillis()))) {
+            throw new ServiceException("Cache loader budget exhausted for key: " + key);
+        }
+        try {
+            return loader.get();
+        } finally {
+            cacheLoaderBudget.release(permit);
+        }
+    }
+
+    private boolean isStaleFallbackEnabled() {
+        return Objects.nonNull(cacheLoaderBudget)
+                && cacheExtensionProperties.getLoaderBudget().getOverflowPolicy() == LoaderOverflowPolicy.STALE;
+    }
+
     private <T> T loadAndSet(String key,
                              CacheLoader<T> cacheLoader,
                              long timeout,
@@ -259,11 +818,45 @@ public class StringRedisTemplateProxy implements DistributedCache {
         if (CacheUtil.isNullOrBlank(result)) {
             return result;
         }
-        if (safeFlag) {
+        if (safeFlag && isStaleFallbackEnabled()) {
+            putWithStaleCopy(key, result, timeout, timeUnit);
+            if (bloomFilter != null) {
+                bloomFilter.add(key);
+            }
+        } else if (safeFlag) {
             safePut(key, result, timeout, timeUnit, bloomFilter);
         } else {
             put(key, result, timeout, timeUnit);
         }
         return result;
     }
-}
\ No newline at end of file
+
+    /**
+     * 在同一管道中写入缓存值与其过期副本，过期副本只是兜底数据，不写入版本键；
+     * 版本戳校验模式下缓存值与版本由脚本原子写入
+     */
+    private void putWithStaleCopy(String key, Object value, long timeout, TimeUnit timeUnit) {
+        String actual = CacheUtil.serialize(value);
+        if (Objects.isNull(actual)) {
+            return;
+        }
+        byte[] rawValue = stringRedisTemplate.getStringSerializer().serialize(actual);
+        Expiration expiration = Expiration.from(timeout, timeUnit);
+        Expiration staleExpiration = Expiration.milliseconds(
+                cacheExtensionProperties.getLoaderBudget().getStaleTimeoutMillis());
+        if (Objects.nonNull(versionedLocalCopies)) {
+            // 值与版本由脚本原子写入，过期副本随后单独写入
+            putVersioned(key, actual, timeout, timeUnit);
+            stringRedisTemplate.execute((RedisCallback<Object>) connection -> connection.stringCommands().set(
+                    rawKey(SAFE_GET_STALE_VALUE_KEY_PREFIX + key), rawValue,
+                    staleExpiration, RedisStringCommands.SetOption.upsert()));
+            return;
+        }
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().set(rawKey(key), rawValue, expiration, RedisStringCommands.SetOption.upsert());
+            connection.stringCommands().set(rawKey(SAFE_GET_STALE_VALUE_KEY_PREFIX + key), rawValue,
+                    staleExpiration, RedisStringCommands.SetOption.upsert());
+            return null;
+        });
+    }
+}
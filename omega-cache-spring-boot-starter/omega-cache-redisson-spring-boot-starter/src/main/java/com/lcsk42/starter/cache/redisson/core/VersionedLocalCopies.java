@@ -0,0 +1,50 @@
+package com.lcsk42.starter.cache.redisson.core;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 带版本戳的本地副本。
+ * <p>
+ * 保存从 Redis 读取的序列化值及读取时对应的版本戳，读取方只需比较版本戳即可判断副本是否仍然有效；
+ * 容量有界，超出时按最近最少使用淘汰。
+ * </p>
+ */
+public class VersionedLocalCopies {
+
+    private final Map<String, LocalCopy> copies;
+
+    public VersionedLocalCopies(int maximumSize) {
+        this.copies = new LinkedHashMap<>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, LocalCopy> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    public synchronized LocalCopy get(String key) {
+        return copies.get(key);
+    }
+
+    public synchronized void put(String key, String value, String version) {
+        copies.put(key, new LocalCopy(value, version));
+    }
+
+    public synchronized void remove(String key) {
+        copies.remove(key);
+    }
+
+    public synchronized void clear() {
+        copies.clear();
+    }
+
+    /**
+     * 本地副本
+     *
+     * @param value   序列化值
+     * @param version 读取值之前获取的版本戳
+     */
+    public record LocalCopy(String value, String version) {
+    }
+}
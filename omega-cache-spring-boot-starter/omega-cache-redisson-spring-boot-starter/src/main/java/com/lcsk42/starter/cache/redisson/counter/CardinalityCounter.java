@@ -0,0 +1,198 @@
+package com.lcsk42.starter.cache.redisson.counter;
+
+import com.lcsk42.starter.cache.redisson.config.CacheExtensionProperties;
+import com.lcsk42.starter.cache.redisson.util.CacheUtil;
+import com.lcsk42.starter.core.Singleton;
+import com.lcsk42.starter.core.threadpool.build.ThreadFactoryBuilder;
+import jakarta.validation.constraints.NotBlank;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scripting.support.ResourceScriptSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * 基于 Redis HyperLogLog 的基数统计。
+ * <p>
+ * 元素先写入进程内与 Redis 编码兼容的 {@link HyperLogLogSketch}，再按固定间隔编码为稠密格式并通过 PFMERGE 合并到 Redis，
+ * 高频写入只消耗本地 CPU，Redis 侧每个时间桶每个刷新周期只有一次合并。
+ * HyperLogLog 的合并是逐寄存器取最大值，重复合并同一份寄存器不会改变结果，因此本地草图无需在刷新后清空。
+ * 同一统计项的各时间桶共享哈希标签，集群模式下位于同一槽位，可以直接跨桶执行 PFCOUNT 求并集。
+ * </p>
+ */
+@Slf4j
+public class CardinalityCounter implements DisposableBean {
+
+    private static final String KEY_SEGMENT = "hll";
+
+    private static final String MERGE_SEGMENT = "merge";
+
+    private static final String LUA_MERGE_HYPER_LOG_LOG_SCRIPT_PATH = "lua/mergeHyperLogLog.lua";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final CacheExtensionProperties.Cardinality cardinalityProperties;
+
+    // 时间桶键 -> 本地草图
+    private final Map<BucketKey, HyperLogLogSketch> sketches = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService flushExecutor;
+
+    public CardinalityCounter(StringRedisTemplate stringRedisTemplate,
+                              CacheExtensionProperties.Cardinality cardinalityProperties) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.cardinalityProperties = cardinalityProperties;
+        this.flushExecutor = Executors.newSingleThreadScheduledExecutor(
+                ThreadFactoryBuilder.builder().prefix("cache-cardinality-flush").daemon(true).build()
+        );
+        long interval = cardinalityProperties.getFlushIntervalMillis();
+        this.flushExecutor.scheduleWithFixedDelay(this::flushQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 向当前时间桶添加元素（仅在本地合并，由后台线程定期刷新到 Redis）
+     *
+     * @param name    统计项名称
+     * @param element 元素
+     */
+    public void add(@NotBlank String name, @NotBlank String element) {
+        add(name, element, System.currentTimeMillis());
+    }
+
+    /**
+     * 向指定时间所属的时间桶添加元素
+     *
+     * @param name            统计项名称
+     * @param element         元素
+     * @param timestampMillis 事件时间戳 (单位: 毫秒)
+     */
+    public void add(@NotBlank String name, @NotBlank String element, long timestampMillis) {
+        sketches.computeIfAbsent(new BucketKey(name, bucketOf(timestampMillis)), each -> new HyperLogLogSketch())
+                .add(element);
+    }
+
+    /**
+     * 统计当前时间桶的基数（不含本节点尚未刷新的元素）
+     *
+     * @param name 统计项名称
+     * @return 基数估计值
+     */
+    public long count(@NotBlank String name) {
+        long now = System.currentTimeMillis();
+        return count(name, now, now);
+    }
+
+    /**
+     * 统计时间区间内全部时间桶的并集基数（不含本节点尚未刷新的元素）
+     *
+     * @param name       统计项名称
+     * @param fromMillis 起始时间戳 (单位: 毫秒，包含)
+     * @param toMillis   结束时间戳 (单位: 毫秒，包含)
+     * @return 基数估计值
+     */
+    public long count(@NotBlank String name, long fromMillis, long toMillis) {
+        String[] keys = LongStream.rangeClosed(bucketOf(fromMillis), bucketOf(toMillis))
+                .mapToObj(each -> bucketKey(name, each))
+                .toArray(String[]::new);
+        if (keys.length == 0) {
+            return 0L;
+        }
+        return Optional.ofNullable(stringRedisTemplate.opsForHyperLogLog().size(keys)).orElse(0L);
+    }
+
+    /**
+     * 立即将全部存在变化的本地草图合并到 Redis，并回收已结束时间桶的草图
+     */
+    public void flush() {
+        DefaultRedisScript<Long> mergeScript = Singleton.get(LUA_MERGE_HYPER_LOG_LOG_SCRIPT_PATH, () -> {
+            DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+            redisScript.setScriptSource(
+                    new ResourceScriptSource(new ClassPathResource(LUA_MERGE_HYPER_LOG_LOG_SCRIPT_PATH))
+            );
+            redisScript.setResultType(Long.class);
+            return redisScript;
+        });
+        long currentBucket = bucketOf(System.currentTimeMillis());
+        byte[] keyTimeout = String.valueOf(cardinalityProperties.getKeyTimeoutMillis())
+                .getBytes(StandardCharsets.UTF_8);
+        RuntimeException failure = null;
+        for (Map.Entry<BucketKey, HyperLogLogSketch> each : List.copyOf(sketches.entrySet())) {
+            BucketKey bucketKey = each.getKey();
+            HyperLogLogSketch sketch = each.getValue();
+            // 早于上一个时间桶的草图不再接收新元素，移除后做最后一次合并
+            if (bucketKey.bucket() < currentBucket - 1) {
+                sketches.remove(bucketKey, sketch);
+            }
+            if (!sketch.clearDirty()) {
+                continue;
+            }
+            String key = bucketKey(bucketKey.name(), bucketKey.bucket());
+            String mergeKey = CacheUtil.buildKey(key, MERGE_SEGMENT, UUID.randomUUID().toString());
+            try {
+                stringRedisTemplate.execute(mergeScript,
+                        RedisSerializer.byteArray(),
+                        new GenericToStringSerializer<>(Long.class),
+                        List.of(key, mergeKey),
+                        sketch.toRedisDense(),
+                        keyTimeout);
+            } catch (RuntimeException ex) {
+                // 合并失败时恢复变化标记并放回草图，等待下次刷新
+                sketch.markDirty();
+                sketches.putIfAbsent(bucketKey, sketch);
+                failure = ex;
+            }
+        }
+        if (Objects.nonNull(failure)) {
+            throw failure;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        flushExecutor.shutdown();
+        flushQuietly();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException ex) {
+            log.warn("[Omega Starter] - Flushing cardinality sketches failed, they will be retried.", ex);
+        }
+    }
+
+    private long bucketOf(long timestampMillis) {
+        return timestampMillis / cardinalityProperties.getBucketMillis();
+    }
+
+    /**
+     * 时间桶键，统计项名称作为哈希标签，使同一统计项的全部时间桶位于同一槽位
+     */
+    private static String bucketKey(String name, long bucket) {
+        return CacheUtil.buildKey(KEY_SEGMENT, "{" + name + "}", String.valueOf(bucket));
+    }
+
+    /**
+     * 本地草图所属的统计项与时间桶
+     *
+     * @param name   统计项名称
+     * @param bucket 时间桶序号
+     */
+    private record BucketKey(String name, long bucket) {
+    }
+}
@@ -0,0 +1,315 @@
+package com.lcsk42.starter.cache.redisson.counter;
+
+import com.lcsk42.starter.cache.redisson.config.CacheExtensionProperties;
+import com.lcsk42.starter.cache.redisson.util.CacheUtil;
+import com.lcsk42.starter.core.Singleton;
+import com.lcsk42.starter.core.threadpool.build.ThreadFactoryBuilder;
+import jakarta.validation.constraints.NotBlank;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scripting.support.ResourceScriptSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 高吞吐分布式计数器。
+ * <p>
+ * 计数增量先累加到进程内的 {@link LongAdder}（内部分段，避免线程竞争），
+ * 再按固定间隔通过脚本 INCRBY 到 N 个子键中的随机一个，把单个热点键的压力分散到多个子键上。
+ * 每个子键以计数器名称与子键序号作为哈希标签，集群模式下分布到不同槽位与节点，读取时在管道中逐个 GET 子键再汇总。
+ * 每次刷新只处理有增量的计数器，每批增量带有节点内唯一的刷新编号，失败后以同一编号重试，
+ * 由脚本保证同一批增量只累加一次；长时间没有增量且未被读取的计数器会释放本地状态。
+ * 精确读取时汇总全部子键与本地未刷新的增量，近似读取则直接使用本地估计值，不访问 Redis。
+ * </p>
+ */
+@Slf4j
+public class DistributedCounter implements DisposableBean {
+
+    private static final String SHARD_SEGMENT = "shard";
+
+    private static final String APPLIED_SEGMENT = "applied";
+
+    private static final String LUA_COUNTER_FLUSH_SCRIPT_PATH = "lua/counterFlush.lua";
+
+    private static final long MIN_APPLIED_MARK_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final CacheExtensionProperties.Counter counterProperties;
+
+    private final Map<String, CounterState> counters = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService flushExecutor;
+
+    // 节点标识，与刷新编号一起识别已经累加过的增量
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final AtomicLong flushSequence = new AtomicLong();
+
+    public DistributedCounter(StringRedisTemplate stringRedisTemplate, CacheExtensionProperties.Counter counterProperties) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.counterProperties = counterProperties;
+        this.flushExecutor = Executors.newSingleThreadScheduledExecutor(
+                ThreadFactoryBuilder.builder().prefix("cache-counter-flush").daemon(true).build()
+        );
+        long interval = counterProperties.getFlushIntervalMillis();
+        this.flushExecutor.scheduleWithFixedDelay(this::flushQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 计数加一
+     *
+     * @param name 计数器名称
+     */
+    public void increment(@NotBlank String name) {
+        add(name, 1L);
+    }
+
+    /**
+     * 累加计数增量（仅在本地累加，由后台线程定期刷新到 Redis）
+     *
+     * @param name  计数器名称
+     * @param delta 增量
+     */
+    public void add(@NotBlank String name, long delta) {
+        CounterState state = state(name);
+        state.pending.add(delta);
+        if (state.retired) {
+            // 本地状态已被释放，把增量转移到新的状态上，避免随旧状态丢失
+            long orphaned = state.pending.sumThenReset();
+            if (orphaned != 0) {
+                state(name).pending.add(orphaned);
+            }
+        }
+    }
+
+    /**
+     * 精确读取：汇总 Redis 中全部子键的计数与本节点尚未刷新的增量
+     *
+     * @param name 计数器名称
+     * @return 计数值
+     */
+    public long get(@NotBlank String name) {
+        CounterState state = state(name);
+        state.lastActiveMillis = System.currentTimeMillis();
+        List<String> shardKeys = shardKeys(name);
+        List<Object> values = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            shardKeys.forEach(each -> connection.stringCommands().get(rawKey(each)));
+            return null;
+        });
+        long remote = sum(values);
+        state.remoteEstimate = remote;
+        return remote + state.unflushed();
+    }
+
+    /**
+     * 近似读取：使用最近一次刷新或精确读取得到的远端总数加上本地未刷新的增量，不访问 Redis
+     *
+     * @param name 计数器名称
+     * @return 估计的计数值
+     */
+    public long estimate(@NotBlank String name) {
+        CounterState state = state(name);
+        state.lastActiveMillis = System.currentTimeMillis();
+        return state.remoteEstimate + state.unflushed();
+    }
+
+    /**
+     * 立即将有增量的计数器刷新到 Redis，刷新这些计数器的远端估计值，并释放长时间闲置的计数器
+     */
+    public synchronized void flush() {
+        long now = System.currentTimeMillis();
+        List<String> names = new ArrayList<>();
+        List<CounterState> dirty = new ArrayList<>();
+        counters.forEach((name, state) -> {
+            if (Objects.isNull(state.inFlight)) {
+                long delta = state.pending.sumThenReset();
+                if (delta != 0) {
+                    // 每批增量随机选择一个子键，使各节点的写入分散到不同子键；重试时沿用同一子键与编号
+                    state.inFlight = new FlushBatch(
+                            ThreadLocalRandom.current().nextInt(counterProperties.getShards()),
+                            delta,
+                            String.valueOf(flushSequence.incrementAndGet())
+                    );
+                }
+            }
+            if (Objects.nonNull(state.inFlight)) {
+                state.lastActiveMillis = now;
+                names.add(name);
+                dirty.add(state);
+            } else if (counterProperties.getIdleTimeoutMillis() > 0
+                    && now - state.lastActiveMillis >= counterProperties.getIdleTimeoutMillis()) {
+                retire(name, state);
+            }
+        });
+        if (dirty.isEmpty()) {
+            return;
+        }
+        DefaultRedisScript<Long> script = flushScript();
+        String appliedTimeout = String.valueOf(Math.max(MIN_APPLIED_MARK_TIMEOUT_MILLIS,
+                counterProperties.getFlushIntervalMillis() * 10));
+        String keyTimeout = String.valueOf(counterProperties.getKeyTimeoutMillis());
+        // 脚本逐个执行（连接不支持在管道中执行脚本）；刷新失败时剩余批次保留在 inFlight 中，
+        // 下次以相同编号重试，已经累加过的批次不会重复累加
+        for (int i = 0; i < dirty.size(); i++) {
+            String name = names.get(i);
+            CounterState state = dirty.get(i);
+            FlushBatch batch = state.inFlight;
+            stringRedisTemplate.execute(script,
+                    List.of(shardKey(name, batch.shard()), appliedKey(name, batch.shard())),
+                    String.valueOf(batch.delta()), batch.id(), appliedTimeout, keyTimeout);
+            state.inFlight = null;
+        }
+        // 子键分布在不同槽位，在管道中逐个 GET 刷新远端估计值，结果依次为每个计数器的各子键
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            names.forEach(name -> shardKeys(name).forEach(each -> connection.stringCommands().get(rawKey(each))));
+            return null;
+        });
+        int shards = counterProperties.getShards();
+        for (int i = 0; i < dirty.size(); i++) {
+            dirty.get(i).remoteEstimate = sum(results.subList(i * shards, (i + 1) * shards));
+        }
+    }
+
+    @Override
+    public void destroy() {
+        flushExecutor.shutdown();
+        flushQuietly();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException ex) {
+            log.warn("[Omega Starter] - Flushing distributed counters failed, deltas will be retried.", ex);
+        }
+    }
+
+    private CounterState state(String name) {
+        return counters.computeIfAbsent(name, each -> new CounterState(System.currentTimeMillis()));
+    }
+
+    /**
+     * 释放闲置计数器的本地状态，释放前后并发累加的增量转移到新的状态上
+     */
+    private void retire(String name, CounterState state) {
+        state.retired = true;
+        counters.remove(name, state);
+        long orphaned = state.pending.sumThenReset();
+        if (orphaned != 0) {
+            state(name).pending.add(orphaned);
+        }
+    }
+
+    private List<String> shardKeys(String name) {
+        List<String> keys = new ArrayList<>(counterProperties.getShards());
+        for (int i = 0; i < counterProperties.getShards(); i++) {
+            keys.add(shardKey(name, i));
+        }
+        return keys;
+    }
+
+    /**
+     * 子键以计数器名称与子键序号作为哈希标签，同一计数器的子键分散到不同槽位，每个子键与其刷新标记位于同一槽位
+     */
+    private static String shardKey(String name, int shard) {
+        return CacheUtil.buildKey(hashTag(name, shard), SHARD_SEGMENT);
+    }
+
+    /**
+     * 本节点写入某个子键的最后一个刷新编号，按子键区分以便与子键在同一脚本中访问
+     */
+    private String appliedKey(String name, int shard) {
+        return CacheUtil.buildKey(hashTag(name, shard), SHARD_SEGMENT, APPLIED_SEGMENT, nodeId);
+    }
+
+    private static String hashTag(String name, int shard) {
+        return "{" + CacheUtil.buildKey(name, String.valueOf(shard)) + "}";
+    }
+
+    @SuppressWarnings("unchecked")
+    private byte[] rawKey(String key) {
+        return ((RedisSerializer<String>) stringRedisTemplate.getKeySerializer()).serialize(key);
+    }
+
+    private static DefaultRedisScript<Long> flushScript() {
+        return Singleton.get(LUA_COUNTER_FLUSH_SCRIPT_PATH, () -> {
+            DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+            redisScript.setScriptSource(
+                    new ResourceScriptSource(new ClassPathResource(LUA_COUNTER_FLUSH_SCRIPT_PATH))
+            );
+            redisScript.setResultType(Long.class);
+            return redisScript;
+        });
+    }
+
+    private static long sum(List<?> values) {
+        if (Objects.isNull(values)) {
+            return 0L;
+        }
+        return values.stream()
+                .filter(Objects::nonNull)
+                .mapToLong(each -> NumberUtils.toLong(each.toString()))
+                .sum();
+    }
+
+    /**
+     * 一批待刷新的增量
+     *
+     * @param shard 写入的子键序号
+     * @param delta 增量
+     * @param id    节点内唯一的刷新编号
+     */
+    private record FlushBatch(int shard, long delta, String id) {
+    }
+
+    /**
+     * 单个计数器的本地状态
+     */
+    private static final class CounterState {
+
+        // 尚未刷新到 Redis 的本地增量
+        private final LongAdder pending = new LongAdder();
+
+        // 已取出但尚未确认写入 Redis 的增量，仅由刷新线程修改
+        private volatile FlushBatch inFlight;
+
+        // 最近一次得知的 Redis 中全部子键的计数总和
+        private volatile long remoteEstimate;
+
+        // 最近一次有增量刷新或被读取的时间
+        private volatile long lastActiveMillis;
+
+        // 状态已从计数器表中移除
+        private volatile boolean retired;
+
+        private CounterState(long lastActiveMillis) {
+            this.lastActiveMillis = lastActiveMillis;
+        }
+
+        /**
+         * 本地尚未确认写入 Redis 的增量，包括刷新失败待重试的批次
+         */
+        private long unflushed() {
+            FlushBatch batch = inFlight;
+            return pending.sum() + (Objects.isNull(batch) ? 0L : batch.delta());
+        }
+    }
+}
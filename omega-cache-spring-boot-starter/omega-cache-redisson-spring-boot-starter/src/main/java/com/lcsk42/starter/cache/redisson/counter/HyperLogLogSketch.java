@@ -0,0 +1,141 @@
+package com.lcsk42.starter.cache.redisson.counter;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 与 Redis 编码兼容的进程内 HyperLogLog。
+ * <p>
+ * 哈希函数、寄存器数量 (2^14) 与计数规则均与 Redis 实现一致，
+ * 因此本地寄存器可以直接编码为 Redis 稠密格式并通过 PFMERGE 合并，合并结果与逐个 PFADD 相同。
+ * 寄存器以 CAS 取最大值的方式更新，多线程写入无需加锁。
+ * </p>
+ */
+public class HyperLogLogSketch {
+
+    private static final int P = 14;
+
+    private static final int Q = 64 - P;
+
+    private static final int REGISTERS = 1 << P;
+
+    private static final int REGISTER_BITS = 6;
+
+    private static final int REGISTER_MAX = (1 << REGISTER_BITS) - 1;
+
+    private static final int HEADER_BYTES = 16;
+
+    private static final int DENSE_BYTES = HEADER_BYTES + (REGISTERS * REGISTER_BITS + 7) / 8;
+
+    private static final long MURMUR_SEED = 0xadc83b19L;
+
+    private static final long MURMUR_M = 0xc6a4a7935bd1e995L;
+
+    private static final int MURMUR_R = 47;
+
+    private static final VarHandle REGISTER_HANDLE = MethodHandles.arrayElementVarHandle(byte[].class);
+
+    private final byte[] registers = new byte[REGISTERS];
+
+    // 自上次编码后寄存器是否发生变化
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    /**
+     * 添加元素
+     *
+     * @param element 元素
+     */
+    public void add(String element) {
+        byte[] bytes = element.getBytes(StandardCharsets.UTF_8);
+        long hash = murmurHash64A(bytes);
+        int index = (int) (hash & (REGISTERS - 1));
+        // 与 Redis 一致：剩余位的最低位 1 的位置作为计数，补一个哨兵位保证计数不超过 Q + 1
+        byte count = (byte) (Long.numberOfTrailingZeros((hash >>> P) | (1L << Q)) + 1);
+        byte current;
+        do {
+            current = (byte) REGISTER_HANDLE.getVolatile(registers, index);
+            if (current >= count) {
+                return;
+            }
+        } while (!REGISTER_HANDLE.compareAndSet(registers, index, current, count));
+        dirty.set(true);
+    }
+
+    /**
+     * 清除变化标记
+     *
+     * @return 清除前是否存在未编码的变化
+     */
+    public boolean clearDirty() {
+        return dirty.getAndSet(false);
+    }
+
+    /**
+     * 重新标记为存在变化，用于合并失败后等待下次重试
+     */
+    public void markDirty() {
+        dirty.set(true);
+    }
+
+    /**
+     * 编码为 Redis 稠密格式：头部为魔数 HYLL、编码类型与失效的基数缓存，随后为按小端顺序紧凑排列的 6 位寄存器
+     *
+     * @return 稠密格式字节
+     */
+    public byte[] toRedisDense() {
+        byte[] dense = new byte[DENSE_BYTES];
+        dense[0] = 'H';
+        dense[1] = 'Y';
+        dense[2] = 'L';
+        dense[3] = 'L';
+        // 基数缓存最高位置 1 表示缓存失效，PFCOUNT 时重新计算
+        dense[15] = (byte) 0x80;
+        for (int i = 0; i < REGISTERS; i++) {
+            int value = (byte) REGISTER_HANDLE.getVolatile(registers, i) & REGISTER_MAX;
+            int position = HEADER_BYTES + i * REGISTER_BITS / 8;
+            int shift = i * REGISTER_BITS & 7;
+            dense[position] |= (byte) (value << shift);
+            if (shift > 8 - REGISTER_BITS) {
+                dense[position + 1] |= (byte) (value >>> (8 - shift));
+            }
+        }
+        return dense;
+    }
+
+    /**
+     * Redis 使用的 MurmurHash64A（小端读取，种子 0xadc83b19）
+     */
+    static long murmurHash64A(byte[] data) {
+        int length = data.length;
+        long h = MURMUR_SEED ^ (length * MURMUR_M);
+        int blocks = length - (length & 7);
+        for (int i = 0; i < blocks; i += 8) {
+            long k = (data[i] & 0xFFL)
+                    | (data[i + 1] & 0xFFL) << 8
+                    | (data[i + 2] & 0xFFL) << 16
+                    | (data[i + 3] & 0xFFL) << 24
+                    | (data[i + 4] & 0xFFL) << 32
+                    | (data[i + 5] & 0xFFL) << 40
+                    | (data[i + 6] & 0xFFL) << 48
+                    | (data[i + 7] & 0xFFL) << 56;
+            k *= MURMUR_M;
+            k ^= k >>> MURMUR_R;
+            k *= MURMUR_M;
+            h ^= k;
+            h *= MURMUR_M;
+        }
+        int remaining = length & 7;
+        if (remaining > 0) {
+            for (int i = remaining - 1; i >= 0; i--) {
+                h ^= (data[blocks + i] & 0xFFL) << (8 * i);
+            }
+            h *= MURMUR_M;
+        }
+        h ^= h >>> MURMUR_R;
+        h *= MURMUR_M;
+        h ^= h >>> MURMUR_R;
+        return h;
+    }
+}
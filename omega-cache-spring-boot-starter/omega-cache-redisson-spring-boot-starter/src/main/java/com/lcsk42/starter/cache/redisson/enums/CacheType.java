@@ -0,0 +1,18 @@
+package com.lcsk42.starter.cache.redisson.enums;
+
+/**
+ * 分布式缓存实现类型枚举
+ */
+public enum CacheType {
+
+    /**
+     * 基于 Redis 的分布式缓存
+     */
+    REDIS,
+
+    /**
+     * 进程内缓存，适用于单实例部署及无 Redis 的测试环境
+     */
+    LOCAL,
+    ;
+}
@@ -0,0 +1,18 @@
+package com.lcsk42.starter.cache.redisson.enums;
+
+/**
+ * 缓存加载并发预算耗尽时的处理策略枚举
+ */
+public enum LoaderOverflowPolicy {
+
+    /**
+     * 等待许可，超过最长等待时间后抛出异常
+     */
+    WAIT,
+
+    /**
+     * 优先返回上次加载的过期副本，不存在副本时等待许可
+     */
+    STALE,
+    ;
+}
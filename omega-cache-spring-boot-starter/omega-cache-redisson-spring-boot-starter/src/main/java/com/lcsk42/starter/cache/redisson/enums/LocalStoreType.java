@@ -0,0 +1,18 @@
+package com.lcsk42.starter.cache.redisson.enums;
+
+/**
+ * 进程内缓存存储类型枚举
+ */
+public enum LocalStoreType {
+
+    /**
+     * 堆内存储，值以对象引用形式保存
+     */
+    HEAP,
+
+    /**
+     * 堆外存储，值序列化后保存在直接内存中，不占用堆空间
+     */
+    OFF_HEAP,
+    ;
+}
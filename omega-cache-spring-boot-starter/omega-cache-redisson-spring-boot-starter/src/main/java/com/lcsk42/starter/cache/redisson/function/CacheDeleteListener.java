@@ -0,0 +1,22 @@
+package com.lcsk42.starter.cache.redisson.function;
+
+/**
+ * 按模式批量删除缓存时的进度回调。
+ *
+ * <p>
+ * 每完成一个批次的删除后回调一次，可用于记录删除进度；
+ * 返回 {@code false} 时将在当前批次结束后取消后续扫描与删除。
+ * </p>
+ */
+@FunctionalInterface
+public interface CacheDeleteListener {
+
+    /**
+     * 批次删除完成后的回调。
+     *
+     * @param scanned 截至当前已扫描到的键数量
+     * @param deleted 截至当前已删除的键数量
+     * @return {@code true} 继续删除，{@code false} 取消后续批次
+     */
+    boolean onBatch(long scanned, long deleted);
+}
@@ -0,0 +1,25 @@
+package com.lcsk42.starter.cache.redisson.function;
+
+/**
+ * 基于当前缓存值计算新值的回调。
+ *
+ * <p>
+ * 用于乐观并发更新：当提交时发现值已被其他调用方修改，回调会以最新值再次执行，
+ * 因此实现应当无副作用，且可被安全地重复调用。
+ * 每次调用收到的当前值都是从缓存的保存形式重新反序列化得到的独立副本，
+ * 回调可以直接修改并返回它，提交失败时修改不会影响缓存，也不会带入下一次重试。
+ * </p>
+ *
+ * @param <T> 缓存值的类型
+ */
+@FunctionalInterface
+public interface CacheUpdater<T> {
+
+    /**
+     * 根据当前值计算新值。
+     *
+     * @param current 当前缓存值的独立副本，键不存在时为 {@code null}
+     * @return 新值，返回 {@code null} 表示删除该键
+     */
+    T apply(T current);
+}
@@ -0,0 +1,180 @@
+package com.lcsk42.starter.cache.redisson.ratelimit;
+
+import com.lcsk42.starter.cache.redisson.config.CacheExtensionProperties;
+import com.lcsk42.starter.cache.redisson.util.CacheUtil;
+import com.lcsk42.starter.core.Singleton;
+import jakarta.validation.constraints.NotBlank;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 分布式令牌桶限流器。
+ * <p>
+ * 令牌桶状态保存在 Redis 中，由 Lua 脚本按服务端时间补充令牌并原子扣减。
+ * 每个节点一次租借一批令牌，在本地用 CAS 计数逐个发放，只有本地令牌耗尽或租期结束时才访问 Redis。
+ * 批量大小按本节点观察到的消耗自适应：租期内用完则加倍，租期结束仍有剩余则缩小到实际用量，
+ * 且不超过桶容量的固定比例；租期结束后未用完的令牌在下次访问 Redis 时归还令牌桶，不会超发，也不会白白作废。
+ * </p>
+ */
+public class DistributedRateLimiter {
+
+    private static final String KEY_SEGMENT = "rate_limiter";
+
+    private static final String LUA_TOKEN_BUCKET_SCRIPT_PATH = "lua/tokenBucket.lua";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final CacheExtensionProperties.RateLimiter rateLimiterProperties;
+
+    private final Map<String, LeasedTokens> leases = new ConcurrentHashMap<>();
+
+    // 上次清理过期租约的时间戳，清理最多每个租期执行一次
+    private final AtomicLong lastEvictAt = new AtomicLong();
+
+    public DistributedRateLimiter(StringRedisTemplate stringRedisTemplate,
+                                  CacheExtensionProperties.RateLimiter rateLimiterProperties) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.rateLimiterProperties = rateLimiterProperties;
+    }
+
+    /**
+     * 尝试获取一个令牌
+     *
+     * @param key            限流键
+     * @param permits        令牌桶容量
+     * @param intervalMillis 令牌桶从空补满所需的时间 (单位: 毫秒)
+     * @return 是否获取成功
+     */
+    public boolean tryAcquire(@NotBlank String key, long permits, long intervalMillis) {
+        LeasedTokens lease = leases.computeIfAbsent(key, each -> new LeasedTokens());
+        if (lease.tryTake(System.currentTimeMillis())) {
+            return true;
+        }
+        // 本地令牌耗尽，向 Redis 租借一批，批量大小不超过容量的固定比例，避免令牌滞留在单个节点
+        long maxBatch = Math.max(1L, Math.min(rateLimiterProperties.getMaxLeaseSize(),
+                (long) (permits * rateLimiterProperties.getLeaseRatio())));
+        LeasedTokens.Renewal renewal = lease.renew(System.currentTimeMillis(), maxBatch);
+        long granted = lease(key, permits, intervalMillis, renewal.batch(), renewal.returned());
+        if (granted <= 0L) {
+            return false;
+        }
+        lease.refill(granted - 1, System.currentTimeMillis() + rateLimiterProperties.getLeaseMillis());
+        evictExpiredLeases();
+        return true;
+    }
+
+    private long lease(String key, long permits, long intervalMillis, long batch, long returned) {
+        DefaultRedisScript<Long> tokenBucketScript = Singleton.get(LUA_TOKEN_BUCKET_SCRIPT_PATH, () -> {
+            DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+            redisScript.setScriptSource(
+                    new ResourceScriptSource(new ClassPathResource(LUA_TOKEN_BUCKET_SCRIPT_PATH))
+            );
+            redisScript.setResultType(Long.class);
+            return redisScript;
+        });
+        Long granted = stringRedisTemplate.execute(tokenBucketScript,
+                List.of(CacheUtil.buildKey(KEY_SEGMENT, key)),
+                String.valueOf(permits),
+                String.valueOf(Math.max(1L, intervalMillis)),
+                String.valueOf(batch),
+                String.valueOf(returned));
+        return Objects.isNull(granted) ? 0L : granted;
+    }
+
+    /**
+     * 本地租约数量超过上限时清理已过期的租约，避免按用户等高基数维度限流时无限增长；
+     * 每个租期最多由一个线程清理一次，避免数量持续超限时每次访问 Redis 都遍历全部租约
+     */
+    private void evictExpiredLeases() {
+        if (leases.size() <= rateLimiterProperties.getMaxLocalKeys()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long last = lastEvictAt.get();
+        if (now - last < rateLimiterProperties.getLeaseMillis() || !lastEvictAt.compareAndSet(last, now)) {
+            return;
+        }
+        leases.values().removeIf(each -> each.isExpired(now));
+    }
+
+    /**
+     * 从 Redis 租借到本地的令牌
+     */
+    private static final class LeasedTokens {
+
+        private final AtomicLong tokens = new AtomicLong();
+
+        private volatile long expireAt;
+
+        // 最近一次租借的令牌数量
+        private long granted;
+
+        // 下次租借的批量大小
+        private long nextBatch = 1L;
+
+        boolean tryTake(long now) {
+            if (isExpired(now)) {
+                return false;
+            }
+            long current;
+            while ((current = tokens.get()) > 0L) {
+                if (tokens.compareAndSet(current, current - 1L)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * 准备续租：取出已过期租约的剩余令牌用于归还，并按上一批的使用情况调整批量大小
+         */
+        synchronized Renewal renew(long now, long maxBatch) {
+            long returned = 0L;
+            if (isExpired(now)) {
+                returned = Math.max(0L, tokens.getAndSet(0L));
+                if (granted > 0L) {
+                    // 租期结束仍有剩余，按实际用量缩小批量
+                    nextBatch = Math.max(1L, granted - returned);
+                }
+            } else if (tokens.get() <= 0L && granted > 0L) {
+                // 租期内已用完，加倍批量
+                nextBatch = granted * 2;
+            }
+            granted = 0L;
+            return new Renewal(Math.min(maxBatch, nextBatch), returned);
+        }
+
+        synchronized void refill(long granted, long expireAt) {
+            // 旧租约的剩余令牌已在续租时取出归还，过期时直接替换，否则在其基础上累加
+            if (isExpired(System.currentTimeMillis())) {
+                tokens.set(granted);
+            } else {
+                tokens.addAndGet(granted);
+            }
+            // 统计本次租借的总量（含当前调用方取走的一个）
+            this.granted += granted + 1;
+            this.expireAt = expireAt;
+        }
+
+        boolean isExpired(long now) {
+            return now >= expireAt;
+        }
+
+        /**
+         * 续租参数
+         *
+         * @param batch    本次租借的批量大小
+         * @param returned 归还令牌桶的剩余令牌数量
+         */
+        record Renewal(long batch, long returned) {
+        }
+    }
+}
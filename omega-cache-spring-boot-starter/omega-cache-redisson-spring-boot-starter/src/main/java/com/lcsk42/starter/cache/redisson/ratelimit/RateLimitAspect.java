@@ -0,0 +1,67 @@
+package com.lcsk42.starter.cache.redisson.ratelimit;
+
+import com.lcsk42.starter.cache.redisson.annotation.RateLimit;
+import com.lcsk42.starter.cache.redisson.util.CacheUtil;
+import com.lcsk42.starter.core.exception.base.ClientException;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link RateLimit} 注解的切面，按注解配置的名称与 SpEL 维度获取令牌，获取失败时抛出 {@link ClientException}
+ */
+@Aspect
+@RequiredArgsConstructor
+public class RateLimitAspect {
+
+    private static final String NULL_KEY = "null";
+
+    private final DistributedRateLimiter distributedRateLimiter;
+
+    private final ExpressionParser expressionParser = new SpelExpressionParser();
+
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+
+    private final Map<String, Expression> expressions = new ConcurrentHashMap<>();
+
+    @Around("@annotation(rateLimit)")
+    public Object around(ProceedingJoinPoint joinPoint, RateLimit rateLimit) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        if (!distributedRateLimiter.tryAcquire(resolveKey(joinPoint, method, rateLimit),
+                rateLimit.permits(),
+                rateLimit.timeUnit().toMillis(rateLimit.interval()))) {
+            throw new ClientException(rateLimit.message());
+        }
+        return joinPoint.proceed();
+    }
+
+    private String resolveKey(ProceedingJoinPoint joinPoint, Method method, RateLimit rateLimit) {
+        String name = StringUtils.isNotBlank(rateLimit.name())
+                ? rateLimit.name()
+                : method.getDeclaringClass().getName() + "." + method.getName();
+        if (StringUtils.isBlank(rateLimit.key())) {
+            return name;
+        }
+        MethodBasedEvaluationContext context = new MethodBasedEvaluationContext(
+                joinPoint.getTarget(), method, joinPoint.getArgs(), parameterNameDiscoverer);
+        Object dimension = expressions
+                .computeIfAbsent(rateLimit.key(), expressionParser::parseExpression)
+                .getValue(context);
+        return CacheUtil.buildKey(name,
+                Objects.isNull(dimension) ? NULL_KEY : StringUtils.defaultIfBlank(dimension.toString(), NULL_KEY));
+    }
+}
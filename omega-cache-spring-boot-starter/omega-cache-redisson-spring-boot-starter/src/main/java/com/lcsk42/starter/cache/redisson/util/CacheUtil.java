@@ -1,14 +1,32 @@
 package com.lcsk42.starter.cache.redisson.util;
 
+import com.lcsk42.starter.core.threadpool.build.ThreadPoolBuilder;
+import com.lcsk42.starter.json.jackson.util.JacksonUtil;
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 public final class CacheUtil {
 
     private static final String SPLICING_OPERATOR = ":";
 
+    private static final String HASH_TAG_START = "{";
+
+    private static final String HASH_TAG_END = "}";
+
+    private static final String GLOB_SPECIAL_CHARS = "*?[]\\";
+
+    // 标记当前线程正在执行分组任务，嵌套调用时直接在当前线程执行，避免占满线程池后相互等待
+    private static final ThreadLocal<Boolean> INVOKING = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
     /**
      * 通过使用下划线连接提供的键来构建缓存键。
      * 如果任何键为 null 或空，则抛出 RuntimeException。
@@ -35,4 +53,127 @@ public final class CacheUtil {
     public static boolean isNullOrBlank(Object cacheVal) {
         return Objects.isNull(cacheVal) || (cacheVal instanceof String && StringUtils.isBlank((String) cacheVal));
     }
+
+    /**
+     * 将缓存值序列化为保存形式：字符串原样保存，其他类型序列化为 JSON。
+     *
+     * @param value 缓存值
+     * @return 序列化后的字符串，value 为 null 时返回 null
+     */
+    public static String serialize(Object value) {
+        return value instanceof String string ? string : JacksonUtil.toJSON(value);
+    }
+
+    /**
+     * 按 {@link #serialize(Object)} 的规则将保存形式反序列化为目标类型，每次调用都返回新的实例。
+     *
+     * @param value 保存形式的字符串
+     * @param clazz 目标类型
+     * @param <T>   目标类型
+     * @return 反序列化后的值，value 为 null 时返回 null
+     */
+    public static <T> T deserialize(String value, Class<T> clazz) {
+        if (String.class.isAssignableFrom(clazz)) {
+            return clazz.cast(value);
+        }
+        return JacksonUtil.fromJson(value, clazz);
+    }
+
+    /**
+     * 获取键的路由部分。
+     * 若键中包含非空的哈希标签（如 {@code {user:1}:profile}），则仅返回标签内容，
+     * 与 Redis Cluster 的槽位计算规则保持一致，使相同标签的键落在同一节点。
+     *
+     * @param key 缓存键
+     * @return 用于计算路由的键内容
+     */
+    public static String hashTag(String key) {
+        int start = key.indexOf(HASH_TAG_START);
+        if (start < 0) {
+            return key;
+        }
+        int end = key.indexOf(HASH_TAG_END, start + 1);
+        if (end < 0 || end == start + 1) {
+            return key;
+        }
+        return key.substring(start + 1, end);
+    }
+
+    /**
+     * 转义 Redis glob 模式中的特殊字符（*、?、[、]、\），使文本在 MATCH 等模式中按字面匹配。
+     *
+     * @param text 原始文本
+     * @return 转义后的文本，text 为 null 时返回空字符串
+     */
+    public static String escapeGlob(String text) {
+        if (StringUtils.isEmpty(text)) {
+            return StringUtils.EMPTY;
+        }
+        StringBuilder escaped = new StringBuilder(text.length() + 8);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (GLOB_SPECIAL_CHARS.indexOf(c) >= 0) {
+                escaped.append('\\');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * 在缓存专用线程池中并行执行各分组任务，并按分组顺序返回结果。
+     * <p>
+     * 第一个分组在调用方线程执行；线程池饱和时由调用方线程执行被拒绝的分组，不会抛出 RejectedExecutionException；
+     * 在分组任务内部嵌套调用时全部分组在当前线程顺序执行，避免线程池线程等待排在自己之后的任务。
+     * </p>
+     *
+     * @param groups   待执行的分组
+     * @param function 每个分组的执行逻辑
+     * @param <T>      分组类型
+     * @param <R>      结果类型
+     * @return 按分组顺序排列的执行结果
+     */
+    public static <T, R> List<R> invokeAll(Collection<T> groups, Function<T, R> function) {
+        List<T> inputs = new ArrayList<>(groups);
+        if (inputs.size() <= 1 || INVOKING.get()) {
+            return inputs.stream()
+                    .map(function)
+                    .toList();
+        }
+        List<CompletableFuture<R>> futures = inputs.stream()
+                .skip(1)
+                .map(each -> CompletableFuture.supplyAsync(() -> invoke(function, each), InvokerHolder.EXECUTOR))
+                .toList();
+        R first = invoke(function, inputs.get(0));
+        return Stream.concat(Stream.of(first), futures.stream().map(CompletableFuture::join))
+                .toList();
+    }
+
+    private static <T, R> R invoke(Function<T, R> function, T group) {
+        if (INVOKING.get()) {
+            return function.apply(group);
+        }
+        INVOKING.set(Boolean.TRUE);
+        try {
+            return function.apply(group);
+        } finally {
+            INVOKING.remove();
+        }
+    }
+
+    /**
+     * 缓存分组任务专用线程池，首次使用时创建
+     */
+    private static final class InvokerHolder {
+
+        private static final int CPU_CORE_NUM = Runtime.getRuntime().availableProcessors();
+
+        private static final ExecutorService EXECUTOR = ThreadPoolBuilder.builder()
+                .threadFactory("cache-invoke-", true)
+                .corePoolSize(CPU_CORE_NUM * 2)
+                .maximumPoolSize(CPU_CORE_NUM * 4)
+                .queueCapacity(1024)
+                .rejected(new ThreadPoolExecutor.CallerRunsPolicy())
+                .build();
+    }
 }
@@ -0,0 +1,85 @@
+package com.lcsk42.starter.cache.redisson.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * 一致性哈希环（Ketama 算法）。
+ * <p>
+ * 每个节点按名称生成若干虚拟节点分布在环上，键按 MD5 哈希顺时针查找最近的虚拟节点。
+ * 节点增减时仅影响相邻区间的键，构造完成后只读，线程安全。
+ * </p>
+ *
+ * @param <T> 节点类型
+ */
+public final class ConsistentHashRing<T> {
+
+    // 每次 MD5 摘要可产生的哈希值数量（16 字节 / 4 字节）
+    private static final int HASHES_PER_DIGEST = 4;
+
+    private final TreeMap<Long, T> ring = new TreeMap<>();
+
+    private final Collection<T> nodes;
+
+    /**
+     * 构造一致性哈希环
+     *
+     * @param nodes        节点名称与节点的映射，名称用于生成稳定的虚拟节点位置
+     * @param virtualNodes 每个节点的虚拟节点数量
+     */
+    public ConsistentHashRing(Map<String, T> nodes, int virtualNodes) {
+        if (nodes.isEmpty()) {
+            throw new IllegalArgumentException("Consistent hash ring requires at least one node");
+        }
+        int replicas = Math.max(1, virtualNodes / HASHES_PER_DIGEST);
+        nodes.forEach((name, node) -> {
+            for (int i = 0; i < replicas; i++) {
+                byte[] digest = md5(name + "-" + i);
+                for (int h = 0; h < HASHES_PER_DIGEST; h++) {
+                    ring.put(hash(digest, h), node);
+                }
+            }
+        });
+        this.nodes = nodes.values();
+    }
+
+    /**
+     * 获取键所属的节点
+     *
+     * @param key 路由键
+     * @return 所属节点
+     */
+    public T get(String key) {
+        SortedMap<Long, T> tailMap = ring.tailMap(hash(md5(key), 0));
+        return tailMap.isEmpty() ? ring.firstEntry().getValue() : tailMap.get(tailMap.firstKey());
+    }
+
+    /**
+     * 获取全部节点
+     *
+     * @return 节点集合
+     */
+    public Collection<T> getNodes() {
+        return nodes;
+    }
+
+    private static long hash(byte[] digest, int index) {
+        return ((long) (digest[3 + index * 4] & 0xFF) << 24)
+                | ((long) (digest[2 + index * 4] & 0xFF) << 16)
+                | ((long) (digest[1 + index * 4] & 0xFF) << 8)
+                | (digest[index * 4] & 0xFF);
+    }
+
+    private static byte[] md5(String value) {
+        try {
+            return MessageDigest.getInstance("MD5").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("MD5 algorithm is not available", ex);
+        }
+    }
+}
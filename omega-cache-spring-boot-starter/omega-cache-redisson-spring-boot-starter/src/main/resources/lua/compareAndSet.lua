@@ -0,0 +1,23 @@
+--[[Compare the SHA1 of the current value with the expected version (empty when absent), then set or delete it.
+    When a version key is given as KEYS[2], it is written or deleted together with the value]]
+
+local current = redis.call('get', KEYS[1]);
+local version = '';
+if (current) then
+    version = redis.sha1hex(current);
+end
+if (version ~= ARGV[1]) then
+    return 0;
+end
+if (ARGV[4] == '1') then
+    redis.call('del', KEYS[1]);
+    if (KEYS[2]) then
+        redis.call('del', KEYS[2]);
+    end
+else
+    redis.call('set', KEYS[1], ARGV[2], 'px', ARGV[3]);
+    if (KEYS[2]) then
+        redis.call('set', KEYS[2], ARGV[5], 'px', ARGV[3]);
+    end
+end
+return 1;
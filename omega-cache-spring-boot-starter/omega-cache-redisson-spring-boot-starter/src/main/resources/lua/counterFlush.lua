@@ -0,0 +1,10 @@
+--[[Apply the delta once per flush id: skip INCRBY when KEYS[2] already holds ARGV[2], then refresh the expirations]]
+
+if (redis.call('get', KEYS[2]) ~= ARGV[2]) then
+    redis.call('incrby', KEYS[1], ARGV[1]);
+    redis.call('set', KEYS[2], ARGV[2], 'px', ARGV[3]);
+end
+if (tonumber(ARGV[4]) > 0) then
+    redis.call('pexpire', KEYS[1], ARGV[4]);
+end
+return 1;
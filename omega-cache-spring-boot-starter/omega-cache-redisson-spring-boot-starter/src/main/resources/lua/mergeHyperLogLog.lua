@@ -0,0 +1,9 @@
+--[[Write the dense HyperLogLog in ARGV[1] to a temporary key, merge it into KEYS[1], then refresh the expiration]]
+
+redis.call('set', KEYS[2], ARGV[1]);
+redis.call('pfmerge', KEYS[1], KEYS[2]);
+redis.call('del', KEYS[2]);
+if (tonumber(ARGV[2]) > 0) then
+    redis.call('pexpire', KEYS[1], ARGV[2]);
+end
+return 1;
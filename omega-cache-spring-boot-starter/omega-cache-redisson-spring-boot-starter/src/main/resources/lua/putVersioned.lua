@@ -0,0 +1,5 @@
+--[[Set the value and its version stamp in one step so readers never see one without the other]]
+
+redis.call('set', KEYS[1], ARGV[1], 'px', ARGV[3]);
+redis.call('set', KEYS[2], ARGV[2], 'px', ARGV[3]);
+return 1;
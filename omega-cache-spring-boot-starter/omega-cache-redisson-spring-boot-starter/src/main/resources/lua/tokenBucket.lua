@@ -0,0 +1,20 @@
+--[[Refill the token bucket by elapsed server time and ARGV[4] returned tokens, then grant up to ARGV[3] tokens and return the granted count]]
+
+local capacity = tonumber(ARGV[1]);
+local interval = tonumber(ARGV[2]);
+local requested = tonumber(ARGV[3]);
+local returned = tonumber(ARGV[4]) or 0;
+local time = redis.call('time');
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000);
+local bucket = redis.call('hmget', KEYS[1], 'tokens', 'timestamp');
+local tokens = tonumber(bucket[1]);
+local timestamp = tonumber(bucket[2]);
+if (tokens == nil or timestamp == nil) then
+    tokens = capacity;
+    timestamp = now;
+end
+tokens = math.min(capacity, tokens + math.max(0, now - timestamp) * capacity / interval + returned);
+local granted = math.min(requested, math.floor(tokens));
+redis.call('hset', KEYS[1], 'tokens', tostring(tokens - granted), 'timestamp', tostring(now));
+redis.call('pexpire', KEYS[1], interval * 2);
+return granted;
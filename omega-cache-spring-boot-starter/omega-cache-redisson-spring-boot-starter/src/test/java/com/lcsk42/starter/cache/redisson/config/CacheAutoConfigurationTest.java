@@ -0,0 +1,65 @@
+package com.lcsk42.starter.cache.redisson.config;
+
+import com.lcsk42.starter.cache.redisson.core.LocalDistributedCache;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RBloomFilter;
+import org.redisson.api.RedissonClient;
+import org.redisson.spring.starter.RedissonAutoConfigurationV2;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 进程内缓存模式下自动配置过滤与缓存穿透 Bloom 过滤器的上下文测试
+ */
+class CacheAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(AutoConfigurationApplication.class)
+            .withBean(RedissonClient.class, CacheAutoConfigurationTest::redissonClient)
+            .withPropertyValues(CacheExtensionProperties.TYPE + "=local");
+
+    @Test
+    void keepsRedissonWhenBloomFilterEnabledInLocalMode() {
+        contextRunner
+                .withPropertyValues(CacheExtensionProperties.BLOOM_FILTER + ".enabled=true")
+                .run(context -> {
+                    assertNull(context.getStartupFailure());
+                    assertEquals(1, context.getBeansOfType(RedissonAutoConfigurationV2.class).size());
+                    assertEquals(1, context.getBeansOfType(RBloomFilter.class).size());
+                    assertEquals(1, context.getBeansOfType(LocalDistributedCache.class).size());
+                });
+    }
+
+    @Test
+    void excludesRedissonWhenBloomFilterDisabledInLocalMode() {
+        contextRunner.run(context -> {
+            assertNull(context.getStartupFailure());
+            assertTrue(context.getBeansOfType(RedissonAutoConfigurationV2.class).isEmpty());
+            assertTrue(context.getBeansOfType(RBloomFilter.class).isEmpty());
+            assertEquals(1, context.getBeansOfType(LocalDistributedCache.class).size());
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RedissonClient redissonClient() {
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        when(redissonClient.<String>getBloomFilter(anyString())).thenReturn(mock(RBloomFilter.class));
+        return redissonClient;
+    }
+
+    /**
+     * 经由自动配置导入选择器加载自动配置，使过滤器生效
+     */
+    @Configuration(proxyBeanMethods = false)
+    @EnableAutoConfiguration
+    static class AutoConfigurationApplication {
+    }
+}
@@ -0,0 +1,142 @@
+package com.lcsk42.starter.cache.redisson.core;
+
+import com.lcsk42.starter.cache.redisson.config.CacheExtensionProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 自动管道合并器在批次中部分命令出错时的结果分发测试
+ */
+class AutoPipelinerTest {
+
+    private static final String BAD_KEY = "bad";
+
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+
+    private final AtomicInteger pipelineCalls = new AtomicInteger();
+
+    private AutoPipeliner autoPipeliner;
+
+    @AfterEach
+    void tearDown() {
+        if (autoPipeliner != null) {
+            autoPipeliner.shutdown();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void completesEachCommandFromPipelineResults() throws Exception {
+        InvalidDataAccessApiUsageException failure = new InvalidDataAccessApiUsageException("WRONGTYPE");
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            pipelineCalls.incrementAndGet();
+            throw new RedisPipelineException("Pipeline contained one or more invalid commands",
+                    List.of(bytes("A"), failure, bytes("C")));
+        });
+
+        List<CompletableFuture<Object>> futures = submitBatch();
+
+        assertEquals("A", futures.get(0).get(5, TimeUnit.SECONDS));
+        assertEquals(failure, failureOf(futures.get(1)));
+        assertEquals("C", futures.get(2).get(5, TimeUnit.SECONDS));
+        assertEquals(1, pipelineCalls.get());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void isolatesBadCommandWhenPipelineResultsAreMissing() throws Exception {
+        // 与 Redisson 一致：批次中有命令出错时只抛出异常，不返回逐条结果
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            pipelineCalls.incrementAndGet();
+            List<String> keys = issuedKeys(invocation.getArgument(0, RedisCallback.class));
+            if (keys.contains(BAD_KEY)) {
+                throw new RedisPipelineException(new IllegalStateException("WRONGTYPE"));
+            }
+            return new ArrayList<Object>(keys.stream().map(String::toUpperCase).toList());
+        });
+
+        List<CompletableFuture<Object>> futures = submitBatch();
+
+        assertEquals("A", futures.get(0).get(5, TimeUnit.SECONDS));
+        assertInstanceOf(RedisPipelineException.class, failureOf(futures.get(1)));
+        assertEquals("C", futures.get(2).get(5, TimeUnit.SECONDS));
+        assertEquals(4, pipelineCalls.get());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void failsWholeBatchOnConnectionFailure() throws Exception {
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            pipelineCalls.incrementAndGet();
+            throw new RedisPipelineException(new RedisConnectionFailureException("connection reset"));
+        });
+
+        List<CompletableFuture<Object>> futures = submitBatch();
+
+        for (CompletableFuture<Object> future : futures) {
+            assertInstanceOf(RedisPipelineException.class, failureOf(future));
+        }
+        assertEquals(1, pipelineCalls.get());
+    }
+
+    /**
+     * 提交恰好一个批次的三条 GET 命令，中间一条为出错的命令
+     */
+    private List<CompletableFuture<Object>> submitBatch() {
+        doReturn(RedisSerializer.string()).when(stringRedisTemplate).getValueSerializer();
+        CacheExtensionProperties.AutoPipeline properties = new CacheExtensionProperties.AutoPipeline();
+        properties.setBatchSize(3);
+        properties.setWindowMicros(TimeUnit.SECONDS.toMicros(5));
+        autoPipeliner = new AutoPipeliner(stringRedisTemplate, properties);
+        List<CompletableFuture<Object>> futures = new ArrayList<>();
+        for (String key : List.of("a", BAD_KEY, "c")) {
+            futures.add(autoPipeliner.submit(connection -> connection.stringCommands().get(bytes(key))));
+        }
+        return futures;
+    }
+
+    private static List<String> issuedKeys(RedisCallback<Object> callback) {
+        List<String> keys = new ArrayList<>();
+        RedisStringCommands stringCommands = mock(RedisStringCommands.class);
+        when(stringCommands.get(any(byte[].class))).thenAnswer(invocation -> {
+            keys.add(new String(invocation.getArgument(0, byte[].class), StandardCharsets.UTF_8));
+            return null;
+        });
+        RedisConnection connection = mock(RedisConnection.class);
+        when(connection.stringCommands()).thenReturn(stringCommands);
+        callback.doInRedis(connection);
+        return keys;
+    }
+
+    private static Throwable failureOf(CompletableFuture<Object> future) {
+        return assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS)).getCause();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
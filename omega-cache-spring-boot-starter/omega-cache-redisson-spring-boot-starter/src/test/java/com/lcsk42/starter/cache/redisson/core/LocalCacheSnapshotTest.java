@@ -0,0 +1,111 @@
+package com.lcsk42.starter.cache.redisson.core;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lcsk42.starter.cache.redisson.config.CacheExtensionProperties;
+import com.lcsk42.starter.cache.redisson.enums.LocalStoreType;
+import com.lcsk42.starter.core.ApplicationContextHolder;
+import lombok.Data;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 进程内缓存快照的重启往返测试
+ */
+class LocalCacheSnapshotTest {
+
+    private static GenericApplicationContext applicationContext;
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * 值的序列化经由 JacksonUtil，其 ObjectMapper 取自 ApplicationContextHolder 持有的上下文
+     */
+    @BeforeAll
+    static void setUpApplicationContext() {
+        applicationContext = new GenericApplicationContext();
+        applicationContext.registerBean(ObjectMapper.class, () -> Jackson2ObjectMapperBuilder.json().build());
+        applicationContext.registerBean(ApplicationContextHolder.class);
+        applicationContext.refresh();
+    }
+
+    @AfterAll
+    static void closeApplicationContext() {
+        applicationContext.close();
+    }
+
+    @ParameterizedTest
+    @EnumSource(LocalStoreType.class)
+    void restoresValuesAfterRestart(LocalStoreType storeType) {
+        Path path = tempDir.resolve("local-cache.snapshot");
+        Pojo pojo = new Pojo();
+        pojo.setName("omega");
+        pojo.setTags(List.of("a", "b"));
+
+        LocalDistributedCache before = new LocalDistributedCache(properties(storeType, path));
+        before.put("string", "plain");
+        before.put("json-like-string", "\"quoted\"");
+        before.put("pojo", pojo);
+        before.putIfAllAbsent(List.of("placeholder"));
+        before.destroy();
+
+        LocalDistributedCache after = new LocalDistributedCache(properties(storeType, path));
+        assertEquals("plain", after.get("string", String.class));
+        assertEquals("\"quoted\"", after.get("json-like-string", String.class));
+        assertEquals(pojo, after.get("pojo", Pojo.class));
+        // 占位条目同样恢复，键仍被占用
+        assertEquals(Boolean.FALSE, after.putIfAllAbsent(List.of("placeholder")));
+        assertNull(after.get("missing", String.class));
+    }
+
+    @Test
+    void restoresNullValue() throws Exception {
+        Path path = tempDir.resolve("null-value.snapshot");
+        long expireAt = System.currentTimeMillis() + 60_000L;
+        LocalCacheSnapshot.write(path, List.of(
+                new LocalCacheSnapshot.SnapshotEntry("null", null, expireAt),
+                new LocalCacheSnapshot.SnapshotEntry("next", "value", expireAt)
+        ));
+
+        LocalCacheSnapshot snapshot = LocalCacheSnapshot.open(path);
+        assertNotNull(snapshot);
+        LocalCacheSnapshot.SnapshotEntry restored = snapshot.take("null");
+        assertNotNull(restored);
+        assertNull(restored.value());
+        assertEquals(expireAt, restored.expireAt());
+        // 空值之后的条目偏移量仍然正确
+        assertEquals("value", snapshot.take("next").value());
+        assertFalse(snapshot.keys().contains("null"));
+    }
+
+    private static CacheExtensionProperties properties(LocalStoreType storeType, Path path) {
+        CacheExtensionProperties properties = new CacheExtensionProperties();
+        properties.getLocal().setStoreType(storeType);
+        properties.getLocal().setOffHeapCapacityBytes(64L * 1024 * 1024);
+        properties.getLocal().setSnapshotEnabled(Boolean.TRUE);
+        properties.getLocal().setSnapshotPath(path.toString());
+        return properties;
+    }
+
+    @Data
+    static class Pojo {
+
+        private String name;
+
+        private List<String> tags;
+    }
+}
@@ -0,0 +1,50 @@
+package com.lcsk42.starter.cache.redisson.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 堆外缓存存储无法保存新值时的覆盖测试
+ */
+class OffHeapLocalCacheStoreTest {
+
+    private static final long EXPIRE_AT = Long.MAX_VALUE;
+
+    @Test
+    void removesOldEntryWhenAllocationFails() {
+        // 只有一页，页已归属小槽位级别且仍有存活条目，更大的级别无法取得页
+        OffHeapLocalCacheStore store = new OffHeapLocalCacheStore(1 << 20);
+        store.put("key", new LocalCacheStore.LocalEntry("v1", EXPIRE_AT));
+        store.put("other", new LocalCacheStore.LocalEntry("kept", EXPIRE_AT));
+
+        store.put("key", new LocalCacheStore.LocalEntry("v".repeat(4096), EXPIRE_AT));
+
+        assertNull(store.get("key"));
+        assertEquals("kept", store.get("other").value());
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void removesOldEntryWhenValueIsTooLarge() {
+        OffHeapLocalCacheStore store = new OffHeapLocalCacheStore(1 << 20);
+        store.put("key", new LocalCacheStore.LocalEntry("v1", EXPIRE_AT));
+
+        store.put("key", new LocalCacheStore.LocalEntry("v".repeat(2 << 20), EXPIRE_AT));
+
+        assertNull(store.get("key"));
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void overwritesInPlaceWithinSameSizeClass() {
+        OffHeapLocalCacheStore store = new OffHeapLocalCacheStore(1 << 20);
+        store.put("key", new LocalCacheStore.LocalEntry("v1", EXPIRE_AT));
+
+        store.put("key", new LocalCacheStore.LocalEntry("v2", EXPIRE_AT));
+
+        assertEquals("v2", store.get("key").value());
+        assertEquals(1, store.size());
+    }
+}
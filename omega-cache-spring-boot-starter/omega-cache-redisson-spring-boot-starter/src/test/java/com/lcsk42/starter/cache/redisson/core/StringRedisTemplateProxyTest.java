@@ -0,0 +1,59 @@
+package com.lcsk42.starter.cache.redisson.core;
+
+import com.lcsk42.starter.cache.redisson.config.CacheExtensionProperties;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 缓存代理按模式删除时的匹配模式测试
+ */
+class StringRedisTemplateProxyTest {
+
+    @Test
+    void escapesGlobCharactersInPrefixWhenDeletingByPattern() {
+        List<String> patterns = scannedPatterns("tenant[1]*?\\:", "user:*");
+
+        assertEquals(List.of("tenant\\[1\\]\\*\\?\\\\:user:*"), patterns);
+    }
+
+    @Test
+    void keepsPlainPrefixWhenDeletingByPattern() {
+        assertEquals(List.of("app:order:?1"), scannedPatterns("app:", "order:?1"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> scannedPatterns(String prefix, String pattern) {
+        CacheExtensionProperties properties = new CacheExtensionProperties();
+        properties.setPrefix(prefix);
+        List<String> patterns = new ArrayList<>();
+        Cursor<byte[]> cursor = mock(Cursor.class);
+        RedisKeyCommands keyCommands = mock(RedisKeyCommands.class);
+        when(keyCommands.scan(any(ScanOptions.class))).thenAnswer(invocation -> {
+            patterns.add(invocation.getArgument(0, ScanOptions.class).getPattern());
+            return cursor;
+        });
+        RedisConnection connection = mock(RedisConnection.class);
+        when(connection.keyCommands()).thenReturn(keyCommands);
+        StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+        when(stringRedisTemplate.execute(any(RedisCallback.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0, RedisCallback.class).doInRedis(connection));
+
+        new StringRedisTemplateProxy(stringRedisTemplate, properties, mock(RedissonClient.class))
+                .deleteByPattern(pattern);
+        return patterns;
+    }
+}
@@ -4,14 +4,39 @@ import com.lcsk42.starter.core.ApplicationContextHolder;
 import com.lcsk42.starter.core.designpattern.chain.AbstractChainContext;
 import com.lcsk42.starter.core.designpattern.strategy.AbstractStrategyChoose;
 import com.lcsk42.starter.core.init.ApplicationContentPostProcessor;
+import com.lcsk42.starter.core.threadpool.autosize.ThreadPoolAutoSizer;
 import com.lcsk42.starter.core.threadpool.build.ThreadPoolBuilder;
+import com.lcsk42.starter.core.threadpool.bulkhead.BulkheadRegistrar;
+import com.lcsk42.starter.core.threadpool.context.ContextCarrier;
+import com.lcsk42.starter.core.threadpool.context.ContextCarrierRegistrar;
+import com.lcsk42.starter.core.threadpool.context.MdcContextCarrier;
+import com.lcsk42.starter.core.threadpool.dynamic.DynamicThreadPoolRefresher;
+import com.lcsk42.starter.core.threadpool.dynamic.ThreadPoolEndpoint;
+import com.lcsk42.starter.core.threadpool.monitor.MonitoredThreadPoolExecutor;
+import com.lcsk42.starter.core.threadpool.monitor.ThreadPoolMeterBinder;
+import com.lcsk42.starter.core.threadpool.timer.TimingWheelScheduler;
+import com.lcsk42.starter.core.threadpool.virtual.VirtualThreadPinningMonitor;
+import com.lcsk42.starter.core.util.GlobalThreadPool;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.Executor;
 
+@AutoConfiguration
 public class CoreAutoConfiguration {
 
     @Bean
@@ -19,6 +44,11 @@ public class CoreAutoConfiguration {
         return new ApplicationProperties();
     }
 
+    @Bean
+    public ThreadPoolProperties threadPoolProperties() {
+        return new ThreadPoolProperties();
+    }
+
     /**
      * 创建 ApplicationContextHolder bean（当不存在时）。
      *
@@ -47,15 +77,140 @@ public class CoreAutoConfiguration {
      * 配置默认线程池包含以下特性：
      * - 线程名前缀 "default-pool-"
      * - 非守护线程
+     * - 可通过 framework.thread-pool.task-executor.virtual 切换为虚拟线程
      *
-     * @return 配置好的 ThreadPoolExecutor 实例
+     * @param threadPoolProperties 线程池配置属性
+     * @return 配置好的 ThreadPoolExecutor 或 VirtualThreadExecutor 实例
      */
     @Bean
     @Primary
-    public Executor taskExecutor() {
+    public Executor taskExecutor(ThreadPoolProperties threadPoolProperties) {
+        ThreadPoolProperties.Pool pool = threadPoolProperties.getTaskExecutor();
         return ThreadPoolBuilder.builder()
                 .threadFactory("default-pool-", false)
-                .build();
+                .poolName("task-executor")
+                .virtual(pool.isVirtual())
+                .maxConcurrency(pool.getMaxConcurrency())
+                .buildExecutorService();
+    }
+
+    /**
+     * 全局线程池配置为虚拟线程时，在单例初始化完成后按配置重建 GlobalThreadPool
+     *
+     * @param threadPoolProperties 线程池配置属性
+     */
+    @Bean
+    public SmartInitializingSingleton globalThreadPoolInitializer(ThreadPoolProperties threadPoolProperties) {
+        return () -> {
+            ThreadPoolProperties.Pool pool = threadPoolProperties.getGlobal();
+            if (pool.isVirtual()) {
+                GlobalThreadPool.init(true, pool.getMaxConcurrency());
+            }
+        };
+    }
+
+    /**
+     * 虚拟线程钉住检测
+     *
+     * @param threadPoolProperties 线程池配置属性
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = ThreadPoolProperties.PINNING_DETECTION, name = "enabled", havingValue = "true")
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(ThreadPoolProperties threadPoolProperties) {
+        return new VirtualThreadPinningMonitor(
+                Duration.ofMillis(threadPoolProperties.getPinningDetection().getThresholdMillis())
+        );
+    }
+
+    /**
+     * 分层时间轮调度器，到期任务分发到名为 timing-wheel-dispatch 的线程池
+     *
+     * @param threadPoolProperties 线程池配置属性
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = ThreadPoolProperties.TIMER, name = "enabled", havingValue = "true")
+    public TimingWheelScheduler timingWheelScheduler(ThreadPoolProperties threadPoolProperties) {
+        ThreadPoolProperties.Timer timer = threadPoolProperties.getTimer();
+        return TimingWheelScheduler.create("timing-wheel",
+                Duration.ofMillis(timer.getTickMillis()),
+                timer.getWheelSize());
+    }
+
+    /**
+     * 在单例初始化完成后应用线程池慢任务检测配置
+     *
+     * @param threadPoolProperties 线程池配置属性
+     */
+    @Bean
+    public SmartInitializingSingleton threadPoolMonitorInitializer(ThreadPoolProperties threadPoolProperties) {
+        return () -> {
+            ThreadPoolProperties.Monitor monitor = threadPoolProperties.getMonitor();
+            MonitoredThreadPoolExecutor.configureSlowTaskDetection(monitor.getSlowTaskThresholdMillis(),
+                    monitor.isCaptureSubmitterStack());
+        };
+    }
+
+    /**
+     * 按配置的键跨线程传递 MDC
+     *
+     * @param threadPoolProperties 线程池配置属性
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public MdcContextCarrier mdcContextCarrier(ThreadPoolProperties threadPoolProperties) {
+        return new MdcContextCarrier(threadPoolProperties.getContext().getMdcKeys());
+    }
+
+    /**
+     * 将容器中的上下文载体注册到 ContextPropagation
+     *
+     * @param contextCarriers 上下文载体
+     */
+    @Bean
+    public ContextCarrierRegistrar contextCarrierRegistrar(ObjectProvider<ContextCarrier<?>> contextCarriers) {
+        return new ContextCarrierRegistrar(contextCarriers);
+    }
+
+    /**
+     * 按配置调整已注册线程池的参数，并响应配置中心刷新
+     *
+     * @param environment Spring 环境
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public DynamicThreadPoolRefresher dynamicThreadPoolRefresher(Environment environment) {
+        return new DynamicThreadPoolRefresher(environment);
+    }
+
+    /**
+     * 按负载自动调整 framework.thread-pool.auto-sizing.pools 中列出的线程池大小
+     *
+     * @param threadPoolProperties 线程池配置属性
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = ThreadPoolProperties.AUTO_SIZING, name = "enabled", havingValue = "true")
+    public ThreadPoolAutoSizer threadPoolAutoSizer(ThreadPoolProperties threadPoolProperties) {
+        ThreadPoolProperties.AutoSizing autoSizing = threadPoolProperties.getAutoSizing();
+        Map<String, ThreadPoolAutoSizer.Bounds> bounds = new LinkedHashMap<>();
+        autoSizing.getPools().forEach((poolName, each) ->
+                bounds.put(poolName, new ThreadPoolAutoSizer.Bounds(each.getMinThreads(), each.getMaxThreads())));
+        return new ThreadPoolAutoSizer(Duration.ofMillis(autoSizing.getIntervalMillis()),
+                autoSizing.getTargetUtilization(),
+                autoSizing.getHysteresis(),
+                autoSizing.getScaleDownSamples(),
+                autoSizing.isMeasureCpuTime(),
+                bounds);
+    }
+
+    /**
+     * 按 framework.thread-pool.bulkheads 配置注册按名称隔离的舱壁线程池
+     */
+    @Bean
+    public static BulkheadRegistrar bulkheadRegistrar() {
+        return new BulkheadRegistrar();
     }
 
     /**
@@ -74,4 +229,25 @@ public class CoreAutoConfiguration {
         return new AbstractChainContext();
     }
 
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    static class ThreadPoolMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public ThreadPoolMeterBinder threadPoolMeterBinder() {
+            return new ThreadPoolMeterBinder();
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(Endpoint.class)
+    static class ThreadPoolEndpointConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public ThreadPoolEndpoint threadPoolEndpoint() {
+            return new ThreadPoolEndpoint();
+        }
+    }
 }
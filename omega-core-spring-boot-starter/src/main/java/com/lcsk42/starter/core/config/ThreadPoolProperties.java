@@ -0,0 +1,292 @@
+package com.lcsk42.starter.core.config;
+
+import com.lcsk42.starter.core.enums.RejectedPolicy;
+import com.lcsk42.starter.core.enums.WorkQueueType;
+import com.lcsk42.starter.core.threadpool.dynamic.ThreadPoolSpec;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 线程池配置属性
+ */
+@Data
+@ConfigurationProperties(ThreadPoolProperties.PREFIX)
+public class ThreadPoolProperties {
+
+    public static final String PREFIX = "framework.thread-pool";
+
+    public static final String PINNING_DETECTION = PREFIX + ".pinning-detection";
+
+    public static final String DYNAMIC = PREFIX + ".dynamic";
+
+    public static final String BULKHEADS = PREFIX + ".bulkheads";
+
+    public static final String TIMER = PREFIX + ".timer";
+
+    public static final String AUTO_SIZING = PREFIX + ".auto-sizing";
+
+    /**
+     * 默认任务执行器（taskExecutor）
+     */
+    private Pool taskExecutor = new Pool();
+
+    /**
+     * 全局线程池（GlobalThreadPool）
+     */
+    private Pool global = new Pool();
+
+    /**
+     * 虚拟线程钉住检测
+     */
+    private PinningDetection pinningDetection = new PinningDetection();
+
+    /**
+     * 线程池监控
+     */
+    private Monitor monitor = new Monitor();
+
+    /**
+     * 上下文传递
+     */
+    private Context context = new Context();
+
+    /**
+     * 运行期线程池参数调整，键为线程池名称（如 task-executor、global），未配置的参数保持不变
+     */
+    private Map<String, ThreadPoolSpec> dynamic = new LinkedHashMap<>();
+
+    /**
+     * 时间轮调度器
+     */
+    private Timer timer = new Timer();
+
+    /**
+     * 按负载自动调整线程池大小
+     */
+    private AutoSizing autoSizing = new AutoSizing();
+
+    /**
+     * 按名称隔离的线程池（舱壁），键为线程池名称，每个线程池注册为同名的 ExecutorService Bean
+     */
+    private Map<String, Bulkhead> bulkheads = new LinkedHashMap<>();
+
+    /**
+     * 单个线程池配置
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Pool {
+
+        /**
+         * 是否使用虚拟线程
+         */
+        private boolean virtual = false;
+
+        /**
+         * 虚拟线程模式下的最大并发数，小于等于 0 表示不限制
+         */
+        private int maxConcurrency = 0;
+    }
+
+    /**
+     * 舱壁线程池配置，未配置的线程数沿用 ThreadPoolBuilder 的默认值
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bulkhead {
+
+        /**
+         * 核心线程数
+         */
+        private Integer corePoolSize;
+
+        /**
+         * 最大线程数
+         */
+        private Integer maximumPoolSize;
+
+        /**
+         * 空闲线程保活时间 (单位: 毫秒)
+         */
+        private long keepAliveMillis = 30_000L;
+
+        /**
+         * 工作队列容量，舱壁应保持较小的队列以便依赖变慢时尽快拒绝而不是无限堆积
+         */
+        private int queueCapacity = 256;
+
+        /**
+         * 工作队列类型
+         */
+        private WorkQueueType workQueueType = WorkQueueType.RESIZABLE;
+
+        /**
+         * 是否使用快速消费模式
+         */
+        private boolean eager = false;
+
+        /**
+         * 队列已满且线程数达到最大值时的拒绝策略
+         */
+        private RejectedPolicy rejectedPolicy = RejectedPolicy.ABORT;
+
+        /**
+         * 是否使用虚拟线程
+         */
+        private boolean virtual = false;
+
+        /**
+         * 虚拟线程模式下的最大并发数，小于等于 0 表示不限制
+         */
+        private int maxConcurrency = 0;
+    }
+
+    /**
+     * 虚拟线程钉住检测配置
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PinningDetection {
+
+        /**
+         * 是否启用
+         */
+        private boolean enabled = false;
+
+        /**
+         * 钉住时长阈值 (单位: 毫秒)，超过该时长才会记录
+         */
+        private long thresholdMillis = 20;
+    }
+
+    /**
+     * 线程池监控配置
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Monitor {
+
+        /**
+         * 慢任务阈值 (单位: 毫秒)，任务排队与执行总耗时超过该值时输出告警日志，小于等于 0 表示不检测
+         */
+        private long slowTaskThresholdMillis = 5000;
+
+        /**
+         * 是否在提交任务时记录调用栈，用于慢任务日志定位提交方。每次提交都会创建一个异常对象并采集调用栈，
+         * 开销远大于任务包装本身，默认关闭，仅在排查慢任务来源时临时开启
+         */
+        private boolean captureSubmitterStack = false;
+    }
+
+    /**
+     * 时间轮调度器配置
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Timer {
+
+        /**
+         * 是否启用
+         */
+        private boolean enabled = false;
+
+        /**
+         * 刻度 (单位: 毫秒)，即到期精度
+         */
+        private long tickMillis = 10;
+
+        /**
+         * 每层槽位数，向上取整为 2 的幂
+         */
+        private int wheelSize = 512;
+    }
+
+    /**
+     * 自动调整线程池大小配置
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AutoSizing {
+
+        /**
+         * 是否启用
+         */
+        private boolean enabled = false;
+
+        /**
+         * 采样间隔 (单位: 毫秒)
+         */
+        private long intervalMillis = 10_000L;
+
+        /**
+         * 目标利用率，取值 (0, 1]，越小预留的空闲线程越多
+         */
+        private double targetUtilization = 0.8D;
+
+        /**
+         * 滞后比例，所需线程数相对当前核心线程数的变化小于该比例时不调整
+         */
+        private double hysteresis = 0.2D;
+
+        /**
+         * 执行缩容所需的连续采样次数
+         */
+        private int scaleDownSamples = 3;
+
+        /**
+         * 是否统计受控线程池的任务 CPU 时间，用于估算阻塞比例并限制 CPU 密集型线程池的上限，不影响其他线程池
+         */
+        private boolean measureCpuTime = true;
+
+        /**
+         * 受控线程池，键为线程池名称，未列出的线程池不会被调整
+         */
+        private Map<String, Bounds> pools = new LinkedHashMap<>();
+    }
+
+    /**
+     * 线程数上下限
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bounds {
+
+        /**
+         * 最小核心线程数
+         */
+        private int minThreads = 1;
+
+        /**
+         * 最大线程数
+         */
+        private int maxThreads = Runtime.getRuntime().availableProcessors() * 8;
+    }
+
+    /**
+     * 上下文传递配置
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Context {
+
+        /**
+         * 需要跨线程传递的 MDC 键，只复制这些键而不是整个 MDC，为空时不传递 MDC
+         */
+        private List<String> mdcKeys = new ArrayList<>(List.of("traceId", "spanId", "requestId", "tenantId", "userId"));
+    }
+}
@@ -0,0 +1,18 @@
+package com.lcsk42.starter.core.enums;
+
+/**
+ * 多优先级队列出队策略枚举
+ */
+public enum PriorityDequeueMode {
+
+    /**
+     * 加权公平：按各优先级权重平滑轮转出队，低优先级任务按权重比例获得执行机会
+     */
+    WEIGHTED_FAIR,
+
+    /**
+     * 严格优先：总是先出队最高优先级的任务，低优先级任务仅依靠老化避免饿死
+     */
+    STRICT,
+    ;
+}
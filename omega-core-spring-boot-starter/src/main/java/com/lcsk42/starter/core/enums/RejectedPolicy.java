@@ -0,0 +1,45 @@
+package com.lcsk42.starter.core.enums;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 线程池拒绝策略枚举
+ */
+public enum RejectedPolicy {
+
+    /**
+     * 抛出 RejectedExecutionException
+     */
+    ABORT,
+
+    /**
+     * 在提交任务的线程中执行
+     */
+    CALLER_RUNS,
+
+    /**
+     * 静默丢弃新任务
+     */
+    DISCARD,
+
+    /**
+     * 丢弃队列中最早的任务后重新提交
+     */
+    DISCARD_OLDEST,
+    ;
+
+    /**
+     * 创建对应的拒绝策略处理器
+     *
+     * @return 拒绝策略处理器
+     */
+    public RejectedExecutionHandler createHandler() {
+        return switch (this) {
+            case ABORT -> new ThreadPoolExecutor.AbortPolicy();
+            case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+            case DISCARD -> new ThreadPoolExecutor.DiscardPolicy();
+            case DISCARD_OLDEST -> new ThreadPoolExecutor.DiscardOldestPolicy();
+        };
+    }
+}
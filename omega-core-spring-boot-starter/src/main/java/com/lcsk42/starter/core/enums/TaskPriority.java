@@ -0,0 +1,23 @@
+package com.lcsk42.starter.core.enums;
+
+/**
+ * 任务优先级枚举，声明顺序即优先级从高到低的顺序
+ */
+public enum TaskPriority {
+
+    /**
+     * 高优先级，适合面向用户的延迟敏感任务
+     */
+    HIGH,
+
+    /**
+     * 普通优先级，未指定优先级的任务使用该级别
+     */
+    NORMAL,
+
+    /**
+     * 低优先级，适合导出、批处理等后台任务
+     */
+    LOW,
+    ;
+}
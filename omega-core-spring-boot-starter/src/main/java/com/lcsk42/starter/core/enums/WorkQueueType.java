@@ -0,0 +1,23 @@
+package com.lcsk42.starter.core.enums;
+
+/**
+ * 线程池工作队列类型枚举
+ */
+public enum WorkQueueType {
+
+    /**
+     * 单锁有界队列，容量可在运行期调整
+     */
+    RESIZABLE,
+
+    /**
+     * 基于数组的无锁有界多生产者多消费者队列，容量向上取整为 2 的幂且不可调整，适合高频提交
+     */
+    LOCK_FREE,
+
+    /**
+     * 多优先级通道的有界队列，按任务优先级分通道排队并按出队策略与老化规则出队，不支持快速消费模式
+     */
+    PRIORITY,
+    ;
+}
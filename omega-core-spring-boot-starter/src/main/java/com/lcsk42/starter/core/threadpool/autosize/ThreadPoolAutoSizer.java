@@ -0,0 +1,257 @@
+package com.lcsk42.starter.core.threadpool.autosize;
+
+import com.lcsk42.starter.core.threadpool.build.ThreadFactoryBuilder;
+import com.lcsk42.starter.core.threadpool.dynamic.ThreadPoolRegistry;
+import com.lcsk42.starter.core.threadpool.dynamic.ThreadPoolSpec;
+import com.lcsk42.starter.core.threadpool.monitor.MonitoredThreadPoolExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 按实际负载调整线程池大小的控制器。
+ * <p>
+ * 按固定间隔对每个受控线程池采样（只控制由 ThreadPoolBuilder 构建、已注册到 {@link ThreadPoolRegistry} 的线程池），
+ * 根据采样间隔内的差值估算所需线程数：
+ * <ol>
+ *     <li>利特尔法则：并发数 = 到达率 × 平均执行耗时，到达率 = 完成数 + 队列增长 + 拒绝数；
+ *     再加上在一个采样间隔内消化当前积压所需的线程数，并除以目标利用率留出余量；</li>
+ *     <li>测得 CPU 时间时，以 CPU 核数 × (1 + 阻塞时间 / CPU 时间) 为上限，CPU 已饱和时增加线程无益；</li>
+ *     <li>不低于当前正在执行任务的线程数，间隔内没有任务完成（如长耗时任务）时不会因执行耗时未知而缩容；</li>
+ *     <li>结果限制在配置的上下限内。</li>
+ * </ol>
+ * 滞后：相对当前核心线程数的变化不足滞后比例（且至少 1 个线程）时不调整；
+ * 扩容在一次采样后立即执行，缩容需连续多次采样都建议缩容才执行，避免抖动；队列非空时不缩容。
+ * 启用 CPU 时间统计时只对受控线程池开启，不影响其他线程池。
+ * 核心线程数设为目标值，最大线程数设为目标值的 1.5 倍（不超过上限），
+ * 通过 {@link ThreadPoolRegistry#resize} 生效并记录来源为 {@value #SOURCE} 的变更，每次决策输出采样指标与原因。
+ * 注意与 {@code framework.thread-pool.dynamic} 配置同时作用于同一线程池时，以最后一次调整为准。
+ * </p>
+ */
+@Slf4j
+public class ThreadPoolAutoSizer implements SmartInitializingSingleton, DisposableBean {
+
+    public static final String SOURCE = "auto-sizing";
+
+    private static final int CPU_CORES = Runtime.getRuntime().availableProcessors();
+
+    private final Duration interval;
+
+    private final double targetUtilization;
+
+    private final double hysteresis;
+
+    private final int scaleDownSamples;
+
+    private final boolean measureCpuTime;
+
+    // 线程池名称 -> 线程数上下限
+    private final Map<String, Bounds> bounds;
+
+    // 线程池名称 -> 上一次采样，只由采样线程访问
+    private final Map<String, Sample> previousSamples = new HashMap<>();
+
+    private ScheduledExecutorService sampler;
+
+    /**
+     * 构造控制器，在单例初始化完成后开始采样
+     *
+     * @param interval          采样间隔
+     * @param targetUtilization 目标利用率，取值 (0, 1]，越小预留的空闲线程越多
+     * @param hysteresis        滞后比例，相对当前核心线程数的变化小于该比例时不调整
+     * @param scaleDownSamples  执行缩容所需的连续采样次数
+     * @param measureCpuTime    是否统计任务 CPU 时间以估算阻塞比例
+     * @param bounds            受控线程池名称与线程数上下限
+     */
+    public ThreadPoolAutoSizer(Duration interval,
+                               double targetUtilization,
+                               double hysteresis,
+                               int scaleDownSamples,
+                               boolean measureCpuTime,
+                               Map<String, Bounds> bounds) {
+        if (interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("Sampling interval must be positive");
+        }
+        if (targetUtilization <= 0D || targetUtilization > 1D) {
+            throw new IllegalArgumentException("Target utilization must be in (0, 1]");
+        }
+        bounds.forEach((poolName, each) -> {
+            if (each.minThreads() <= 0 || each.maxThreads() < each.minThreads()) {
+                throw new IllegalArgumentException("Invalid thread bounds of pool [" + poolName + "]: " + each);
+            }
+        });
+        this.interval = interval;
+        this.targetUtilization = targetUtilization;
+        this.hysteresis = Math.max(hysteresis, 0D);
+        this.scaleDownSamples = Math.max(scaleDownSamples, 1);
+        this.measureCpuTime = measureCpuTime;
+        this.bounds = Map.copyOf(bounds);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (bounds.isEmpty()) {
+            return;
+        }
+        sampler = Executors.newSingleThreadScheduledExecutor(ThreadFactoryBuilder.builder()
+                .prefix("thread-pool-auto-sizer-")
+                .daemon(true)
+                .build());
+        long intervalMillis = interval.toMillis();
+        sampler.scheduleWithFixedDelay(this::sampleAll, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        log.info("[Omega Starter] - Auto-sizing thread pools {} every {} ms.", bounds.keySet(), intervalMillis);
+    }
+
+    @Override
+    public void destroy() {
+        if (Objects.nonNull(sampler)) {
+            sampler.shutdownNow();
+        }
+    }
+
+    private void sampleAll() {
+        bounds.forEach((poolName, poolBounds) -> {
+            try {
+                ThreadPoolExecutor executor = ThreadPoolRegistry.get(poolName);
+                if (executor instanceof MonitoredThreadPoolExecutor monitoredExecutor) {
+                    sample(poolName, monitoredExecutor, poolBounds);
+                } else {
+                    previousSamples.remove(poolName);
+                }
+            } catch (RuntimeException ex) {
+                log.error("[Omega Starter] - Auto-sizing thread pool [{}] failed.", poolName, ex);
+            }
+        });
+    }
+
+    private void sample(String poolName, MonitoredThreadPoolExecutor executor, Bounds poolBounds) {
+        Sample current = new Sample(executor,
+                System.nanoTime(),
+                executor.getExecutedCount(),
+                executor.getTotalQueueWaitNanos(),
+                executor.getTotalExecutionNanos(),
+                executor.getTotalCpuNanos(),
+                executor.getRejectedCount().get(),
+                executor.getQueue().size(),
+                0);
+        Sample previous = previousSamples.get(poolName);
+        // 首次采样或同名线程池被替换时只记录基线
+        if (Objects.isNull(previous) || previous.executor() != executor) {
+            if (measureCpuTime) {
+                executor.setCpuTimeMeasurement(true);
+            }
+            previousSamples.put(poolName, current);
+            return;
+        }
+
+        long elapsedNanos = current.sampledAt() - previous.sampledAt();
+        long completed = current.executedCount() - previous.executedCount();
+        long executionNanos = current.executionNanos() - previous.executionNanos();
+        long cpuNanos = current.cpuNanos() - previous.cpuNanos();
+        long queueWaitNanos = current.queueWaitNanos() - previous.queueWaitNanos();
+        long rejected = current.rejectedCount() - previous.rejectedCount();
+        int queueGrowth = current.queueSize() - previous.queueSize();
+
+        double serviceNanos = completed > 0L ? (double) executionNanos / completed : 0D;
+        double arrivalsPerNano = Math.max(completed + queueGrowth + rejected, 0L) / (double) elapsedNanos;
+        // 利特尔法则：稳态所需的忙碌线程数，加上一个采样间隔内消化积压所需的线程数
+        double busyThreads = arrivalsPerNano * serviceNanos + current.queueSize() * serviceNanos / elapsedNanos;
+        int required = (int) Math.ceil(busyThreads / targetUtilization);
+        String reason = "little's law";
+        double blockingRatio = -1D;
+        if (cpuNanos > 0L && executionNanos > 0L) {
+            blockingRatio = Math.max(executionNanos - cpuNanos, 0L) / (double) cpuNanos;
+            int cpuBound = (int) Math.ceil(CPU_CORES * (1D + blockingRatio));
+            if (required > cpuBound) {
+                required = cpuBound;
+                reason = "cpu bound";
+            }
+        }
+        // 间隔内没有任务完成时执行耗时未知，以正在执行任务的线程数为下限
+        int activeThreads = executor.getActiveCount();
+        if (required < activeThreads) {
+            required = activeThreads;
+            reason = "active threads";
+        }
+        int target = Math.min(Math.max(required, poolBounds.minThreads()), poolBounds.maxThreads());
+
+        int currentCore = executor.getCorePoolSize();
+        int consecutiveDown = previous.consecutiveDown();
+        boolean significant = Math.abs(target - currentCore) >= Math.max(1D, currentCore * hysteresis);
+        boolean resize = false;
+        if (target > currentCore && significant) {
+            resize = true;
+            consecutiveDown = 0;
+        } else if (target < currentCore && significant && current.queueSize() > 0) {
+            // 队列非空（含仍在增长）说明线程并不富余，不缩容
+            consecutiveDown = 0;
+            reason = "queue not drained";
+        } else if (target < currentCore && significant) {
+            consecutiveDown++;
+            if (consecutiveDown >= scaleDownSamples) {
+                resize = true;
+                consecutiveDown = 0;
+            }
+        } else {
+            consecutiveDown = 0;
+        }
+        previousSamples.put(poolName, current.withConsecutiveDown(consecutiveDown));
+
+        String metrics = String.format("arrival %.1f/s, service %.2f ms, queue wait %.2f ms, queue %d (%+d), "
+                        + "active %d, rejected %d, blocking ratio %s",
+                arrivalsPerNano * TimeUnit.SECONDS.toNanos(1),
+                serviceNanos / TimeUnit.MILLISECONDS.toNanos(1),
+                completed > 0L ? (double) queueWaitNanos / completed / TimeUnit.MILLISECONDS.toNanos(1) : 0D,
+                current.queueSize(),
+                queueGrowth,
+                activeThreads,
+                rejected,
+                blockingRatio < 0D ? "n/a" : String.format("%.2f", blockingRatio));
+        if (!resize) {
+            log.debug("[Omega Starter] - Auto-sizing thread pool [{}] keeps {} threads, target {} ({}): {}",
+                    poolName, currentCore, target, reason, metrics);
+            return;
+        }
+        int maximumPoolSize = Math.min(Math.max(target + (target >> 1), target), poolBounds.maxThreads());
+        log.info("[Omega Starter] - Auto-sizing thread pool [{}] from {} to {} threads ({}): {}",
+                poolName, currentCore, target, reason, metrics);
+        ThreadPoolRegistry.resize(poolName, new ThreadPoolSpec(target, maximumPoolSize, null, null), SOURCE);
+    }
+
+    /**
+     * 线程数上下限
+     *
+     * @param minThreads 最小核心线程数
+     * @param maxThreads 最大线程数
+     */
+    public record Bounds(int minThreads, int maxThreads) {
+    }
+
+    /**
+     * 一次采样的累计值与连续建议缩容的次数
+     */
+    private record Sample(MonitoredThreadPoolExecutor executor,
+                          long sampledAt,
+                          long executedCount,
+                          long queueWaitNanos,
+                          long executionNanos,
+                          long cpuNanos,
+                          long rejectedCount,
+                          int queueSize,
+                          int consecutiveDown) {
+
+        private Sample withConsecutiveDown(int consecutiveDown) {
+            return new Sample(executor, sampledAt, executedCount, queueWaitNanos, executionNanos, cpuNanos,
+                    rejectedCount, queueSize, consecutiveDown);
+        }
+    }
+}
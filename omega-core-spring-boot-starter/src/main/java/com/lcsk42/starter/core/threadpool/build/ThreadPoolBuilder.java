@@ -1,6 +1,22 @@
 package com.lcsk42.starter.core.threadpool.build;
 
 import com.lcsk42.starter.core.designpattern.builder.Builder;
+import com.lcsk42.starter.core.enums.PriorityDequeueMode;
+import com.lcsk42.starter.core.enums.TaskPriority;
+import com.lcsk42.starter.core.enums.WorkQueueType;
+import com.lcsk42.starter.core.threadpool.dynamic.ResizableCapacityBlockingQueue;
+import com.lcsk42.starter.core.threadpool.dynamic.ThreadPoolRegistry;
+import com.lcsk42.starter.core.threadpool.eager.EagerTaskQueue;
+import com.lcsk42.starter.core.threadpool.eager.EagerThreadPoolExecutor;
+import com.lcsk42.starter.core.threadpool.eager.LockFreeTaskQueue;
+import com.lcsk42.starter.core.threadpool.eager.TaskQueue;
+import com.lcsk42.starter.core.threadpool.monitor.MonitoredThreadPoolExecutor;
+import com.lcsk42.starter.core.threadpool.overflow.SpillingRejectedExecutionHandler;
+import com.lcsk42.starter.core.threadpool.priority.PriorityLaneBlockingQueue;
+import com.lcsk42.starter.core.threadpool.priority.PriorityThreadPoolExecutor;
+import com.lcsk42.starter.core.threadpool.proxy.RejectedProxyUtil;
+import com.lcsk42.starter.core.threadpool.queue.MpmcArrayBlockingQueue;
+import com.lcsk42.starter.core.threadpool.virtual.VirtualThreadExecutor;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.springframework.util.Assert;
@@ -8,7 +24,7 @@ import org.springframework.util.Assert;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -17,6 +33,7 @@ import java.util.concurrent.TimeUnit;
 /**
  * 线程池构建器，提供流畅的 API 用于配置和创建 ThreadPoolExecutor 实例。
  * 这是一个不可变的构建器，具有线程安全性。
+ * 启用虚拟线程模式后，通过 {@link #buildExecutorService()} 创建带可选并发上限的虚拟线程执行器。
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ThreadPoolBuilder implements Builder<ThreadPoolExecutor> {
@@ -33,8 +50,23 @@ public final class ThreadPoolBuilder implements Builder<ThreadPoolExecutor> {
     // 默认时间单位为毫秒
     private TimeUnit timeUnit = TimeUnit.MILLISECONDS;
 
-    // 默认工作队列为无界队列，容量 4096
-    private BlockingQueue<Runnable> workQueue = new LinkedBlockingQueue<>(4096);
+    // 默认工作队列容量 4096
+    private int queueCapacity = 4096;
+
+    // 默认工作队列为可调整容量的有界队列
+    private WorkQueueType workQueueType = WorkQueueType.RESIZABLE;
+
+    // 多优先级队列的出队策略
+    private PriorityDequeueMode priorityDequeueMode = PriorityDequeueMode.WEIGHTED_FAIR;
+
+    // 多优先级队列各优先级的权重，依次对应 HIGH、NORMAL、LOW，默认 8:4:1
+    private int[] priorityWeights = {8, 4, 1};
+
+    // 多优先级队列的老化阈值，默认 2 秒，小于等于 0 表示不老化
+    private long priorityAgingMillis = 2_000L;
+
+    // 显式指定的工作队列，设置后忽略队列容量与类型
+    private BlockingQueue<Runnable> workQueue;
 
     // 默认拒绝策略为 AbortPolicy
     private RejectedExecutionHandler rejectedExecutionHandler = new ThreadPoolExecutor.AbortPolicy();
@@ -48,6 +80,18 @@ public final class ThreadPoolBuilder implements Builder<ThreadPoolExecutor> {
     // 线程工厂实例
     private ThreadFactory threadFactory;
 
+    // 注册到 ThreadPoolRegistry 的线程池名称，未设置时使用线程名称前缀
+    private String poolName;
+
+    // 是否使用快速消费模式（线程数未达到最大值前优先创建线程而不是排队）
+    private boolean eager = false;
+
+    // 是否使用虚拟线程（每任务一个虚拟线程，忽略线程数、队列与拒绝策略等参数）
+    private boolean virtual = false;
+
+    // 虚拟线程模式下的最大并发数，小于等于 0 表示不限制
+    private int maxConcurrency = 0;
+
     /**
      * 创建 ThreadPoolBuilder 实例的工厂方法
      *
@@ -161,7 +205,83 @@ public final class ThreadPoolBuilder implements Builder<ThreadPoolExecutor> {
     }
 
     /**
-     * 设置工作队列实现
+     * 设置工作队列容量
+     *
+     * @param queueCapacity 队列容量
+     * @return 当前构建器实例（用于方法链式调用）
+     * @throws IllegalArgumentException 如果 queueCapacity <= 0
+     */
+    public ThreadPoolBuilder queueCapacity(int queueCapacity) {
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be positive");
+        }
+        this.queueCapacity = queueCapacity;
+        return this;
+    }
+
+    /**
+     * 设置工作队列类型
+     *
+     * @param workQueueType 工作队列类型
+     * @return 当前构建器实例（用于方法链式调用）
+     */
+    public ThreadPoolBuilder workQueueType(WorkQueueType workQueueType) {
+        this.workQueueType = workQueueType;
+        return this;
+    }
+
+    /**
+     * 设置多优先级队列（{@link WorkQueueType#PRIORITY}）的出队策略
+     *
+     * @param priorityDequeueMode 出队策略
+     * @return 当前构建器实例（用于方法链式调用）
+     */
+    public ThreadPoolBuilder priorityDequeueMode(PriorityDequeueMode priorityDequeueMode) {
+        this.priorityDequeueMode = priorityDequeueMode;
+        return this;
+    }
+
+    /**
+     * 设置多优先级队列（{@link WorkQueueType#PRIORITY}）加权公平出队时各优先级的权重
+     *
+     * @param high   {@link TaskPriority#HIGH} 的权重
+     * @param normal {@link TaskPriority#NORMAL} 的权重
+     * @param low    {@link TaskPriority#LOW} 的权重
+     * @return 当前构建器实例（用于方法链式调用）
+     * @throws IllegalArgumentException 如果存在小于等于 0 的权重
+     */
+    public ThreadPoolBuilder priorityWeights(int high, int normal, int low) {
+        if (high <= 0 || normal <= 0 || low <= 0) {
+            throw new IllegalArgumentException("Priority weights must be positive");
+        }
+        this.priorityWeights = new int[]{high, normal, low};
+        return this;
+    }
+
+    /**
+     * 设置多优先级队列（{@link WorkQueueType#PRIORITY}）的老化阈值，排队超过该时长的任务优先出队
+     *
+     * @param priorityAgingMillis 老化阈值 (单位: 毫秒)，小于等于 0 表示不老化
+     * @return 当前构建器实例（用于方法链式调用）
+     */
+    public ThreadPoolBuilder priorityAging(long priorityAgingMillis) {
+        this.priorityAgingMillis = priorityAgingMillis;
+        return this;
+    }
+
+    /**
+     * 设置注册到 {@link ThreadPoolRegistry} 的线程池名称，用于运行期调整参数
+     *
+     * @param poolName 线程池名称
+     * @return 当前构建器实例（用于方法链式调用）
+     */
+    public ThreadPoolBuilder poolName(String poolName) {
+        this.poolName = poolName;
+        return this;
+    }
+
+    /**
+     * 设置工作队列实现，设置后忽略队列容量与类型
      *
      * @param workQueue 工作队列实例
      * @return 当前构建器实例（用于方法链式调用）
@@ -172,29 +292,175 @@ public final class ThreadPoolBuilder implements Builder<ThreadPoolExecutor> {
     }
 
     /**
-     * 构建 ThreadPoolExecutor 实例
+     * 启用快速消费模式，构建 {@link EagerThreadPoolExecutor} 并配套 {@link EagerTaskQueue}：
+     * 线程数未达到最大值前优先创建线程，达到最大值后才排队，适合突发的 IO 密集型任务。
+     * 队列类型为 {@link WorkQueueType#LOCK_FREE} 时使用 {@link LockFreeTaskQueue}，否则使用 {@link TaskQueue}（容量不可在运行期调整）
+     *
+     * @return 当前构建器实例（用于方法链式调用）
+     */
+    public ThreadPoolBuilder eager() {
+        return eager(true);
+    }
+
+    /**
+     * 设置是否启用快速消费模式
+     *
+     * @param eager 是否启用快速消费模式
+     * @return 当前构建器实例（用于方法链式调用）
+     * @see #eager()
+     */
+    public ThreadPoolBuilder eager(boolean eager) {
+        this.eager = eager;
+        return this;
+    }
+
+    /**
+     * 设置是否使用虚拟线程。启用后需通过 {@link #buildExecutorService()} 构建执行器
+     *
+     * @param virtual 是否使用虚拟线程
+     * @return 当前构建器实例（用于方法链式调用）
+     */
+    public ThreadPoolBuilder virtual(boolean virtual) {
+        this.virtual = virtual;
+        return this;
+    }
+
+    /**
+     * 设置虚拟线程模式下的最大并发数，超出的任务在各自的虚拟线程中等待许可
+     *
+     * @param maxConcurrency 最大并发数，小于等于 0 表示不限制
+     * @return 当前构建器实例（用于方法链式调用）
+     */
+    public ThreadPoolBuilder maxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+        return this;
+    }
+
+    /**
+     * 构建执行器，根据是否启用虚拟线程返回 {@link VirtualThreadExecutor} 或 ThreadPoolExecutor
+     *
+     * @return 配置好的执行器实例
+     * @throws IllegalArgumentException 如果参数无效或线程名前缀为空
+     */
+    public ExecutorService buildExecutorService() {
+        if (virtual) {
+            VirtualThreadExecutor executor = new VirtualThreadExecutor(threadNamePrefix, maxConcurrency);
+            String registryName = resolvePoolName();
+            if (registryName != null) {
+                ThreadPoolRegistry.registerVirtual(registryName, executor);
+            }
+            return executor;
+        }
+        return build();
+    }
+
+    /**
+     * 构建 ThreadPoolExecutor 实例，实际类型为可观测的 {@link MonitoredThreadPoolExecutor}，
+     * 工作队列为 {@link PriorityLaneBlockingQueue} 时为 {@link PriorityThreadPoolExecutor}
      *
      * @return 配置好的 ThreadPoolExecutor 实例
      * @throws IllegalArgumentException 如果参数无效或线程名前缀为空
+     * @throws IllegalStateException    如果启用了虚拟线程
      */
     @Override
     public ThreadPoolExecutor build() {
+        if (virtual) {
+            throw new IllegalStateException(
+                    "Virtual thread mode does not produce a ThreadPoolExecutor, use buildExecutorService() instead.");
+        }
         if (threadFactory == null) {
             Assert.hasLength(threadNamePrefix, "The thread name prefix cannot be empty or an empty string.");
             threadFactory = ThreadFactoryBuilder.builder().prefix(threadNamePrefix).daemon(isDaemon).build();
         }
-        ThreadPoolExecutor executorService;
+        BlockingQueue<Runnable> queue = workQueue != null ? workQueue : createWorkQueue();
+        if (eager && !(queue instanceof EagerTaskQueue)) {
+            throw new IllegalArgumentException("Eager mode requires the work queue to be an EagerTaskQueue.");
+        }
+        MonitoredThreadPoolExecutor executorService;
         try {
-            executorService = new ThreadPoolExecutor(corePoolSize,
-                    maximumPoolSize,
-                    keepAliveTime,
-                    timeUnit,
-                    workQueue,
-                    threadFactory,
-                    rejectedExecutionHandler);
+            if (eager) {
+                executorService = new EagerThreadPoolExecutor(corePoolSize,
+                        maximumPoolSize,
+                        keepAliveTime,
+                        timeUnit,
+                        queue,
+                        threadFactory,
+                        rejectedExecutionHandler);
+            } else if (queue instanceof PriorityLaneBlockingQueue priorityQueue) {
+                executorService = new PriorityThreadPoolExecutor(corePoolSize,
+                        maximumPoolSize,
+                        keepAliveTime,
+                        timeUnit,
+                        priorityQueue,
+                        threadFactory,
+                        rejectedExecutionHandler);
+            } else {
+                executorService = new MonitoredThreadPoolExecutor(corePoolSize,
+                        maximumPoolSize,
+                        keepAliveTime,
+                        timeUnit,
+                        queue,
+                        threadFactory,
+                        rejectedExecutionHandler);
+            }
         } catch (IllegalArgumentException ex) {
             throw new IllegalArgumentException("Error creating thread pool parameter.", ex);
         }
+        // 包装拒绝策略以统计拒绝次数
+        executorService.setRejectedExecutionHandler(
+                RejectedProxyUtil.createProxy(rejectedExecutionHandler, executorService.getRejectedCount())
+        );
+        // 溢出到磁盘的拒绝策略需要知道回放目标，构建时绑定以便恢复上次未执行的任务
+        if (rejectedExecutionHandler instanceof SpillingRejectedExecutionHandler spillingHandler) {
+            spillingHandler.attach(executorService);
+        }
+        String registryName = resolvePoolName();
+        executorService.setPoolName(registryName);
+        if (registryName != null) {
+            ThreadPoolRegistry.register(registryName, executorService);
+        }
         return executorService;
     }
+
+    /**
+     * 按队列类型与容量创建工作队列
+     *
+     * @return 工作队列
+     */
+    private BlockingQueue<Runnable> createWorkQueue() {
+        if (eager) {
+            return switch (workQueueType) {
+                case LOCK_FREE -> new LockFreeTaskQueue(queueCapacity);
+                case RESIZABLE -> new TaskQueue(queueCapacity);
+                case PRIORITY -> throw new IllegalArgumentException("Eager mode does not support the priority work queue.");
+            };
+        }
+        return switch (workQueueType) {
+            case LOCK_FREE -> new MpmcArrayBlockingQueue<>(queueCapacity);
+            case RESIZABLE -> new ResizableCapacityBlockingQueue<>(queueCapacity);
+            case PRIORITY -> new PriorityLaneBlockingQueue(queueCapacity,
+                    priorityDequeueMode,
+                    priorityWeights,
+                    priorityAgingMillis);
+        };
+    }
+
+    /**
+     * 解析注册名称：优先使用显式设置的名称，否则使用去掉末尾连接符的线程名称前缀
+     *
+     * @return 线程池名称，均未设置时为 null
+     */
+    private String resolvePoolName() {
+        if (poolName != null && !poolName.isEmpty()) {
+            return poolName;
+        }
+        if (threadNamePrefix == null || threadNamePrefix.isEmpty()) {
+            return null;
+        }
+        String name = threadNamePrefix;
+        while (name.endsWith("-") || name.endsWith("_")) {
+            name = name.substring(0, name.length() - 1);
+        }
+        return name.isEmpty() ? null : name;
+    }
 }
@@ -0,0 +1,65 @@
+package com.lcsk42.starter.core.threadpool.bulkhead;
+
+import com.lcsk42.starter.core.config.ThreadPoolProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+import org.springframework.lang.NonNull;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 注册舱壁线程池 Bean。
+ * <p>
+ * Bean 定义阶段配置属性 Bean 尚未创建，因此直接从 Environment 绑定 {@code framework.thread-pool.bulkheads}。
+ * 注册 {@link BulkheadRegistry}，并为每个名称注册一个由注册表创建的同名 {@link ExecutorService} Bean，
+ * 可通过 {@code @Qualifier("<名称>")} 注入；与已有 Bean 重名时跳过并告警，此时可通过注册表获取。
+ * </p>
+ */
+@Slf4j
+public class BulkheadRegistrar implements BeanDefinitionRegistryPostProcessor, EnvironmentAware {
+
+    public static final String REGISTRY_BEAN_NAME = "bulkheadRegistry";
+
+    private Environment environment;
+
+    @Override
+    public void setEnvironment(@NonNull Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public void postProcessBeanDefinitionRegistry(@NonNull BeanDefinitionRegistry registry) throws BeansException {
+        if (registry.containsBeanDefinition(REGISTRY_BEAN_NAME)) {
+            return;
+        }
+        Map<String, ThreadPoolProperties.Bulkhead> bulkheads = Binder.get(environment)
+                .bind(ThreadPoolProperties.BULKHEADS, Bindable.mapOf(String.class, ThreadPoolProperties.Bulkhead.class))
+                .orElse(Map.of());
+
+        RootBeanDefinition registryDefinition = new RootBeanDefinition(BulkheadRegistry.class);
+        registryDefinition.getConstructorArgumentValues().addIndexedArgumentValue(0, bulkheads);
+        registry.registerBeanDefinition(REGISTRY_BEAN_NAME, registryDefinition);
+
+        bulkheads.keySet().forEach(name -> {
+            if (registry.containsBeanDefinition(name)) {
+                log.warn("[Omega Starter] - Bean [{}] already exists, bulkhead thread pool [{}] is only available from {}.",
+                        name, name, REGISTRY_BEAN_NAME);
+                return;
+            }
+            RootBeanDefinition definition = new RootBeanDefinition();
+            definition.setTargetType(ExecutorService.class);
+            definition.setFactoryBeanName(REGISTRY_BEAN_NAME);
+            definition.setFactoryMethodName("get");
+            definition.getConstructorArgumentValues().addIndexedArgumentValue(0, name);
+            registry.registerBeanDefinition(name, definition);
+        });
+    }
+}
@@ -0,0 +1,98 @@
+package com.lcsk42.starter.core.threadpool.bulkhead;
+
+import com.lcsk42.starter.core.config.ThreadPoolProperties;
+import com.lcsk42.starter.core.threadpool.build.ThreadPoolBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 舱壁线程池注册表。
+ * <p>
+ * 按 {@code framework.thread-pool.bulkheads.<名称>.*} 配置为每个名称构建独立的线程池，
+ * 使某个依赖变慢时只会耗尽自己的线程与队列，而不会拖垮共享线程池中的其他任务。
+ * 线程池通过 {@link ThreadPoolBuilder} 以配置的名称构建，因此同样会注册到
+ * {@link com.lcsk42.starter.core.threadpool.dynamic.ThreadPoolRegistry}，可按名称动态调参并导出指标（虚拟线程模式除外）。
+ * 注册表负责在容器关闭时关闭全部线程池。
+ * </p>
+ */
+@Slf4j
+public class BulkheadRegistry implements DisposableBean {
+
+    private final Map<String, ExecutorService> executors = new LinkedHashMap<>();
+
+    /**
+     * 按配置构建全部舱壁线程池
+     *
+     * @param bulkheads 线程池名称与配置的映射
+     */
+    public BulkheadRegistry(Map<String, ThreadPoolProperties.Bulkhead> bulkheads) {
+        bulkheads.forEach((name, bulkhead) -> executors.put(name, create(name, bulkhead)));
+        if (!executors.isEmpty()) {
+            log.info("[Omega Starter] - Bulkhead thread pools {} created.", executors.keySet());
+        }
+    }
+
+    /**
+     * 按名称获取舱壁线程池
+     *
+     * @param name 线程池名称
+     * @return 线程池
+     * @throws IllegalArgumentException 如果未配置该名称的线程池
+     */
+    public ExecutorService get(String name) {
+        ExecutorService executor = executors.get(name);
+        if (Objects.isNull(executor)) {
+            throw new IllegalArgumentException("Bulkhead thread pool [" + name + "] is not configured.");
+        }
+        return executor;
+    }
+
+    /**
+     * 获取全部舱壁线程池名称
+     *
+     * @return 线程池名称集合
+     */
+    public Set<String> getNames() {
+        return Collections.unmodifiableSet(executors.keySet());
+    }
+
+    @Override
+    public void destroy() {
+        executors.values().forEach(ExecutorService::shutdown);
+    }
+
+    private static ExecutorService create(String name, ThreadPoolProperties.Bulkhead bulkhead) {
+        if (bulkhead.isVirtual() && bulkhead.getMaxConcurrency() <= 0) {
+            log.warn("[Omega Starter] - Bulkhead thread pool [{}] uses virtual threads without max concurrency, it is not isolated.",
+                    name);
+        }
+        ThreadPoolBuilder builder = ThreadPoolBuilder.builder()
+                .threadFactory(name + "-", false)
+                .poolName(name)
+                .keepAliveTime(bulkhead.getKeepAliveMillis())
+                .queueCapacity(bulkhead.getQueueCapacity())
+                .workQueueType(bulkhead.getWorkQueueType())
+                .eager(bulkhead.isEager())
+                .rejected(bulkhead.getRejectedPolicy().createHandler())
+                .virtual(bulkhead.isVirtual())
+                .maxConcurrency(bulkhead.getMaxConcurrency());
+        if (Objects.nonNull(bulkhead.getCorePoolSize())) {
+            builder.corePoolSize(bulkhead.getCorePoolSize());
+        }
+        if (Objects.nonNull(bulkhead.getMaximumPoolSize())) {
+            builder.maximumPoolSize(bulkhead.getMaximumPoolSize());
+        } else if (Objects.nonNull(bulkhead.getCorePoolSize())) {
+            // 只配置核心线程数时最大线程数沿用默认的 1.5 倍关系
+            int corePoolSize = bulkhead.getCorePoolSize();
+            builder.maximumPoolSize(Math.max(corePoolSize + (corePoolSize >> 1), 1));
+        }
+        return builder.buildExecutorService();
+    }
+}
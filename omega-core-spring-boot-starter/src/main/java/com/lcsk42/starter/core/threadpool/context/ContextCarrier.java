@@ -0,0 +1,36 @@
+package com.lcsk42.starter.core.threadpool.context;
+
+/**
+ * 跨线程传递的上下文载体，如请求 ID、租户、用户等保存在 ThreadLocal 中的上下文。
+ * <p>
+ * 提交任务时在提交线程调用 {@link #capture()} 获取快照，执行任务前在工作线程调用 {@link #replay(Object)}
+ * 设置快照并返回工作线程原有的值，任务结束后调用 {@link #restore(Object)} 恢复原有的值。
+ * 三个方法都在任务提交与执行的热路径上，实现应避免抛出异常与不必要的复制。
+ * </p>
+ *
+ * @param <T> 上下文快照类型
+ */
+public interface ContextCarrier<T> {
+
+    /**
+     * 在提交线程捕获当前上下文
+     *
+     * @return 上下文快照，无上下文时可返回 null
+     */
+    T capture();
+
+    /**
+     * 在工作线程设置捕获的上下文
+     *
+     * @param captured 提交线程捕获的上下文快照
+     * @return 工作线程原有的上下文，用于恢复
+     */
+    T replay(T captured);
+
+    /**
+     * 在工作线程恢复原有的上下文
+     *
+     * @param backup {@link #replay(Object)} 返回的原有上下文
+     */
+    void restore(T backup);
+}
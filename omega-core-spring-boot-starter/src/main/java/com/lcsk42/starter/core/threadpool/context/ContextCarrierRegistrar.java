@@ -0,0 +1,30 @@
+package com.lcsk42.starter.core.threadpool.context;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+import java.util.List;
+
+/**
+ * 将容器中的 {@link ContextCarrier} Bean 注册到 {@link ContextPropagation}，容器关闭时注销
+ */
+@RequiredArgsConstructor
+public class ContextCarrierRegistrar implements SmartInitializingSingleton, DisposableBean {
+
+    private final ObjectProvider<ContextCarrier<?>> contextCarriers;
+
+    private List<ContextCarrier<?>> registered = List.of();
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        registered = contextCarriers.orderedStream().toList();
+        registered.forEach(ContextPropagation::register);
+    }
+
+    @Override
+    public void destroy() {
+        registered.forEach(ContextPropagation::unregister);
+    }
+}
@@ -0,0 +1,59 @@
+package com.lcsk42.starter.core.threadpool.context;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 在提交时捕获上下文、执行时回放上下文的执行器包装。
+ * submit、invokeAll、invokeAny 均经由 {@link #execute(Runnable)} 提交，在提交线程完成捕获。
+ */
+@RequiredArgsConstructor
+public class ContextPropagatingExecutorService extends AbstractExecutorService {
+
+    private final ExecutorService delegate;
+
+    @Override
+    public void execute(@NonNull Runnable command) {
+        delegate.execute(ContextPropagation.wrap(command));
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @NonNull
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, @NonNull TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * 获取被包装的执行器
+     *
+     * @return 被包装的执行器
+     */
+    public ExecutorService getDelegate() {
+        return delegate;
+    }
+}
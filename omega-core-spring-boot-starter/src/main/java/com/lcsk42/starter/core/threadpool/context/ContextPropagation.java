@@ -0,0 +1,115 @@
+package com.lcsk42.starter.core.threadpool.context;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 上下文传递工具类。
+ * <p>
+ * 维护已注册的上下文载体，每次提交只捕获一次全部载体的快照。
+ * ThreadPoolBuilder 构建的线程池与虚拟线程执行器在提交时自动捕获快照，
+ * 其他执行器可通过 {@link #wrap(ExecutorService)} 或 {@link #wrap(Executor)} 包装后获得相同能力。
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ContextPropagation {
+
+    // 已注册的上下文载体（写时复制，读路径无锁）
+    private static volatile ContextCarrier<?>[] carriers = new ContextCarrier<?>[0];
+
+    /**
+     * 注册上下文载体，重复注册同一实例无效
+     *
+     * @param carrier 上下文载体
+     */
+    public static synchronized void register(ContextCarrier<?> carrier) {
+        Objects.requireNonNull(carrier, "carrier cannot be null");
+        if (Arrays.asList(carriers).contains(carrier)) {
+            return;
+        }
+        ContextCarrier<?>[] updated = Arrays.copyOf(carriers, carriers.length + 1);
+        updated[carriers.length] = carrier;
+        carriers = updated;
+    }
+
+    /**
+     * 注销上下文载体
+     *
+     * @param carrier 上下文载体
+     */
+    public static synchronized void unregister(ContextCarrier<?> carrier) {
+        carriers = Arrays.stream(carriers)
+                .filter(each -> each != carrier)
+                .toArray(ContextCarrier<?>[]::new);
+    }
+
+    /**
+     * 在当前线程捕获全部已注册载体的上下文
+     *
+     * @return 上下文快照，未注册任何载体时为共享的空快照
+     */
+    public static ContextSnapshot capture() {
+        ContextCarrier<?>[] current = carriers;
+        if (current.length == 0) {
+            return ContextSnapshot.EMPTY;
+        }
+        Object[] captured = new Object[current.length];
+        for (int i = 0; i < current.length; i++) {
+            captured[i] = current[i].capture();
+        }
+        return new ContextSnapshot(current, captured);
+    }
+
+    /**
+     * 包装任务，使其在当前线程的上下文中运行
+     *
+     * @param runnable 任务
+     * @return 包装后的任务
+     */
+    public static Runnable wrap(Runnable runnable) {
+        return capture().wrap(runnable);
+    }
+
+    /**
+     * 包装任务，使其在当前线程的上下文中运行
+     *
+     * @param callable 任务
+     * @param <T>      任务结果类型
+     * @return 包装后的任务
+     */
+    public static <T> Callable<T> wrap(Callable<T> callable) {
+        return capture().wrap(callable);
+    }
+
+    /**
+     * 包装执行器，提交的每个任务都在提交线程的上下文中运行
+     *
+     * @param executor 执行器
+     * @return 包装后的执行器
+     */
+    public static Executor wrap(Executor executor) {
+        if (executor instanceof ExecutorService executorService) {
+            return wrap(executorService);
+        }
+        return command -> executor.execute(wrap(command));
+    }
+
+    /**
+     * 包装执行器，提交的每个任务都在提交线程的上下文中运行
+     *
+     * @param executorService 执行器
+     * @return 包装后的执行器
+     */
+    public static ExecutorService wrap(ExecutorService executorService) {
+        if (executorService instanceof ContextPropagatingExecutorService) {
+            return executorService;
+        }
+        return new ContextPropagatingExecutorService(executorService);
+    }
+}
@@ -0,0 +1,104 @@
+package com.lcsk42.starter.core.threadpool.context;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 一次提交时捕获的全部上下文快照。
+ * <p>
+ * 未注册任何上下文载体时使用共享的空快照，包装与回放均不产生额外对象。
+ * </p>
+ */
+public final class ContextSnapshot {
+
+    private static final Object[] EMPTY_BACKUP = new Object[0];
+
+    static final ContextSnapshot EMPTY = new ContextSnapshot(new ContextCarrier<?>[0], EMPTY_BACKUP);
+
+    private final ContextCarrier<?>[] carriers;
+
+    private final Object[] captured;
+
+    ContextSnapshot(ContextCarrier<?>[] carriers, Object[] captured) {
+        this.carriers = carriers;
+        this.captured = captured;
+    }
+
+    /**
+     * 是否为空快照（未注册任何上下文载体）
+     *
+     * @return 空快照返回 true
+     */
+    public boolean isEmpty() {
+        return carriers.length == 0;
+    }
+
+    /**
+     * 在当前线程设置快照中的上下文
+     *
+     * @return 当前线程原有的上下文，用于 {@link #restore(Object[])}
+     */
+    @SuppressWarnings("unchecked")
+    public Object[] replay() {
+        if (carriers.length == 0) {
+            return EMPTY_BACKUP;
+        }
+        Object[] backup = new Object[carriers.length];
+        for (int i = 0; i < carriers.length; i++) {
+            backup[i] = ((ContextCarrier<Object>) carriers[i]).replay(captured[i]);
+        }
+        return backup;
+    }
+
+    /**
+     * 恢复当前线程原有的上下文，按与设置相反的顺序恢复
+     *
+     * @param backup {@link #replay()} 返回的原有上下文
+     */
+    @SuppressWarnings("unchecked")
+    public void restore(Object[] backup) {
+        for (int i = carriers.length - 1; i >= 0; i--) {
+            ((ContextCarrier<Object>) carriers[i]).restore(backup[i]);
+        }
+    }
+
+    /**
+     * 包装任务，使其在快照的上下文中运行
+     *
+     * @param runnable 任务
+     * @return 包装后的任务，空快照时返回原任务
+     */
+    public Runnable wrap(Runnable runnable) {
+        if (isEmpty()) {
+            return runnable;
+        }
+        return () -> {
+            Object[] backup = replay();
+            try {
+                runnable.run();
+            } finally {
+                restore(backup);
+            }
+        };
+    }
+
+    /**
+     * 包装任务，使其在快照的上下文中运行
+     *
+     * @param callable 任务
+     * @param <T>      任务结果类型
+     * @return 包装后的任务，空快照时返回原任务
+     */
+    public <T> Callable<T> wrap(Callable<T> callable) {
+        if (isEmpty()) {
+            return callable;
+        }
+        return () -> {
+            Object[] backup = replay();
+            try {
+                return callable.call();
+            } finally {
+                restore(backup);
+            }
+        };
+    }
+}
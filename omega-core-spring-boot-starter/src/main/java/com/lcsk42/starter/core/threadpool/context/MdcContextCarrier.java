@@ -0,0 +1,62 @@
+package com.lcsk42.starter.core.threadpool.context;
+
+import org.slf4j.MDC;
+
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * 按指定键传递 MDC 的上下文载体。
+ * 只复制配置的键（如 traceId、requestId），而不是复制整个 MDC 映射；全部键都不存在时快照为 null。
+ */
+public class MdcContextCarrier implements ContextCarrier<String[]> {
+
+    private final String[] keys;
+
+    /**
+     * 构造 MDC 上下文载体
+     *
+     * @param keys 需要传递的 MDC 键
+     */
+    public MdcContextCarrier(Collection<String> keys) {
+        this.keys = keys.stream().filter(Objects::nonNull).distinct().toArray(String[]::new);
+    }
+
+    @Override
+    public String[] capture() {
+        String[] values = null;
+        for (int i = 0; i < keys.length; i++) {
+            String value = MDC.get(keys[i]);
+            if (Objects.nonNull(value)) {
+                if (Objects.isNull(values)) {
+                    values = new String[keys.length];
+                }
+                values[i] = value;
+            }
+        }
+        return values;
+    }
+
+    @Override
+    public String[] replay(String[] captured) {
+        String[] backup = capture();
+        apply(captured);
+        return backup;
+    }
+
+    @Override
+    public void restore(String[] backup) {
+        apply(backup);
+    }
+
+    private void apply(String[] values) {
+        for (int i = 0; i < keys.length; i++) {
+            String value = Objects.isNull(values) ? null : values[i];
+            if (Objects.isNull(value)) {
+                MDC.remove(keys[i]);
+            } else {
+                MDC.put(keys[i], value);
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.lcsk42.starter.core.threadpool.dynamic;
+
+import com.lcsk42.starter.core.config.ThreadPoolProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.env.Environment;
+
+import java.util.Map;
+
+/**
+ * 按配置调整线程池参数。
+ * <p>
+ * 启动完成后应用 {@code framework.thread-pool.dynamic.<线程池名称>.*} 配置；
+ * 存在配置中心刷新事件（Spring Cloud 的 EnvironmentChangeEvent）时重新绑定配置并再次应用，
+ * 这里按事件类名识别，不引入 Spring Cloud 依赖。
+ * </p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class DynamicThreadPoolRefresher implements SmartInitializingSingleton, ApplicationListener<ApplicationEvent> {
+
+    private static final String ENVIRONMENT_CHANGE_EVENT =
+            "org.springframework.cloud.context.environment.EnvironmentChangeEvent";
+
+    private final Environment environment;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        refresh("properties");
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationEvent event) {
+        if (ENVIRONMENT_CHANGE_EVENT.equals(event.getClass().getName())) {
+            refresh("refresh");
+        }
+    }
+
+    /**
+     * 重新绑定配置并应用到对应的线程池
+     *
+     * @param source 变更来源
+     */
+    public void refresh(String source) {
+        Map<String, ThreadPoolSpec> specs = Binder.get(environment)
+                .bind(ThreadPoolProperties.DYNAMIC, Bindable.mapOf(String.class, ThreadPoolSpec.class))
+                .orElse(Map.of());
+        specs.forEach((poolName, spec) -> {
+            try {
+                ThreadPoolRegistry.configure(poolName, spec, source);
+            } catch (IllegalArgumentException ex) {
+                log.error("[Omega Starter] - Applying {} to thread pool [{}] failed.", spec, poolName, ex);
+            }
+        });
+    }
+}
@@ -0,0 +1,342 @@
+package com.lcsk42.starter.core.threadpool.dynamic;
+
+import org.springframework.lang.NonNull;
+
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 容量可在运行期调整的有界阻塞队列。
+ * <p>
+ * {@link java.util.concurrent.LinkedBlockingQueue} 的容量在构造后不可变，无法配合线程池动态调参。
+ * 该队列以单把锁保护一个 {@link ArrayDeque}，容量为 volatile 字段：
+ * 扩容时唤醒等待入队的线程；缩容时已在队列中的元素不会被丢弃，只是在元素数降到新容量以下之前拒绝新的入队。
+ * </p>
+ *
+ * @param <E> 元素类型
+ */
+public class ResizableCapacityBlockingQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition notEmpty = lock.newCondition();
+
+    private final Condition notFull = lock.newCondition();
+
+    private final ArrayDeque<E> elements = new ArrayDeque<>();
+
+    private volatile int capacity;
+
+    /**
+     * 构造指定容量的队列
+     *
+     * @param capacity 队列容量
+     * @throws IllegalArgumentException 如果容量小于等于 0
+     */
+    public ResizableCapacityBlockingQueue(int capacity) {
+        checkCapacity(capacity);
+        this.capacity = capacity;
+    }
+
+    /**
+     * 获取当前容量
+     *
+     * @return 队列容量
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * 调整队列容量
+     *
+     * @param capacity 新的队列容量
+     * @throws IllegalArgumentException 如果容量小于等于 0
+     */
+    public void setCapacity(int capacity) {
+        checkCapacity(capacity);
+        lock.lock();
+        try {
+            int previous = this.capacity;
+            this.capacity = capacity;
+            if (capacity > previous) {
+                notFull.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(@NonNull E e) {
+        Objects.requireNonNull(e);
+        lock.lock();
+        try {
+            if (elements.size() >= capacity) {
+                return false;
+            }
+            enqueue(e);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, @NonNull TimeUnit unit) throws InterruptedException {
+        Objects.requireNonNull(e);
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (elements.size() >= capacity) {
+                if (nanos <= 0L) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            enqueue(e);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(@NonNull E e) throws InterruptedException {
+        Objects.requireNonNull(e);
+        lock.lockInterruptibly();
+        try {
+            while (elements.size() >= capacity) {
+                notFull.await();
+            }
+            enqueue(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E poll() {
+        lock.lock();
+        try {
+            return elements.isEmpty() ? null : dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E poll(long timeout, @NonNull TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (elements.isEmpty()) {
+                if (nanos <= 0L) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @NonNull
+    @Override
+    public E take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (elements.isEmpty()) {
+                notEmpty.await();
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E peek() {
+        lock.lock();
+        try {
+            return elements.peekFirst();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return elements.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        lock.lock();
+        try {
+            return Math.max(capacity - elements.size(), 0);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (Objects.isNull(o)) {
+            return false;
+        }
+        lock.lock();
+        try {
+            boolean removed = elements.remove(o);
+            if (removed) {
+                notFull.signal();
+            }
+            return removed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        lock.lock();
+        try {
+            return elements.contains(o);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            elements.clear();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int drainTo(@NonNull Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(@NonNull Collection<? super E> c, int maxElements) {
+        Objects.requireNonNull(c);
+        if (c == this) {
+            throw new IllegalArgumentException();
+        }
+        lock.lock();
+        try {
+            int n = 0;
+            while (n < maxElements && !elements.isEmpty()) {
+                c.add(elements.pollFirst());
+                n++;
+            }
+            if (n > 0) {
+                notFull.signalAll();
+            }
+            return n;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 返回弱一致的迭代器：遍历创建时的元素快照，不抛出 {@link java.util.ConcurrentModificationException}，
+     * {@link Iterator#remove()} 在锁内从队列中删除上一次返回的元素（元素已出队时忽略），
+     * 以便 {@link java.util.concurrent.ThreadPoolExecutor#purge()} 清理已取消的任务
+     *
+     * @return 弱一致迭代器
+     */
+    @NonNull
+    @Override
+    public Iterator<E> iterator() {
+        lock.lock();
+        try {
+            return new Itr(new ArrayList<>(elements));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void enqueue(E e) {
+        elements.addLast(e);
+        notEmpty.signal();
+    }
+
+    private E dequeue() {
+        E e = elements.pollFirst();
+        notFull.signal();
+        return e;
+    }
+
+    private static void checkCapacity(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be positive");
+        }
+    }
+
+    private class Itr implements Iterator<E> {
+
+        private final Iterator<E> snapshot;
+
+        private E lastReturned;
+
+        Itr(List<E> snapshot) {
+            this.snapshot = snapshot.iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return snapshot.hasNext();
+        }
+
+        @Override
+        public E next() {
+            lastReturned = snapshot.next();
+            return lastReturned;
+        }
+
+        @Override
+        public void remove() {
+            if (Objects.isNull(lastReturned)) {
+                throw new IllegalStateException();
+            }
+            E target = lastReturned;
+            lastReturned = null;
+            lock.lock();
+            try {
+                // 按引用删除，避免误删 equals 相等的其他元素
+                Iterator<E> it = elements.iterator();
+                while (it.hasNext()) {
+                    if (it.next() == target) {
+                        it.remove();
+                        notFull.signal();
+                        return;
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.lcsk42.starter.core.threadpool.dynamic;
+
+import java.time.LocalDateTime;
+
+/**
+ * 线程池参数变更记录
+ *
+ * @param poolName  线程池名称
+ * @param source    变更来源（如 properties、refresh、endpoint）
+ * @param before    变更前参数
+ * @param after     变更后参数
+ * @param changedAt 变更时间
+ */
+public record ThreadPoolChangeRecord(String poolName,
+                                     String source,
+                                     ThreadPoolSpec before,
+                                     ThreadPoolSpec after,
+                                     LocalDateTime changedAt) {
+}
@@ -0,0 +1,63 @@
+package com.lcsk42.starter.core.threadpool.dynamic;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+/**
+ * 线程池端点。
+ * <p>
+ * GET 返回全部已注册线程池的参数、运行状态与最近的变更记录，POST 调整指定线程池的参数（未传的参数保持不变）。
+ * </p>
+ */
+@Endpoint(id = ThreadPoolEndpoint.ENDPOINT_ID)
+public class ThreadPoolEndpoint {
+
+    public static final String ENDPOINT_ID = "threadpools";
+
+    private static final String SOURCE = "endpoint";
+
+    /**
+     * 获取线程池状态与变更记录
+     *
+     * @return 线程池描述
+     */
+    @ReadOperation
+    public ThreadPoolsDescriptor threadPools() {
+        return new ThreadPoolsDescriptor(ThreadPoolRegistry.getStates(), ThreadPoolRegistry.getChangeRecords());
+    }
+
+    /**
+     * 调整线程池参数
+     *
+     * @param name            线程池名称
+     * @param corePoolSize    核心线程数
+     * @param maximumPoolSize 最大线程数
+     * @param keepAliveMillis 空闲线程保活时间 (单位: 毫秒)
+     * @param queueCapacity   队列容量
+     * @return 变更记录，参数无变化时为 null
+     */
+    @WriteOperation
+    public ThreadPoolChangeRecord resize(@Selector String name,
+                                         @Nullable Integer corePoolSize,
+                                         @Nullable Integer maximumPoolSize,
+                                         @Nullable Long keepAliveMillis,
+                                         @Nullable Integer queueCapacity) {
+        return ThreadPoolRegistry.resize(name,
+                new ThreadPoolSpec(corePoolSize, maximumPoolSize, keepAliveMillis, queueCapacity),
+                SOURCE);
+    }
+
+    /**
+     * 线程池描述
+     *
+     * @param pools   线程池状态
+     * @param changes 最近的变更记录
+     */
+    public record ThreadPoolsDescriptor(List<ThreadPoolState> pools, List<ThreadPoolChangeRecord> changes) {
+    }
+}
@@ -0,0 +1,312 @@
+package com.lcsk42.starter.core.threadpool.dynamic;
+
+import com.lcsk42.starter.core.threadpool.virtual.VirtualThreadExecutor;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.Assert;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * 线程池注册表，支持在运行期调整已注册线程池的核心线程数、最大线程数、保活时间与队列容量。
+ * <p>
+ * 由 {@link com.lcsk42.starter.core.threadpool.build.ThreadPoolBuilder} 构建的线程池会自动按名称注册。
+ * 调整请求可以早于线程池注册到达（如配置中的线程池尚未被首次使用），此时会暂存并在注册时应用。
+ * 每次实际生效的变更都会记录来源与前后参数，保留最近 {@value #MAX_CHANGE_RECORDS} 条。
+ * 虚拟线程执行器没有可调整的参数，仅按名称登记以便导出指标，同名的线程池与虚拟线程执行器互相替换。
+ * </p>
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ThreadPoolRegistry {
+
+    private static final int MAX_CHANGE_RECORDS = 200;
+
+    private static final Map<String, ThreadPoolExecutor> POOLS = new LinkedHashMap<>();
+
+    // 线程池注册前到达的调整请求
+    private static final Map<String, PendingChange> PENDING_CHANGES = new LinkedHashMap<>();
+
+    private static final Deque<ThreadPoolChangeRecord> CHANGE_RECORDS = new ArrayDeque<>();
+
+    private static final List<BiConsumer<String, ThreadPoolExecutor>> REGISTRATION_LISTENERS = new ArrayList<>();
+
+    private static final Map<String, VirtualThreadExecutor> VIRTUAL_EXECUTORS = new LinkedHashMap<>();
+
+    private static final List<BiConsumer<String, VirtualThreadExecutor>> VIRTUAL_REGISTRATION_LISTENERS =
+            new ArrayList<>();
+
+    /**
+     * 按名称注册线程池，同名的旧线程池会被替换
+     *
+     * @param poolName 线程池名称
+     * @param executor 线程池
+     */
+    public static synchronized void register(String poolName, ThreadPoolExecutor executor) {
+        Assert.hasLength(poolName, "The thread pool name cannot be empty or an empty string.");
+        Objects.requireNonNull(executor, "executor cannot be null");
+        VIRTUAL_EXECUTORS.remove(poolName);
+        ThreadPoolExecutor previous = POOLS.put(poolName, executor);
+        if (Objects.nonNull(previous) && previous != executor && !previous.isShutdown()) {
+            log.warn("[Omega Starter] - Thread pool [{}] is registered again, the previous one is no longer adjustable.",
+                    poolName);
+        }
+        PendingChange pendingChange = PENDING_CHANGES.remove(poolName);
+        if (Objects.nonNull(pendingChange)) {
+            try {
+                applyLocked(poolName, executor, pendingChange.spec(), pendingChange.source());
+            } catch (IllegalArgumentException ex) {
+                log.error("[Omega Starter] - Applying pending change to thread pool [{}] failed.", poolName, ex);
+            }
+        }
+        for (BiConsumer<String, ThreadPoolExecutor> listener : REGISTRATION_LISTENERS) {
+            notifyListener(listener, poolName, executor);
+        }
+    }
+
+    /**
+     * 按名称登记虚拟线程执行器，同名的旧线程池或虚拟线程执行器会被替换
+     *
+     * @param poolName 执行器名称
+     * @param executor 虚拟线程执行器
+     */
+    public static synchronized void registerVirtual(String poolName, VirtualThreadExecutor executor) {
+        Assert.hasLength(poolName, "The thread pool name cannot be empty or an empty string.");
+        Objects.requireNonNull(executor, "executor cannot be null");
+        POOLS.remove(poolName);
+        PENDING_CHANGES.remove(poolName);
+        VIRTUAL_EXECUTORS.put(poolName, executor);
+        for (BiConsumer<String, VirtualThreadExecutor> listener : VIRTUAL_REGISTRATION_LISTENERS) {
+            notifyListener(listener, poolName, executor);
+        }
+    }
+
+    /**
+     * 添加虚拟线程执行器的登记监听器，已登记的执行器会立即回放给监听器
+     *
+     * @param listener 监听器，参数为执行器名称与虚拟线程执行器
+     */
+    public static synchronized void addVirtualRegistrationListener(
+            BiConsumer<String, VirtualThreadExecutor> listener) {
+        VIRTUAL_REGISTRATION_LISTENERS.add(listener);
+        getAllVirtual().forEach((poolName, executor) -> notifyListener(listener, poolName, executor));
+    }
+
+    /**
+     * 移除虚拟线程执行器的登记监听器
+     *
+     * @param listener 监听器
+     */
+    public static synchronized void removeVirtualRegistrationListener(
+            BiConsumer<String, VirtualThreadExecutor> listener) {
+        VIRTUAL_REGISTRATION_LISTENERS.remove(listener);
+    }
+
+    /**
+     * 获取全部未终止的虚拟线程执行器
+     *
+     * @return 执行器名称与虚拟线程执行器的映射（快照）
+     */
+    public static synchronized Map<String, VirtualThreadExecutor> getAllVirtual() {
+        VIRTUAL_EXECUTORS.values().removeIf(VirtualThreadExecutor::isTerminated);
+        return new LinkedHashMap<>(VIRTUAL_EXECUTORS);
+    }
+
+    /**
+     * 添加注册监听器，已注册的线程池会立即回放给监听器
+     *
+     * @param listener 监听器，参数为线程池名称与线程池
+     */
+    public static synchronized void addRegistrationListener(BiConsumer<String, ThreadPoolExecutor> listener) {
+        REGISTRATION_LISTENERS.add(listener);
+        getAll().forEach((poolName, executor) -> notifyListener(listener, poolName, executor));
+    }
+
+    /**
+     * 移除注册监听器
+     *
+     * @param listener 监听器
+     */
+    public static synchronized void removeRegistrationListener(BiConsumer<String, ThreadPoolExecutor> listener) {
+        REGISTRATION_LISTENERS.remove(listener);
+    }
+
+    /**
+     * 注销线程池
+     *
+     * @param poolName 线程池名称
+     */
+    public static synchronized void unregister(String poolName) {
+        POOLS.remove(poolName);
+        VIRTUAL_EXECUTORS.remove(poolName);
+    }
+
+    /**
+     * 按名称获取线程池
+     *
+     * @param poolName 线程池名称
+     * @return 线程池，未注册或已终止时为 null
+     */
+    public static synchronized ThreadPoolExecutor get(String poolName) {
+        ThreadPoolExecutor executor = POOLS.get(poolName);
+        if (Objects.nonNull(executor) && executor.isTerminated()) {
+            POOLS.remove(poolName);
+            return null;
+        }
+        return executor;
+    }
+
+    /**
+     * 获取全部未终止的线程池
+     *
+     * @return 线程池名称与线程池的映射（快照）
+     */
+    public static synchronized Map<String, ThreadPoolExecutor> getAll() {
+        POOLS.values().removeIf(ThreadPoolExecutor::isTerminated);
+        return new LinkedHashMap<>(POOLS);
+    }
+
+    /**
+     * 获取全部线程池的当前参数与运行状态
+     *
+     * @return 线程池状态列表
+     */
+    public static List<ThreadPoolState> getStates() {
+        List<ThreadPoolState> states = new ArrayList<>();
+        getAll().forEach((poolName, executor) -> states.add(new ThreadPoolState(poolName,
+                specOf(executor),
+                executor.getPoolSize(),
+                executor.getActiveCount(),
+                executor.getQueue().size(),
+                executor.getCompletedTaskCount())));
+        return states;
+    }
+
+    /**
+     * 调整线程池参数，线程池尚未注册时暂存请求并在注册时应用
+     *
+     * @param poolName 线程池名称
+     * @param spec     目标参数，为 null 的字段保持不变
+     * @param source   变更来源
+     * @return 变更记录，线程池尚未注册或参数无变化时为 null
+     * @throws IllegalArgumentException 如果参数无效或队列不支持调整容量
+     */
+    public static synchronized ThreadPoolChangeRecord configure(String poolName, ThreadPoolSpec spec, String source) {
+        ThreadPoolExecutor executor = get(poolName);
+        if (Objects.isNull(executor)) {
+            PENDING_CHANGES.put(poolName, new PendingChange(spec, source));
+            return null;
+        }
+        return applyLocked(poolName, executor, spec, source);
+    }
+
+    /**
+     * 调整已注册线程池的参数
+     *
+     * @param poolName 线程池名称
+     * @param spec     目标参数，为 null 的字段保持不变
+     * @param source   变更来源
+     * @return 变更记录，参数无变化时为 null
+     * @throws IllegalArgumentException 如果线程池未注册、参数无效或队列不支持调整容量
+     */
+    public static synchronized ThreadPoolChangeRecord resize(String poolName, ThreadPoolSpec spec, String source) {
+        ThreadPoolExecutor executor = get(poolName);
+        if (Objects.isNull(executor)) {
+            throw new IllegalArgumentException("Thread pool [" + poolName + "] is not registered.");
+        }
+        return applyLocked(poolName, executor, spec, source);
+    }
+
+    /**
+     * 获取最近的变更记录
+     *
+     * @return 变更记录列表，按时间先后排列
+     */
+    public static synchronized List<ThreadPoolChangeRecord> getChangeRecords() {
+        return new ArrayList<>(CHANGE_RECORDS);
+    }
+
+    private static ThreadPoolChangeRecord applyLocked(String poolName,
+                                                      ThreadPoolExecutor executor,
+                                                      ThreadPoolSpec spec,
+                                                      String source) {
+        ThreadPoolSpec before = specOf(executor);
+        int corePoolSize = Optional.ofNullable(spec.corePoolSize()).orElse(before.corePoolSize());
+        int maximumPoolSize = Optional.ofNullable(spec.maximumPoolSize()).orElse(before.maximumPoolSize());
+        if (corePoolSize < 0) {
+            throw new IllegalArgumentException("Core pool size must be non-negative");
+        }
+        if (maximumPoolSize <= 0 || maximumPoolSize < corePoolSize) {
+            throw new IllegalArgumentException("Maximum pool size must be positive and not less than core pool size");
+        }
+        if (Objects.nonNull(spec.keepAliveMillis()) && spec.keepAliveMillis() < 0) {
+            throw new IllegalArgumentException("Keep alive time must be non-negative");
+        }
+        if (Objects.nonNull(spec.queueCapacity())
+                && !(executor.getQueue() instanceof ResizableCapacityBlockingQueue<?>)) {
+            throw new IllegalArgumentException("The queue of thread pool [" + poolName + "] does not support resizing.");
+        }
+
+        // ThreadPoolExecutor 要求任意时刻核心线程数不大于最大线程数，按扩缩方向决定设置顺序
+        if (maximumPoolSize >= executor.getCorePoolSize()) {
+            executor.setMaximumPoolSize(maximumPoolSize);
+            executor.setCorePoolSize(corePoolSize);
+        } else {
+            executor.setCorePoolSize(corePoolSize);
+            executor.setMaximumPoolSize(maximumPoolSize);
+        }
+        if (Objects.nonNull(spec.keepAliveMillis())) {
+            executor.setKeepAliveTime(spec.keepAliveMillis(), TimeUnit.MILLISECONDS);
+        }
+        if (Objects.nonNull(spec.queueCapacity())
+                && executor.getQueue() instanceof ResizableCapacityBlockingQueue<?> queue) {
+            queue.setCapacity(spec.queueCapacity());
+        }
+
+        ThreadPoolSpec after = specOf(executor);
+        if (before.equals(after)) {
+            return null;
+        }
+        ThreadPoolChangeRecord changeRecord =
+                new ThreadPoolChangeRecord(poolName, source, before, after, LocalDateTime.now());
+        CHANGE_RECORDS.addLast(changeRecord);
+        while (CHANGE_RECORDS.size() > MAX_CHANGE_RECORDS) {
+            CHANGE_RECORDS.pollFirst();
+        }
+        log.info("[Omega Starter] - Thread pool [{}] changed by {}: {} -> {}", poolName, source, before, after);
+        return changeRecord;
+    }
+
+    private static <E> void notifyListener(BiConsumer<String, E> listener, String poolName, E executor) {
+        try {
+            listener.accept(poolName, executor);
+        } catch (RuntimeException ex) {
+            log.warn("[Omega Starter] - Notifying registration of thread pool [{}] failed.", poolName, ex);
+        }
+    }
+
+    private static ThreadPoolSpec specOf(ThreadPoolExecutor executor) {
+        Integer queueCapacity = executor.getQueue() instanceof ResizableCapacityBlockingQueue<?> queue
+                ? queue.getCapacity()
+                : null;
+        return new ThreadPoolSpec(executor.getCorePoolSize(),
+                executor.getMaximumPoolSize(),
+                executor.getKeepAliveTime(TimeUnit.MILLISECONDS),
+                queueCapacity);
+    }
+
+    private record PendingChange(ThreadPoolSpec spec, String source) {
+    }
+}
@@ -0,0 +1,18 @@
+package com.lcsk42.starter.core.threadpool.dynamic;
+
+/**
+ * 线程池可调参数。
+ * <p>
+ * 作为调整请求时，为 null 的字段表示保持不变；作为当前配置时，队列不支持调整容量则 {@code queueCapacity} 为 null。
+ * </p>
+ *
+ * @param corePoolSize    核心线程数
+ * @param maximumPoolSize 最大线程数
+ * @param keepAliveMillis 空闲线程保活时间 (单位: 毫秒)
+ * @param queueCapacity   队列容量
+ */
+public record ThreadPoolSpec(Integer corePoolSize,
+                             Integer maximumPoolSize,
+                             Long keepAliveMillis,
+                             Integer queueCapacity) {
+}
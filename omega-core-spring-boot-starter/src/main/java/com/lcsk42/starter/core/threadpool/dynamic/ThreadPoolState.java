@@ -0,0 +1,19 @@
+package com.lcsk42.starter.core.threadpool.dynamic;
+
+/**
+ * 线程池当前参数与运行状态
+ *
+ * @param poolName           线程池名称
+ * @param spec               当前参数
+ * @param poolSize           当前线程数
+ * @param activeCount        正在执行任务的线程数
+ * @param queueSize          队列中等待的任务数
+ * @param completedTaskCount 已完成任务数
+ */
+public record ThreadPoolState(String poolName,
+                              ThreadPoolSpec spec,
+                              int poolSize,
+                              int activeCount,
+                              int queueSize,
+                              long completedTaskCount) {
+}
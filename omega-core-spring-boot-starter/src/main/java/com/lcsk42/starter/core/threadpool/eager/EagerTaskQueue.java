@@ -0,0 +1,35 @@
+package com.lcsk42.starter.core.threadpool.eager;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 与 {@link EagerThreadPoolExecutor} 协同工作的任务队列。
+ * <p>
+ * 实现类的 {@code offer} 需在线程数未达到最大值时返回 false 以触发创建非核心线程，
+ * 并通过 {@link #retryOffer} 在线程池拒绝后重新尝试入队。
+ * </p>
+ */
+public interface EagerTaskQueue extends BlockingQueue<Runnable> {
+
+    /**
+     * 设置关联的线程池执行器
+     *
+     * @param executor 线程池执行器
+     */
+    void setExecutor(EagerThreadPoolExecutor executor);
+
+    /**
+     * 尝试在超时时间内将任务提交到队列。
+     * 主要用于任务拒绝处理时的重试操作。
+     *
+     * @param o       待执行的任务
+     * @param timeout 超时等待时长
+     * @param unit    时间单位
+     * @return 成功返回 true，超时返回 false
+     * @throws InterruptedException       如果等待期间被中断
+     * @throws RejectedExecutionException 如果执行器已关闭
+     */
+    boolean retryOffer(Runnable o, long timeout, TimeUnit unit) throws InterruptedException;
+}
@@ -1,7 +1,10 @@
 package com.lcsk42.starter.core.threadpool.eager;
 
+import com.lcsk42.starter.core.threadpool.monitor.MonitoredThreadPoolExecutor;
 import org.springframework.lang.NonNull;
 
+import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.RejectedExecutionHandler;
@@ -13,8 +16,14 @@ import java.util.concurrent.atomic.AtomicInteger;
 /**
  * 专为快速消费任务设计的线程池执行器。
  * 跟踪已提交任务数量并提供增强的拒绝处理机制。
+ * <p>
+ * 配合 {@link EagerTaskQueue} 使用时，线程数未达到最大值前优先创建线程而不是排队。
+ * 已提交任务数只统计经由 {@link #execute(Runnable)} 被线程池接收的任务：
+ * 拒绝时先重试入队，重试失败才交给实际的拒绝策略并扣减计数（包括 CallerRunsPolicy、DiscardPolicy 等不抛出异常的策略），
+ * 工作线程执行结束时只为经由 execute 提交的任务扣减计数。
+ * </p>
  */
-public class EagerThreadPoolExecutor extends ThreadPoolExecutor {
+public class EagerThreadPoolExecutor extends MonitoredThreadPoolExecutor {
 
     // 原子计数器，用于跟踪已提交任务数量
     private final AtomicInteger submittedTaskCount = new AtomicInteger(0);
@@ -37,9 +46,10 @@ public class EagerThreadPoolExecutor extends ThreadPoolExecutor {
                                    BlockingQueue<Runnable> workQueue,
                                    ThreadFactory threadFactory,
                                    RejectedExecutionHandler handler) {
-        super(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory, handler);
+        super(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory,
+                new EagerRejectedExecutionHandler(handler));
 
-        if (workQueue instanceof TaskQueue taskQueue) {
+        if (workQueue instanceof EagerTaskQueue taskQueue) {
             taskQueue.setExecutor(this);
         }
     }
@@ -53,18 +63,31 @@ public class EagerThreadPoolExecutor extends ThreadPoolExecutor {
         return submittedTaskCount.get();
     }
 
+    /**
+     * 设置拒绝策略，实际策略在重试入队失败后才会被调用
+     *
+     * @param handler 拒绝策略处理器
+     */
+    @Override
+    public void setRejectedExecutionHandler(@NonNull RejectedExecutionHandler handler) {
+        super.setRejectedExecutionHandler(new EagerRejectedExecutionHandler(handler));
+    }
+
     /**
      * 任务完成执行后的钩子方法。
-     * 递减已提交任务计数器。
+     * 仅为经由 execute 提交的任务递减已提交任务计数器。
      */
     @Override
     protected void afterExecute(Runnable r, Throwable t) {
-        submittedTaskCount.decrementAndGet();
+        if (isSubmittedTask(r)) {
+            submittedTaskCount.decrementAndGet();
+        }
+        super.afterExecute(r, t);
     }
 
     /**
      * 执行给定任务，递增已提交任务计数。
-     * 通过尝试重新将任务放入队列提供增强的拒绝处理。
+     * 任务被拒绝时由 {@link EagerRejectedExecutionHandler} 负责重试入队与扣减计数。
      *
      * @param command 要执行的任务
      * @throws RejectedExecutionException 如果任务无法被接受执行
@@ -72,25 +95,56 @@ public class EagerThreadPoolExecutor extends ThreadPoolExecutor {
      */
     @Override
     public void execute(@NonNull Runnable command) {
+        Objects.requireNonNull(command);
         submittedTaskCount.incrementAndGet();
-        try {
-            super.execute(command);
-        } catch (RejectedExecutionException ex) {
-            // TaskQueue 特殊处理：尝试再次提交任务
-            TaskQueue taskQueue = (TaskQueue) super.getQueue();
-            try {
-                if (!taskQueue.retryOffer(command, 0, TimeUnit.MILLISECONDS)) {
-                    submittedTaskCount.decrementAndGet();
-                    throw new RejectedExecutionException("Queue capacity is full.", ex);
+        super.execute(command);
+    }
+
+    /**
+     * 立即关闭线程池，并为未执行的任务扣减已提交任务计数
+     *
+     * @return 尚未执行的任务列表
+     */
+    @NonNull
+    @Override
+    public List<Runnable> shutdownNow() {
+        List<Runnable> tasks = super.shutdownNow();
+        submittedTaskCount.addAndGet(-tasks.size());
+        return tasks;
+    }
+
+    /**
+     * 拒绝时先尝试重新入队的拒绝策略包装
+     */
+    private static final class EagerRejectedExecutionHandler implements RejectedExecutionHandler {
+
+        private final RejectedExecutionHandler delegate;
+
+        private EagerRejectedExecutionHandler(RejectedExecutionHandler delegate) {
+            // 避免重复包装
+            this.delegate = delegate instanceof EagerRejectedExecutionHandler eagerHandler
+                    ? eagerHandler.delegate
+                    : delegate;
+        }
+
+        @Override
+        public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+            EagerThreadPoolExecutor eagerExecutor = (EagerThreadPoolExecutor) executor;
+            // EagerTaskQueue 特殊处理：线程数达到上限后尝试再次提交任务
+            if (!executor.isShutdown() && executor.getQueue() instanceof EagerTaskQueue taskQueue) {
+                try {
+                    if (taskQueue.retryOffer(r, 0, TimeUnit.MILLISECONDS)) {
+                        return;
+                    }
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                } catch (RejectedExecutionException ignored) {
+                    // 执行器已关闭，交给实际的拒绝策略
                 }
-            } catch (InterruptedException iex) {
-                submittedTaskCount.decrementAndGet();
-                Thread.currentThread().interrupt();
-                throw new RejectedExecutionException(iex);
             }
-        } catch (Exception ex) {
-            submittedTaskCount.decrementAndGet();
-            throw ex;
+            // 任务未被线程池接收
+            eagerExecutor.submittedTaskCount.decrementAndGet();
+            delegate.rejectedExecution(r, executor);
         }
     }
 }
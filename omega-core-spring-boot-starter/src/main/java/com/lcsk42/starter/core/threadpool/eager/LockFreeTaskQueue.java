@@ -0,0 +1,62 @@
+package com.lcsk42.starter.core.threadpool.eager;
+
+import com.lcsk42.starter.core.threadpool.queue.MpmcArrayBlockingQueue;
+import lombok.NonNull;
+import lombok.Setter;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基于无锁数组队列的快速消费任务队列。
+ * 入队判断与 {@link TaskQueue} 一致，底层以 {@link MpmcArrayBlockingQueue} 代替 LinkedBlockingQueue，
+ * 减少高频提交时的锁竞争与节点分配。
+ */
+@Setter
+public class LockFreeTaskQueue extends MpmcArrayBlockingQueue<Runnable> implements EagerTaskQueue {
+    // 关联的线程池执行器引用
+    private EagerThreadPoolExecutor executor;
+
+    /**
+     * 构造指定容量的任务队列
+     *
+     * @param capacity 队列的最大容量，向上取整为 2 的幂
+     */
+    public LockFreeTaskQueue(int capacity) {
+        super(capacity);
+    }
+
+    /**
+     * 向队列提交任务，当核心线程可用时优先排队，低于最大线程数时强制创建新线程，达到最大容量时回退到普通排队
+     *
+     * @param runnable 待执行的任务
+     * @return 成功入队返回 true，否则 false
+     * @throws NullPointerException 如果任务为 null
+     */
+    @Override
+    public boolean offer(@NonNull Runnable runnable) {
+        int currentPoolThreadSize = executor.getPoolSize();
+
+        // 当存在空闲核心线程时，直接将任务加入队列供核心线程处理
+        if (executor.getSubmittedTaskCount() < currentPoolThreadSize) {
+            return super.offer(runnable);
+        }
+
+        // 当低于最大线程数时返回 false，触发创建非核心线程（根据线程池逻辑）
+        if (currentPoolThreadSize < executor.getMaximumPoolSize()) {
+            return false;
+        }
+
+        // 达到最大线程数时，回退到普通排队行为
+        return super.offer(runnable);
+    }
+
+    @Override
+    public boolean retryOffer(Runnable o, long timeout, TimeUnit unit) throws InterruptedException {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("Executor is shutdown!");
+        }
+        // 限时入队直接写入底层队列，不经过上面的线程数判断
+        return super.offer(o, timeout, unit);
+    }
+}
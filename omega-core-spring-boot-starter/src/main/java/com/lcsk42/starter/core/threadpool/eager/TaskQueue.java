@@ -12,7 +12,7 @@ import java.util.concurrent.TimeUnit;
  * 与 EagerThreadPoolExecutor 协同工作以优化线程创建。
  */
 @Setter
-public class TaskQueue extends LinkedBlockingQueue<Runnable> {
+public class TaskQueue extends LinkedBlockingQueue<Runnable> implements EagerTaskQueue {
     // 关联的线程池执行器引用
     private EagerThreadPoolExecutor executor;
 
@@ -65,6 +65,7 @@ public class TaskQueue extends LinkedBlockingQueue<Runnable> {
      * @throws InterruptedException       如果等待期间被中断
      * @throws RejectedExecutionException 如果执行器已关闭
      */
+    @Override
     public boolean retryOffer(Runnable o, long timeout, TimeUnit unit) throws InterruptedException {
         if (executor.isShutdown()) {
             throw new RejectedExecutionException("Executor is shutdown!");
@@ -0,0 +1,410 @@
+package com.lcsk42.starter.core.threadpool.fanout;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * 有界并行度的扇出执行工具。
+ * <p>
+ * 每次调用向执行器提交不超过 maxConcurrency 个工作通道，通道从共享游标中领取下一个元素执行，
+ * 因此无论元素多少，占用的线程数都不超过并行度，也不会一次性向队列堆积全部任务。
+ * 调用方线程阻塞等待直到全部完成、首个失败（parallelMap、invokeAll）、首个成功（invokeAny）或超过截止时间，
+ * 提前结束时取消并中断其余通道，调用返回后不会再有该调用的任务在后台运行（被中断后仍继续运行的任务除外）。
+ * 尚未开始运行就被取消的通道在取消时计为结束；元素全部被领取后，仍在队列中或被丢弃策略丢弃的通道会被取消，
+ * 因此通道排队或被静默丢弃不会让调用一直等到超时（全部通道都被丢弃时没有任何元素执行，调用以超时结束）。
+ * 调用结束时通过 {@link FanOutListener} 报告操作、结果、任务数与耗时。
+ * </p>
+ * <p>
+ * 注意：在同一线程池的工作线程中调用并等待同一线程池，线程池饱和时可能相互等待直到超时。
+ * </p>
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FanOut {
+
+    public static final String OPERATION_PARALLEL_MAP = "parallelMap";
+
+    public static final String OPERATION_INVOKE_ALL = "invokeAll";
+
+    public static final String OPERATION_INVOKE_ANY = "invokeAny";
+
+    public static final String OUTCOME_SUCCESS = "success";
+
+    public static final String OUTCOME_FAILURE = "failure";
+
+    public static final String OUTCOME_TIMEOUT = "timeout";
+
+    public static final String OUTCOME_INTERRUPTED = "interrupted";
+
+    private static volatile FanOutListener listener;
+
+    /**
+     * 设置扇出调用监听器
+     *
+     * @param fanOutListener 监听器，为 null 时不报告
+     */
+    public static void setListener(FanOutListener fanOutListener) {
+        FanOut.listener = fanOutListener;
+    }
+
+    /**
+     * 以有界并行度对每个元素执行映射，任一元素失败时取消其余元素
+     *
+     * @param executor       执行器
+     * @param items          元素集合
+     * @param mapper         映射函数
+     * @param maxConcurrency 最大并行度
+     * @param timeout        截止时间（相对调用时刻）
+     * @param <T>            元素类型
+     * @param <R>            结果类型
+     * @return 与元素顺序一致的结果列表（允许包含 null）
+     * @throws InterruptedException 如果等待期间被中断
+     * @throws ExecutionException   如果任一元素执行失败，cause 为首个失败的异常
+     * @throws TimeoutException     如果超过截止时间仍未完成
+     */
+    public static <T, R> List<R> parallelMap(Executor executor,
+                                             Collection<? extends T> items,
+                                             Function<? super T, ? extends R> mapper,
+                                             int maxConcurrency,
+                                             Duration timeout)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        Objects.requireNonNull(mapper, "mapper cannot be null");
+        List<? extends T> inputs = new ArrayList<>(items);
+        return runAll(OPERATION_PARALLEL_MAP, executor, inputs.size(), index -> mapper.apply(inputs.get(index)),
+                maxConcurrency, timeout);
+    }
+
+    /**
+     * 以有界并行度执行全部任务，任一任务失败时取消其余任务
+     *
+     * @param executor       执行器
+     * @param tasks          任务集合
+     * @param maxConcurrency 最大并行度
+     * @param timeout        截止时间（相对调用时刻）
+     * @param <T>            结果类型
+     * @return 与任务顺序一致的结果列表（允许包含 null）
+     * @throws InterruptedException 如果等待期间被中断
+     * @throws ExecutionException   如果任一任务执行失败，cause 为首个失败的异常
+     * @throws TimeoutException     如果超过截止时间仍未完成
+     */
+    public static <T> List<T> invokeAll(Executor executor,
+                                        Collection<? extends Callable<T>> tasks,
+                                        int maxConcurrency,
+                                        Duration timeout)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        List<? extends Callable<T>> callables = new ArrayList<>(tasks);
+        return runAll(OPERATION_INVOKE_ALL, executor, callables.size(), index -> callables.get(index).call(),
+                maxConcurrency, timeout);
+    }
+
+    /**
+     * 以有界并行度执行任务，返回首个成功的结果并取消其余任务
+     *
+     * @param executor       执行器
+     * @param tasks          任务集合（不可为空）
+     * @param maxConcurrency 最大并行度
+     * @param timeout        截止时间（相对调用时刻）
+     * @param <T>            结果类型
+     * @return 首个成功任务的结果
+     * @throws InterruptedException 如果等待期间被中断
+     * @throws ExecutionException   如果全部任务失败，cause 为首个失败的异常，其余异常作为 suppressed
+     * @throws TimeoutException     如果超过截止时间仍没有任务成功
+     */
+    public static <T> T invokeAny(Executor executor,
+                                  Collection<? extends Callable<T>> tasks,
+                                  int maxConcurrency,
+                                  Duration timeout)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        List<? extends Callable<T>> callables = new ArrayList<>(tasks);
+        if (callables.isEmpty()) {
+            throw new IllegalArgumentException("Tasks cannot be empty");
+        }
+        Call<T> call = new Call<>(executor, callables.size(), index -> callables.get(index).call(), true);
+        call.await(OPERATION_INVOKE_ANY, maxConcurrency, timeout);
+        return call.firstResult.get().value();
+    }
+
+    private static <R> List<R> runAll(String operation,
+                                      Executor executor,
+                                      int size,
+                                      IndexedTask<R> task,
+                                      int maxConcurrency,
+                                      Duration timeout)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        if (size == 0) {
+            return Collections.emptyList();
+        }
+        Call<R> call = new Call<>(executor, size, task, false);
+        call.await(operation, maxConcurrency, timeout);
+        return call.results();
+    }
+
+    /**
+     * 按序号执行的任务
+     */
+    @FunctionalInterface
+    private interface IndexedTask<R> {
+
+        R call(int index) throws Exception;
+    }
+
+    /**
+     * invokeAny 的成功结果
+     */
+    private record Result<R>(R value) {
+    }
+
+    /**
+     * 一次扇出调用的共享状态
+     */
+    private static final class Call<R> {
+
+        private final Executor executor;
+
+        private final int size;
+
+        private final IndexedTask<R> task;
+
+        // true 表示首个成功即结束（invokeAny），false 表示首个失败即结束
+        private final boolean anySuccess;
+
+        private final Object[] results;
+
+        private final AtomicInteger cursor = new AtomicInteger();
+
+        private final AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+
+        private final AtomicReference<Result<R>> firstResult = new AtomicReference<>();
+
+        private final List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+
+        private final List<Lane> lanes = new ArrayList<>();
+
+        private volatile boolean stopped;
+
+        private CountDownLatch finished;
+
+        private Call(Executor executor, int size, IndexedTask<R> task, boolean anySuccess) {
+            this.executor = Objects.requireNonNull(executor, "executor cannot be null");
+            this.size = size;
+            this.task = task;
+            this.anySuccess = anySuccess;
+            this.results = anySuccess ? null : new Object[size];
+        }
+
+        private void await(String operation, int maxConcurrency, Duration timeout)
+                throws InterruptedException, ExecutionException, TimeoutException {
+            if (maxConcurrency <= 0) {
+                throw new IllegalArgumentException("Max concurrency must be positive");
+            }
+            long startedAt = System.nanoTime();
+            String outcome = OUTCOME_FAILURE;
+            try {
+                int laneCount = Math.min(maxConcurrency, size);
+                finished = new CountDownLatch(laneCount);
+                startLanes(laneCount);
+                if (!finished.await(timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                    outcome = OUTCOME_TIMEOUT;
+                    throw new TimeoutException(operation + " did not complete within " + timeout);
+                }
+                if (anySuccess) {
+                    if (Objects.isNull(firstResult.get())) {
+                        throw allFailed();
+                    }
+                } else if (Objects.nonNull(firstFailure.get())) {
+                    throw new ExecutionException(firstFailure.get());
+                }
+                outcome = OUTCOME_SUCCESS;
+            } catch (InterruptedException ex) {
+                outcome = OUTCOME_INTERRUPTED;
+                throw ex;
+            } finally {
+                // 超时、中断或提交失败时仍有通道在运行，取消它们
+                if (finished.getCount() > 0L) {
+                    stop();
+                }
+                report(operation, outcome, System.nanoTime() - startedAt);
+            }
+        }
+
+        private void startLanes(int laneCount) {
+            int started = 0;
+            RejectedExecutionException rejected = null;
+            synchronized (lanes) {
+                for (int i = 0; i < laneCount; i++) {
+                    Lane lane = new Lane();
+                    try {
+                        executor.execute(lane);
+                        lanes.add(lane);
+                        started++;
+                    } catch (RejectedExecutionException ex) {
+                        rejected = ex;
+                        break;
+                    }
+                }
+            }
+            // 未能提交的通道直接计为结束，已提交的通道会领取全部元素
+            for (int i = started; i < laneCount; i++) {
+                finished.countDown();
+            }
+            if (started == 0) {
+                throw rejected;
+            }
+        }
+
+        private void runLane(AtomicBoolean claimed) {
+            // 取消先于运行领取了通道时，已在 done() 中计为结束
+            if (!claimed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                int index;
+                while (!stopped && (index = cursor.getAndIncrement()) < size) {
+                    try {
+                        R value = task.call(index);
+                        if (anySuccess) {
+                            if (firstResult.compareAndSet(null, new Result<>(value))) {
+                                stop();
+                            }
+                        } else {
+                            results[index] = value;
+                        }
+                    } catch (Throwable ex) {
+                        if (stopped && ex instanceof InterruptedException) {
+                            // 调用已结束时的中断来自取消，不计为失败
+                            break;
+                        }
+                        if (anySuccess) {
+                            failures.add(ex);
+                        } else if (firstFailure.compareAndSet(null, ex)) {
+                            stop();
+                        }
+                    }
+                }
+            } finally {
+                if (cursor.get() >= size) {
+                    cancelUnstartedLanes();
+                }
+                finished.countDown();
+            }
+        }
+
+        /**
+         * 元素已全部被领取，取消仍在排队或已被丢弃的通道
+         */
+        private void cancelUnstartedLanes() {
+            synchronized (lanes) {
+                lanes.stream()
+                        .filter(Lane::isUnstarted)
+                        .forEach(each -> each.cancel(false));
+            }
+        }
+
+        /**
+         * 停止领取新元素并中断其余通道
+         */
+        private void stop() {
+            if (stopped) {
+                return;
+            }
+            stopped = true;
+            synchronized (lanes) {
+                lanes.forEach(each -> each.cancel(true));
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private List<R> results() {
+            return (List<R>) Collections.unmodifiableList(Arrays.asList(results));
+        }
+
+        /**
+         * 工作通道。运行与开始前被取消二者只有一方领取通道并计入结束，避免被取消的排队通道永远不计为结束
+         */
+        private final class Lane extends FutureTask<Void> {
+
+            private final AtomicBoolean claimed;
+
+            private Lane() {
+                this(new AtomicBoolean());
+            }
+
+            private Lane(AtomicBoolean claimed) {
+                super(() -> runLane(claimed), null);
+                this.claimed = claimed;
+            }
+
+            private boolean isUnstarted() {
+                return !claimed.get();
+            }
+
+            @Override
+            protected void done() {
+                if (isCancelled() && claimed.compareAndSet(false, true)) {
+                    finished.countDown();
+                }
+            }
+        }
+
+        private ExecutionException allFailed() {
+            List<Throwable> snapshot;
+            synchronized (failures) {
+                snapshot = new ArrayList<>(failures);
+            }
+            ExecutionException ex = new ExecutionException("All tasks failed",
+                    snapshot.isEmpty() ? null : snapshot.get(0));
+            snapshot.stream().skip(1).forEach(ex::addSuppressed);
+            return ex;
+        }
+
+        private void report(String operation, String outcome, long elapsedNanos) {
+            FanOutListener current = listener;
+            if (Objects.isNull(current)) {
+                return;
+            }
+            try {
+                current.onCompleted(operation, outcome, size, elapsedNanos);
+            } catch (RuntimeException ex) {
+                log.warn("[Omega Starter] - Reporting {} metrics failed.", operation, ex);
+            }
+        }
+    }
+
+    /**
+     * 扇出调用监听器
+     */
+    @FunctionalInterface
+    public interface FanOutListener {
+
+        /**
+         * 调用结束后回调
+         *
+         * @param operation    操作（parallelMap、invokeAll、invokeAny）
+         * @param outcome      结果（success、failure、timeout、interrupted）
+         * @param tasks        任务数
+         * @param elapsedNanos 调用耗时 (单位: 纳秒)
+         */
+        void onCompleted(String operation, String outcome, int tasks, long elapsedNanos);
+    }
+}
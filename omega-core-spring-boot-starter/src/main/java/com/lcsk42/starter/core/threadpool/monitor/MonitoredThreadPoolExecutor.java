@@ -0,0 +1,384 @@
+package com.lcsk42.starter.core.threadpool.monitor;
+
+import com.lcsk42.starter.core.threadpool.context.ContextPropagation;
+import com.lcsk42.starter.core.threadpool.context.ContextSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 可观测的线程池执行器。
+ * <p>
+ * 提交时记录时间戳（可选地记录提交方调用栈），执行时计算排队等待与执行耗时并回调 {@link TaskTimingListener}，
+ * 排队与执行总耗时超过慢任务阈值时输出告警日志并附带提交方调用栈，便于定位是谁提交了慢任务。
+ * 提交时同时捕获 {@link ContextPropagation} 中注册的上下文，执行期间在工作线程回放。
+ * 拒绝次数由 {@link com.lcsk42.starter.core.threadpool.proxy.RejectedProxyUtil} 包装的拒绝策略累加到 {@link #getRejectedCount()}。
+ * 每个任务的排队、执行耗时（启用时还包括执行期间占用的 CPU 时间）累加到计数器，供容量估算按采样间隔求差值。
+ * {@link #remove(Runnable)} 与 {@link #purge()} 会识别监控包装，按原始任务删除或清理已取消的任务。
+ * </p>
+ */
+@Slf4j
+public class MonitoredThreadPoolExecutor extends ThreadPoolExecutor {
+
+    // 慢任务阈值 (单位: 纳秒)，小于等于 0 表示不检测
+    private static volatile long slowTaskThresholdNanos = TimeUnit.SECONDS.toNanos(5);
+
+    // 是否在提交时记录调用栈，每次提交都会采集一次调用栈，默认关闭
+    private static volatile boolean captureSubmitterStack = false;
+
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    // 拒绝次数
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    // 经由 execute 提交并执行结束的任务数
+    private final LongAdder executedCount = new LongAdder();
+
+    // 累计排队耗时 (单位: 纳秒)
+    private final LongAdder totalQueueWaitNanos = new LongAdder();
+
+    // 累计执行耗时 (单位: 纳秒)
+    private final LongAdder totalExecutionNanos = new LongAdder();
+
+    // 累计执行期间占用的 CPU 时间 (单位: 纳秒)，未启用统计时为 0
+    private final LongAdder totalCpuNanos = new LongAdder();
+
+    // 是否统计本线程池中任务执行期间占用的 CPU 时间
+    private volatile boolean cpuTimeMeasurement = false;
+
+    // 线程池名称，用于日志
+    private volatile String poolName;
+
+    // 任务耗时监听器
+    private volatile TaskTimingListener taskTimingListener;
+
+    /**
+     * 使用给定参数构造新的 MonitoredThreadPoolExecutor
+     *
+     * @param corePoolSize    池中保持的线程数
+     * @param maximumPoolSize 池中最大线程数
+     * @param keepAliveTime   多余空闲线程等待新任务的时长
+     * @param unit            时间单位
+     * @param workQueue       任务执行前存放的队列
+     * @param threadFactory   创建新线程的工厂
+     * @param handler         执行被阻塞时使用的处理器
+     */
+    public MonitoredThreadPoolExecutor(int corePoolSize,
+                                       int maximumPoolSize,
+                                       long keepAliveTime,
+                                       TimeUnit unit,
+                                       BlockingQueue<Runnable> workQueue,
+                                       ThreadFactory threadFactory,
+                                       RejectedExecutionHandler handler) {
+        super(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory, handler);
+    }
+
+    /**
+     * 设置全部可观测线程池的慢任务检测参数
+     *
+     * @param slowTaskThresholdMillis 慢任务阈值 (单位: 毫秒)，小于等于 0 表示不检测
+     * @param captureSubmitterStack   是否在提交时记录调用栈（每次提交会额外产生一次栈采集开销）
+     */
+    public static void configureSlowTaskDetection(long slowTaskThresholdMillis, boolean captureSubmitterStack) {
+        MonitoredThreadPoolExecutor.slowTaskThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowTaskThresholdMillis);
+        MonitoredThreadPoolExecutor.captureSubmitterStack = captureSubmitterStack;
+    }
+
+    /**
+     * 执行给定任务，包装为记录提交时间的任务
+     *
+     * @param command 要执行的任务
+     */
+    @Override
+    public void execute(@NonNull Runnable command) {
+        Objects.requireNonNull(command);
+        super.execute(new MonitoredTask(command,
+                System.nanoTime(),
+                captureSubmitterStack(),
+                ContextPropagation.capture()));
+    }
+
+    /**
+     * 立即关闭线程池，返回的任务已去掉监控包装
+     *
+     * @return 尚未执行的原始任务列表
+     */
+    @NonNull
+    @Override
+    public List<Runnable> shutdownNow() {
+        List<Runnable> tasks = super.shutdownNow();
+        List<Runnable> unwrapped = new ArrayList<>(tasks.size());
+        for (Runnable task : tasks) {
+            unwrapped.add(unwrap(task));
+        }
+        return unwrapped;
+    }
+
+    /**
+     * 从工作队列中删除任务，传入原始任务时删除其监控包装
+     *
+     * @param task 要删除的任务
+     * @return 是否删除了任务
+     */
+    @Override
+    public boolean remove(Runnable task) {
+        for (Runnable queued : getQueue()) {
+            if (queued == task || Objects.equals(unwrap(queued), task)) {
+                return super.remove(queued);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 从工作队列中清理已取消的 {@link Future} 任务，包括经监控包装的任务
+     */
+    @Override
+    public void purge() {
+        BlockingQueue<Runnable> queue = getQueue();
+        try {
+            Iterator<Runnable> iterator = queue.iterator();
+            while (iterator.hasNext()) {
+                if (isCancelled(iterator.next())) {
+                    iterator.remove();
+                }
+            }
+        } catch (ConcurrentModificationException ex) {
+            // 与 ThreadPoolExecutor 一致，迭代器不支持并发修改时退化为按快照逐个删除
+            for (Object queued : queue.toArray()) {
+                if (queued instanceof Runnable runnable && isCancelled(runnable)) {
+                    queue.remove(queued);
+                }
+            }
+        }
+        // 清理未经包装的任务，并在关闭过程中尝试终止线程池
+        super.purge();
+    }
+
+    /**
+     * 获取拒绝次数计数器
+     *
+     * @return 拒绝次数计数器
+     */
+    public AtomicLong getRejectedCount() {
+        return rejectedCount;
+    }
+
+    /**
+     * 获取经由 execute 提交并执行结束的任务数
+     *
+     * @return 执行结束的任务数
+     */
+    public long getExecutedCount() {
+        return executedCount.sum();
+    }
+
+    /**
+     * 获取累计排队耗时
+     *
+     * @return 累计排队耗时 (单位: 纳秒)
+     */
+    public long getTotalQueueWaitNanos() {
+        return totalQueueWaitNanos.sum();
+    }
+
+    /**
+     * 获取累计执行耗时
+     *
+     * @return 累计执行耗时 (单位: 纳秒)
+     */
+    public long getTotalExecutionNanos() {
+        return totalExecutionNanos.sum();
+    }
+
+    /**
+     * 获取累计执行期间占用的 CPU 时间
+     *
+     * @return 累计 CPU 时间 (单位: 纳秒)，未启用统计时为 0
+     */
+    public long getTotalCpuNanos() {
+        return totalCpuNanos.sum();
+    }
+
+    /**
+     * 设置是否统计本线程池中任务执行期间占用的 CPU 时间（每个任务额外读取两次线程 CPU 时间），
+     * JVM 不支持或未开启线程 CPU 时间统计时保持关闭
+     *
+     * @param enabled 是否统计
+     */
+    public void setCpuTimeMeasurement(boolean enabled) {
+        this.cpuTimeMeasurement = enabled
+                && THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported()
+                && THREAD_MX_BEAN.isThreadCpuTimeEnabled();
+    }
+
+    /**
+     * 判断是否统计本线程池中任务执行期间占用的 CPU 时间
+     *
+     * @return 统计返回 true
+     */
+    public boolean isCpuTimeMeasurement() {
+        return cpuTimeMeasurement;
+    }
+
+    /**
+     * 获取线程池名称
+     *
+     * @return 线程池名称，未设置时为 null
+     */
+    public String getPoolName() {
+        return poolName;
+    }
+
+    /**
+     * 设置线程池名称，用于慢任务与监听器异常日志
+     *
+     * @param poolName 线程池名称
+     */
+    public void setPoolName(String poolName) {
+        this.poolName = poolName;
+    }
+
+    /**
+     * 设置任务耗时监听器，每个经由 execute 提交的任务执行结束后回调，同一时刻只保留一个监听器
+     *
+     * @param taskTimingListener 任务耗时监听器，为 null 时不回调
+     */
+    public void setTaskTimingListener(TaskTimingListener taskTimingListener) {
+        this.taskTimingListener = taskTimingListener;
+    }
+
+    /**
+     * 判断任务是否经由 {@link #execute(Runnable)} 提交（直接放入队列的任务不经过包装）
+     *
+     * @param task 工作线程执行的任务
+     * @return 经由 execute 提交返回 true
+     */
+    protected static boolean isSubmittedTask(Runnable task) {
+        return task instanceof MonitoredThreadPoolExecutor.MonitoredTask;
+    }
+
+    /**
+     * 去掉监控包装，返回经由 {@link #execute(Runnable)} 提交的原始任务
+     *
+     * @param task 工作队列中的任务
+     * @return 原始任务，未经包装时返回自身
+     */
+    public static Runnable unwrap(Runnable task) {
+        return task instanceof MonitoredThreadPoolExecutor.MonitoredTask monitoredTask ? monitoredTask.delegate : task;
+    }
+
+    private static boolean isCancelled(Runnable queued) {
+        return unwrap(queued) instanceof Future<?> future && future.isCancelled();
+    }
+
+    private static Throwable captureSubmitterStack() {
+        if (slowTaskThresholdNanos <= 0L || !captureSubmitterStack) {
+            return null;
+        }
+        return new Throwable("Task submitted from");
+    }
+
+    private long currentThreadCpuTime() {
+        return cpuTimeMeasurement ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : -1L;
+    }
+
+    private void onTaskExecuted(MonitoredTask task, long queueWaitNanos, long executionNanos, long cpuNanos) {
+        executedCount.increment();
+        totalQueueWaitNanos.add(queueWaitNanos);
+        totalExecutionNanos.add(executionNanos);
+        if (cpuNanos > 0L) {
+            totalCpuNanos.add(cpuNanos);
+        }
+        TaskTimingListener listener = taskTimingListener;
+        if (Objects.nonNull(listener)) {
+            try {
+                listener.onTaskExecuted(queueWaitNanos, executionNanos);
+            } catch (RuntimeException ex) {
+                log.warn("[Omega Starter] - Recording task timing of thread pool [{}] failed.", poolName, ex);
+            }
+        }
+        long threshold = slowTaskThresholdNanos;
+        if (threshold > 0L && queueWaitNanos + executionNanos > threshold) {
+            log.warn("[Omega Starter] - Slow task in thread pool [{}]: waited {} ms in queue, ran {} ms.",
+                    poolName,
+                    TimeUnit.NANOSECONDS.toMillis(queueWaitNanos),
+                    TimeUnit.NANOSECONDS.toMillis(executionNanos),
+                    task.submitterStack);
+        }
+    }
+
+    /**
+     * 任务耗时监听器
+     */
+    @FunctionalInterface
+    public interface TaskTimingListener {
+
+        /**
+         * 任务执行结束（包括异常结束）后回调
+         *
+         * @param queueWaitNanos 排队等待耗时 (单位: 纳秒)
+         * @param executionNanos 执行耗时 (单位: 纳秒)
+         */
+        void onTaskExecuted(long queueWaitNanos, long executionNanos);
+    }
+
+    /**
+     * 记录提交时间、提交方调用栈与提交方上下文的任务包装
+     */
+    private final class MonitoredTask implements Runnable {
+
+        private final Runnable delegate;
+
+        private final long submittedAt;
+
+        private final Throwable submitterStack;
+
+        private final ContextSnapshot context;
+
+        private MonitoredTask(Runnable delegate, long submittedAt, Throwable submitterStack, ContextSnapshot context) {
+            this.delegate = delegate;
+            this.submittedAt = submittedAt;
+            this.submitterStack = submitterStack;
+            this.context = context;
+        }
+
+        @Override
+        public void run() {
+            long startedAt = System.nanoTime();
+            long cpuStartedAt = currentThreadCpuTime();
+            Object[] backup = context.replay();
+            try {
+                delegate.run();
+            } finally {
+                context.restore(backup);
+                // 虚拟线程等不支持的线程返回 -1
+                long cpuEndedAt = cpuStartedAt < 0L ? -1L : currentThreadCpuTime();
+                onTaskExecuted(this,
+                        startedAt - submittedAt,
+                        System.nanoTime() - startedAt,
+                        cpuEndedAt < 0L ? -1L : cpuEndedAt - cpuStartedAt);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return delegate.toString();
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.lcsk42.starter.core.threadpool.monitor;
+
+import com.lcsk42.starter.core.enums.TaskPriority;
+import com.lcsk42.starter.core.threadpool.dynamic.ThreadPoolRegistry;
+import com.lcsk42.starter.core.threadpool.eager.EagerThreadPoolExecutor;
+import com.lcsk42.starter.core.threadpool.fanout.FanOut;
+import com.lcsk42.starter.core.threadpool.priority.PriorityLaneBlockingQueue;
+import com.lcsk42.starter.core.threadpool.virtual.VirtualThreadExecutor;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+/**
+ * 将 {@link ThreadPoolRegistry} 中的线程池注册到 Micrometer。
+ * <p>
+ * 每个线程池以 {@code name} 标签区分，包含线程数、活跃线程数、队列深度、队列剩余容量、完成任务数等指标；
+ * 由 ThreadPoolBuilder 构建的线程池额外包含拒绝次数以及任务排队等待与执行耗时的 Timer；
+ * 工作队列为 {@link PriorityLaneBlockingQueue} 时按 {@code priority} 标签记录各优先级通道的排队数、排队耗时与老化出队数。
+ * 绑定后注册的线程池会通过注册监听器自动补充指标，同名线程池重新注册时替换原有指标。
+ * 登记的 {@link VirtualThreadExecutor} 使用相同的指标名，队列深度为等待并发许可的任务数，最大线程数为最大并发数。
+ * {@link FanOut} 的每次扇出调用按操作与结果记录到 {@code omega.thread.fanout} Timer。
+ * </p>
+ */
+public class ThreadPoolMeterBinder implements MeterBinder, DisposableBean {
+
+    private static final String METRIC_PREFIX = "omega.thread.pool";
+
+    private static final String TAG_NAME = "name";
+
+    private static final String TAG_PRIORITY = "priority";
+
+    private static final String FAN_OUT_METRIC = "omega.thread.fanout";
+
+    private static final String FAN_OUT_TASKS_METRIC = "omega.thread.fanout.tasks";
+
+    // 线程池名称 -> 已注册的指标
+    private final Map<String, List<Meter>> poolMeters = new HashMap<>();
+
+    private final BiConsumer<String, ThreadPoolExecutor> registrationListener = this::bindPool;
+
+    private final BiConsumer<String, VirtualThreadExecutor> virtualRegistrationListener = this::bindVirtualExecutor;
+
+    private volatile MeterRegistry meterRegistry;
+
+    /**
+     * 绑定到指标注册表。不在本对象锁内添加注册监听器，避免与注册表锁形成相反的加锁顺序
+     *
+     * @param registry 指标注册表
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.meterRegistry = registry;
+        ThreadPoolRegistry.addRegistrationListener(registrationListener);
+        ThreadPoolRegistry.addVirtualRegistrationListener(virtualRegistrationListener);
+        FanOut.setListener((operation, outcome, tasks, elapsedNanos) -> {
+            Timer.builder(FAN_OUT_METRIC)
+                    .description("The time fan-out calls took to complete")
+                    .tags("operation", operation, "outcome", outcome)
+                    .register(registry)
+                    .record(elapsedNanos, TimeUnit.NANOSECONDS);
+            DistributionSummary.builder(FAN_OUT_TASKS_METRIC)
+                    .description("The number of tasks per fan-out call")
+                    .tags("operation", operation)
+                    .register(registry)
+                    .record(tasks);
+        });
+    }
+
+    @Override
+    public void destroy() {
+        ThreadPoolRegistry.removeRegistrationListener(registrationListener);
+        ThreadPoolRegistry.removeVirtualRegistrationListener(virtualRegistrationListener);
+        FanOut.setListener(null);
+    }
+
+    private synchronized void bindVirtualExecutor(String poolName, VirtualThreadExecutor executor) {
+        MeterRegistry registry = meterRegistry;
+        if (Objects.isNull(registry)) {
+            return;
+        }
+        removeMeters(registry, poolName);
+
+        Tags tags = Tags.of(TAG_NAME, poolName);
+        List<Meter> meters = new ArrayList<>();
+        meters.add(Gauge.builder(METRIC_PREFIX + ".max", executor, VirtualThreadExecutor::getMaxConcurrency)
+                .description("The maximum number of tasks allowed to run concurrently, 0 means unlimited")
+                .tags(tags)
+                .register(registry));
+        meters.add(Gauge.builder(METRIC_PREFIX + ".active", executor, VirtualThreadExecutor::getActiveCount)
+                .description("The number of tasks that are actively executing")
+                .tags(tags)
+                .register(registry));
+        meters.add(Gauge.builder(METRIC_PREFIX + ".queue.size", executor, VirtualThreadExecutor::getWaitingCount)
+                .description("The number of tasks waiting for a concurrency permit")
+                .tags(tags)
+                .register(registry));
+        meters.add(FunctionCounter.builder(METRIC_PREFIX + ".tasks", executor, VirtualThreadExecutor::getTaskCount)
+                .description("The total number of tasks submitted to the executor")
+                .tags(tags)
+                .register(registry));
+        meters.add(FunctionCounter.builder(METRIC_PREFIX + ".completed", executor,
+                        VirtualThreadExecutor::getCompletedTaskCount)
+                .description("The total number of tasks that have finished")
+                .tags(tags)
+                .register(registry));
+        poolMeters.put(poolName, meters);
+    }
+
+    private void removeMeters(MeterRegistry registry, String poolName) {
+        List<Meter> previous = poolMeters.remove(poolName);
+        if (Objects.nonNull(previous)) {
+            previous.forEach(registry::remove);
+        }
+    }
+
+    private synchronized void bindPool(String poolName, ThreadPoolExecutor executor) {
+        MeterRegistry registry = meterRegistry;
+        if (Objects.isNull(registry)) {
+            return;
+        }
+        removeMeters(registry, poolName);
+
+        Tags tags = Tags.of(TAG_NAME, poolName);
+        List<Meter> meters = new ArrayList<>();
+        meters.add(Gauge.builder(METRIC_PREFIX + ".core", executor, ThreadPoolExecutor::getCorePoolSize)
+                .description("The core number of threads of the pool")
+                .tags(tags)
+                .register(registry));
+        meters.add(Gauge.builder(METRIC_PREFIX + ".max", executor, ThreadPoolExecutor::getMaximumPoolSize)
+                .description("The maximum allowed number of threads of the pool")
+                .tags(tags)
+                .register(registry));
+        meters.add(Gauge.builder(METRIC_PREFIX + ".size", executor, ThreadPoolExecutor::getPoolSize)
+                .description("The current number of threads in the pool")
+                .tags(tags)
+                .register(registry));
+        meters.add(Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("The approximate number of threads that are actively executing tasks")
+                .tags(tags)
+                .register(registry));
+        meters.add(Gauge.builder(METRIC_PREFIX + ".queue.size", executor, each -> each.getQueue().size())
+                .description("The approximate number of tasks that are queued for execution")
+                .tags(tags)
+                .register(registry));
+        meters.add(Gauge.builder(METRIC_PREFIX + ".queue.remaining", executor,
+                        each -> each.getQueue().remainingCapacity())
+                .description("The number of additional elements that the queue can ideally accept without blocking")
+                .tags(tags)
+                .register(registry));
+        meters.add(FunctionCounter.builder(METRIC_PREFIX + ".completed", executor,
+                        ThreadPoolExecutor::getCompletedTaskCount)
+                .description("The approximate total number of tasks that have completed execution")
+                .tags(tags)
+                .register(registry));
+        if (executor instanceof EagerThreadPoolExecutor eagerExecutor) {
+            meters.add(Gauge.builder(METRIC_PREFIX + ".submitted", eagerExecutor,
+                            EagerThreadPoolExecutor::getSubmittedTaskCount)
+                    .description("The number of tasks that are submitted but not yet finished")
+                    .tags(tags)
+                    .register(registry));
+        }
+        if (executor instanceof MonitoredThreadPoolExecutor monitoredExecutor) {
+            meters.add(FunctionCounter.builder(METRIC_PREFIX + ".rejected", monitoredExecutor.getRejectedCount(),
+                            AtomicLong::get)
+                    .description("The total number of tasks rejected by the pool")
+                    .tags(tags)
+                    .register(registry));
+            Timer queueWaitTimer = Timer.builder(METRIC_PREFIX + ".task.wait")
+                    .description("The time tasks spent waiting in the queue")
+                    .tags(tags)
+                    .register(registry);
+            Timer executionTimer = Timer.builder(METRIC_PREFIX + ".task.execution")
+                    .description("The time tasks spent executing")
+                    .tags(tags)
+                    .register(registry);
+            meters.add(queueWaitTimer);
+            meters.add(executionTimer);
+            monitoredExecutor.setTaskTimingListener((queueWaitNanos, executionNanos) -> {
+                queueWaitTimer.record(queueWaitNanos, TimeUnit.NANOSECONDS);
+                executionTimer.record(executionNanos, TimeUnit.NANOSECONDS);
+            });
+        }
+        if (executor.getQueue() instanceof PriorityLaneBlockingQueue priorityQueue) {
+            for (TaskPriority priority : TaskPriority.values()) {
+                Tags laneTags = tags.and(TAG_PRIORITY, priority.name());
+                meters.add(Gauge.builder(METRIC_PREFIX + ".lane.queue.size", priorityQueue, each -> each.size(priority))
+                        .description("The number of tasks queued in the priority lane")
+                        .tags(laneTags)
+                        .register(registry));
+                meters.add(FunctionTimer.builder(METRIC_PREFIX + ".lane.wait", priorityQueue,
+                                each -> each.getDequeuedCount(priority),
+                                each -> each.getTotalWaitNanos(priority),
+                                TimeUnit.NANOSECONDS)
+                        .description("The time tasks spent waiting in the priority lane")
+                        .tags(laneTags)
+                        .register(registry));
+                meters.add(FunctionCounter.builder(METRIC_PREFIX + ".lane.aged", priorityQueue,
+                                each -> each.getAgedCount(priority))
+                        .description("The number of tasks dequeued ahead of their priority due to aging")
+                        .tags(laneTags)
+                        .register(registry));
+            }
+        }
+        poolMeters.put(poolName, meters);
+    }
+}
@@ -0,0 +1,325 @@
+package com.lcsk42.starter.core.threadpool.overflow;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.zip.CRC32;
+
+/**
+ * 基于内存映射的环形溢出文件。
+ * <p>
+ * 文件布局为固定大小的头部加环形排列的记录，每条记录为 {@code [长度][CRC32][序号][内容]}，序号随每条记录递增，
+ * CRC32 同时覆盖长度、序号与内容。尾部剩余空间放不下下一条记录时写入回绕标记，从头部之后继续写入，
+ * 确认释放的空间即可被复用，不需要等到全部记录确认。
+ * 头部以一次 8 字节写入同时持久化读取位置与该位置的期望序号；重新打开时从读取位置按序号连续校验记录，
+ * 遇到序号不连续、校验失败或空间越界即停止，以此恢复写入位置与待读记录数。
+ * 旧记录即使 CRC 有效，序号也早于期望值，回绕或清空后不会被当作未读记录重复回放。
+ * 追加后立即将记录所在范围刷写到磁盘；读取采用"读取 - 确认"两步，确认后才推进读取位置，
+ * 因此崩溃恢复后记录至少被读取一次。
+ * </p>
+ */
+public class MappedOverflowFile implements Closeable {
+
+    private static final int MAGIC = 0x4F4D4F46;
+
+    private static final int VERSION = 2;
+
+    private static final int HEADER_SIZE = 64;
+
+    // 读取位置（低 32 位）与期望序号（高 32 位）
+    private static final int READ_POSITION = 8;
+
+    // 记录头：长度 + CRC32 + 序号
+    private static final int RECORD_HEADER_SIZE = 12;
+
+    private static final int CHECKSUM_OFFSET = 4;
+
+    private static final int SEQUENCE_OFFSET = 8;
+
+    // 回绕标记：长度字段为 -1，后跟下一条记录的序号
+    private static final int WRAP_MARKER = -1;
+
+    private static final int WRAP_MARKER_SIZE = 8;
+
+    private final Path path;
+
+    private final FileChannel channel;
+
+    private final MappedByteBuffer buffer;
+
+    private final int capacity;
+
+    private int readOffset;
+
+    private int readSequence;
+
+    private int writeOffset;
+
+    private int writeSequence;
+
+    private int pendingCount;
+
+    private boolean closed;
+
+    /**
+     * 打开或创建溢出文件，已存在的文件会恢复其中未确认的记录
+     *
+     * @param path     文件路径
+     * @param capacity 文件大小 (单位: 字节)，已存在的文件更大时沿用原大小
+     * @throws IOException 如果文件无法打开、映射，或不是溢出文件
+     */
+    public MappedOverflowFile(Path path, int capacity) throws IOException {
+        if (capacity <= HEADER_SIZE + RECORD_HEADER_SIZE + WRAP_MARKER_SIZE) {
+            throw new IllegalArgumentException("Overflow file capacity is too small: " + capacity);
+        }
+        this.path = path;
+        Path parent = path.toAbsolutePath().getParent();
+        if (Objects.nonNull(parent)) {
+            Files.createDirectories(parent);
+        }
+        this.channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long existingSize = channel.size();
+            this.capacity = (int) Math.min(Math.max(existingSize, capacity), Integer.MAX_VALUE);
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, this.capacity);
+            if (existingSize < HEADER_SIZE || buffer.getInt(0) == 0) {
+                initialize();
+            } else if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                throw new IOException("File " + path + " is not an overflow file of version " + VERSION + ".");
+            } else {
+                recover();
+            }
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * 追加一条记录并刷写到磁盘
+     *
+     * @param payload 记录内容
+     * @return 写入成功返回 true，剩余空间不足或文件已关闭时返回 false
+     */
+    public synchronized boolean append(byte[] payload) {
+        if (closed) {
+            return false;
+        }
+        int recordSize = RECORD_HEADER_SIZE + payload.length;
+        if (pendingCount == 0 && writeOffset != HEADER_SIZE) {
+            rewind();
+        }
+        int position;
+        int wrapAt = -1;
+        if (pendingCount == 0 || writeOffset > readOffset) {
+            // 未回绕：未读记录位于 [readOffset, writeOffset)
+            if ((long) writeOffset + recordSize <= capacity) {
+                position = writeOffset;
+            } else if (HEADER_SIZE + recordSize <= readOffset) {
+                position = HEADER_SIZE;
+                wrapAt = writeOffset;
+            } else {
+                return false;
+            }
+        } else if ((long) writeOffset + recordSize <= readOffset) {
+            // 已回绕：可写空间为 [writeOffset, readOffset)
+            position = writeOffset;
+        } else {
+            return false;
+        }
+        // 最后写长度使记录可见
+        buffer.putInt(position + SEQUENCE_OFFSET, writeSequence);
+        buffer.put(position + RECORD_HEADER_SIZE, payload);
+        buffer.putInt(position + CHECKSUM_OFFSET, checksum(payload, writeSequence));
+        buffer.putInt(position, payload.length);
+        buffer.force(position, recordSize);
+        if (wrapAt >= 0 && wrapAt + WRAP_MARKER_SIZE <= capacity) {
+            // 尾部不足一个回绕标记时读取方按空间不足隐式回绕
+            buffer.putInt(wrapAt + 4, writeSequence);
+            buffer.putInt(wrapAt, WRAP_MARKER);
+            buffer.force(wrapAt, WRAP_MARKER_SIZE);
+        }
+        writeOffset = position + recordSize;
+        writeSequence++;
+        pendingCount++;
+        return true;
+    }
+
+    /**
+     * 读取最早一条未确认的记录，不推进读取位置
+     *
+     * @return 记录内容，没有未确认的记录时为 null
+     */
+    public synchronized byte[] peek() {
+        if (pendingCount == 0) {
+            return null;
+        }
+        byte[] payload = new byte[buffer.getInt(readOffset)];
+        buffer.get(readOffset + RECORD_HEADER_SIZE, payload);
+        return payload;
+    }
+
+    /**
+     * 确认最早一条记录，推进并持久化读取位置
+     */
+    public synchronized void commit() {
+        if (pendingCount == 0) {
+            return;
+        }
+        readOffset += RECORD_HEADER_SIZE + buffer.getInt(readOffset);
+        readSequence++;
+        pendingCount--;
+        if (pendingCount == 0) {
+            rewind();
+            return;
+        }
+        if (readOffset + WRAP_MARKER_SIZE > capacity || buffer.getInt(readOffset) == WRAP_MARKER) {
+            readOffset = HEADER_SIZE;
+        }
+        storeReadPosition();
+    }
+
+    /**
+     * 获取未确认的记录数
+     *
+     * @return 未确认的记录数
+     */
+    public synchronized int getPendingCount() {
+        return pendingCount;
+    }
+
+    /**
+     * 获取未确认记录占用的字节数（回绕时包含尾部未使用的空间）
+     *
+     * @return 占用字节数
+     */
+    public synchronized long getPendingBytes() {
+        if (pendingCount == 0) {
+            return 0L;
+        }
+        return writeOffset > readOffset
+                ? (long) writeOffset - readOffset
+                : (long) capacity - readOffset + writeOffset - HEADER_SIZE;
+    }
+
+    /**
+     * 获取文件路径
+     *
+     * @return 文件路径
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * 将映射内容（主要是确认后的读取位置）刷写到磁盘，防止操作系统崩溃时重复回放已确认的记录
+     */
+    public synchronized void flush() {
+        if (!closed) {
+            buffer.force();
+        }
+    }
+
+    /**
+     * 刷写并关闭文件，重复调用无副作用
+     *
+     * @throws IOException 如果关闭文件失败
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        buffer.force();
+        channel.close();
+    }
+
+    private void initialize() {
+        readOffset = HEADER_SIZE;
+        readSequence = 0;
+        writeOffset = HEADER_SIZE;
+        writeSequence = 0;
+        pendingCount = 0;
+        storeReadPosition();
+        buffer.putInt(4, VERSION);
+        buffer.putInt(0, MAGIC);
+        buffer.force();
+    }
+
+    private void recover() {
+        long readPosition = buffer.getLong(READ_POSITION);
+        int storedOffset = (int) readPosition;
+        readSequence = (int) (readPosition >>> 32);
+        readOffset = storedOffset < HEADER_SIZE || storedOffset > capacity - WRAP_MARKER_SIZE
+                ? HEADER_SIZE
+                : storedOffset;
+        int position = readOffset;
+        int sequence = readSequence;
+        int count = 0;
+        boolean wrapped = false;
+        for (; ; ) {
+            if (position + WRAP_MARKER_SIZE > capacity
+                    || (buffer.getInt(position) == WRAP_MARKER
+                    && buffer.getInt(position + 4) == sequence)) {
+                if (wrapped || position == HEADER_SIZE) {
+                    break;
+                }
+                if (count == 0) {
+                    readOffset = HEADER_SIZE;
+                }
+                position = HEADER_SIZE;
+                wrapped = true;
+                continue;
+            }
+            int length = buffer.getInt(position);
+            long end = (long) position + RECORD_HEADER_SIZE + length;
+            if (length <= 0 || end > capacity || (wrapped && count > 0 && end > readOffset)
+                    || buffer.getInt(position + SEQUENCE_OFFSET) != sequence) {
+                break;
+            }
+            byte[] payload = new byte[length];
+            buffer.get(position + RECORD_HEADER_SIZE, payload);
+            if (checksum(payload, sequence) != buffer.getInt(position + CHECKSUM_OFFSET)) {
+                break;
+            }
+            position = (int) end;
+            sequence++;
+            count++;
+        }
+        writeOffset = position;
+        writeSequence = sequence;
+        pendingCount = count;
+        if (count == 0) {
+            rewind();
+        }
+    }
+
+    /**
+     * 没有未确认记录时将读写位置回绕到头部之后。期望序号不变，原位置上的旧记录序号更早，恢复时不会被识别
+     */
+    private void rewind() {
+        readOffset = HEADER_SIZE;
+        writeOffset = HEADER_SIZE;
+        readSequence = writeSequence;
+        storeReadPosition();
+    }
+
+    private void storeReadPosition() {
+        buffer.putLong(READ_POSITION, ((long) readSequence << 32) | (readOffset & 0xFFFFFFFFL));
+    }
+
+    private static int checksum(byte[] payload, int sequence) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(ByteBuffer.allocate(8).putInt(payload.length).putInt(sequence).flip());
+        crc32.update(payload);
+        return (int) crc32.getValue();
+    }
+}
@@ -0,0 +1,309 @@
+package com.lcsk42.starter.core.threadpool.overflow;
+
+import com.lcsk42.starter.core.threadpool.build.ThreadFactoryBuilder;
+import com.lcsk42.starter.core.threadpool.monitor.MonitoredThreadPoolExecutor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 溢出到磁盘的拒绝策略。
+ * <p>
+ * 队列已满时，将实现了 {@link Serializable} 的任务序列化后追加到 {@link MappedOverflowFile}，
+ * 后台线程按固定间隔在工作队列有剩余容量时读回任务重新提交，提交成功后才确认记录。
+ * 进程崩溃后使用同一文件重新构建线程池即可恢复未执行的任务（至少执行一次，任务需可重复执行）。
+ * 不可序列化的任务、溢出文件已满或线程池已关闭时交给后备拒绝策略处理。
+ * </p>
+ * <p>
+ * 限制：通过 {@code submit} 提交的任务被包装为 FutureTask，调用方持有其 Future，无法落盘，总是交给后备拒绝策略；
+ * 落盘的任务不携带提交方的上下文，与直接入队的任务之间也不保证先后顺序。
+ * 反序列化受构造时指定的过滤器约束，未指定时使用白名单过滤器，只允许 java.base 中的类与同时实现
+ * {@link Runnable}、{@link Serializable} 的任务类，任务字段引用其他应用类时需自行指定过滤器；
+ * 溢出文件应放在仅本应用可写的目录中。
+ * 一个实例只能服务一个线程池，由 ThreadPoolBuilder 构建时自动绑定；绑定的线程池关闭后停止回放线程并关闭溢出文件，
+ * 未回放的任务保留在文件中，下次启动时恢复。
+ * </p>
+ */
+@Slf4j
+public class SpillingRejectedExecutionHandler implements RejectedExecutionHandler, Closeable {
+
+    // 标记当前线程正在回放溢出任务，此时被拒绝不应再次落盘
+    private static final ThreadLocal<Boolean> DRAINING = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private final MappedOverflowFile overflowFile;
+
+    private final RejectedExecutionHandler fallbackHandler;
+
+    private final ObjectInputFilter inputFilter;
+
+    private final ScheduledExecutorService drainer;
+
+    private final AtomicReference<ThreadPoolExecutor> executor = new AtomicReference<>();
+
+    private final AtomicLong spilledCount = new AtomicLong();
+
+    private final AtomicLong drainedCount = new AtomicLong();
+
+    private final AtomicLong fallbackCount = new AtomicLong();
+
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    /**
+     * 使用 AbortPolicy 作为后备策略、每 100 毫秒回放一次构造拒绝策略
+     *
+     * @param path          溢出文件路径
+     * @param capacityBytes 溢出文件大小 (单位: 字节)
+     */
+    public SpillingRejectedExecutionHandler(Path path, int capacityBytes) {
+        this(path, capacityBytes, new ThreadPoolExecutor.AbortPolicy(), 100L, null);
+    }
+
+    /**
+     * 构造拒绝策略
+     *
+     * @param path                溢出文件路径
+     * @param capacityBytes       溢出文件大小 (单位: 字节)
+     * @param fallbackHandler     无法落盘时使用的后备拒绝策略
+     * @param drainIntervalMillis 回放间隔 (单位: 毫秒)
+     * @param inputFilter         反序列化过滤器，为 null 时使用默认白名单过滤器
+     * @throws UncheckedIOException 如果溢出文件无法打开
+     */
+    public SpillingRejectedExecutionHandler(Path path,
+                                            int capacityBytes,
+                                            RejectedExecutionHandler fallbackHandler,
+                                            long drainIntervalMillis,
+                                            ObjectInputFilter inputFilter) {
+        if (drainIntervalMillis <= 0L) {
+            throw new IllegalArgumentException("Drain interval must be positive");
+        }
+        try {
+            this.overflowFile = new MappedOverflowFile(path, capacityBytes);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Opening overflow file " + path + " failed.", ex);
+        }
+        this.fallbackHandler = Objects.requireNonNull(fallbackHandler, "fallbackHandler cannot be null");
+        this.inputFilter = Objects.nonNull(inputFilter)
+                ? inputFilter
+                : SpillingRejectedExecutionHandler::filterDefaultAllowlist;
+        this.drainer = Executors.newSingleThreadScheduledExecutor(ThreadFactoryBuilder.builder()
+                .prefix("overflow-drain-")
+                .daemon(true)
+                .build());
+        this.drainer.scheduleWithFixedDelay(this::drain, drainIntervalMillis, drainIntervalMillis, TimeUnit.MILLISECONDS);
+        if (overflowFile.getPendingCount() > 0) {
+            log.info("[Omega Starter] - Recovered {} overflow tasks from {}.", overflowFile.getPendingCount(), path);
+        }
+    }
+
+    /**
+     * 绑定回放目标线程池，绑定后才会回放溢出文件中的任务
+     *
+     * @param threadPoolExecutor 线程池
+     * @throws IllegalStateException 如果已绑定其他线程池
+     */
+    public void attach(ThreadPoolExecutor threadPoolExecutor) {
+        Objects.requireNonNull(threadPoolExecutor, "threadPoolExecutor cannot be null");
+        if (!executor.compareAndSet(null, threadPoolExecutor) && executor.get() != threadPoolExecutor) {
+            throw new IllegalStateException("The spilling rejected handler is already attached to another thread pool.");
+        }
+    }
+
+    @Override
+    public void rejectedExecution(Runnable r, ThreadPoolExecutor threadPoolExecutor) {
+        if (DRAINING.get()) {
+            throw new RejectedExecutionException("Thread pool is still saturated.");
+        }
+        if (!threadPoolExecutor.isShutdown()
+                && (executor.compareAndSet(null, threadPoolExecutor) || executor.get() == threadPoolExecutor)
+                && spill(MonitoredThreadPoolExecutor.unwrap(r))) {
+            spilledCount.incrementAndGet();
+            return;
+        }
+        fallbackCount.incrementAndGet();
+        fallbackHandler.rejectedExecution(r, threadPoolExecutor);
+    }
+
+    /**
+     * 获取落盘的任务数
+     *
+     * @return 落盘的任务数
+     */
+    public long getSpilledCount() {
+        return spilledCount.get();
+    }
+
+    /**
+     * 获取从溢出文件回放的任务数
+     *
+     * @return 回放的任务数
+     */
+    public long getDrainedCount() {
+        return drainedCount.get();
+    }
+
+    /**
+     * 获取交给后备拒绝策略处理的任务数
+     *
+     * @return 后备处理的任务数
+     */
+    public long getFallbackCount() {
+        return fallbackCount.get();
+    }
+
+    /**
+     * 获取溢出文件中等待回放的任务数
+     *
+     * @return 等待回放的任务数
+     */
+    public int getPendingCount() {
+        return overflowFile.getPendingCount();
+    }
+
+    /**
+     * 停止回放并关闭溢出文件，未回放的任务保留在文件中，下次启动时恢复
+     *
+     * @throws IOException 如果关闭文件失败
+     */
+    @Override
+    public void close() throws IOException {
+        released.set(true);
+        drainer.shutdownNow();
+        try {
+            drainer.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        overflowFile.close();
+    }
+
+    /**
+     * 绑定的线程池关闭后在回放线程中释放资源，不等待回放线程自身结束
+     */
+    private void releaseAfterShutdown() {
+        if (!released.compareAndSet(false, true)) {
+            return;
+        }
+        drainer.shutdown();
+        try {
+            overflowFile.close();
+            log.info("[Omega Starter] - Thread pool is shut down, closed overflow file {} with {} pending tasks.",
+                    overflowFile.getPath(), overflowFile.getPendingCount());
+        } catch (IOException ex) {
+            log.warn("[Omega Starter] - Closing overflow file {} failed.", overflowFile.getPath(), ex);
+        }
+    }
+
+    /**
+     * 默认反序列化白名单：java.base 中的类（含其数组）与同时实现 Runnable、Serializable 的任务类
+     *
+     * @param filterInfo 反序列化过滤信息
+     * @return 过滤结果
+     */
+    private static ObjectInputFilter.Status filterDefaultAllowlist(ObjectInputFilter.FilterInfo filterInfo) {
+        Class<?> serialClass = filterInfo.serialClass();
+        if (Objects.isNull(serialClass)) {
+            return ObjectInputFilter.Status.UNDECIDED;
+        }
+        while (serialClass.isArray()) {
+            serialClass = serialClass.getComponentType();
+        }
+        if (serialClass.isPrimitive()
+                || serialClass.getModule() == Object.class.getModule()
+                || (Runnable.class.isAssignableFrom(serialClass) && Serializable.class.isAssignableFrom(serialClass))) {
+            return ObjectInputFilter.Status.ALLOWED;
+        }
+        return ObjectInputFilter.Status.REJECTED;
+    }
+
+    private boolean spill(Runnable task) {
+        if (!(task instanceof Serializable)) {
+            return false;
+        }
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(task);
+            }
+            return overflowFile.append(bytes.toByteArray());
+        } catch (IOException ex) {
+            log.warn("[Omega Starter] - Serializing task {} to overflow file failed.", task, ex);
+            return false;
+        }
+    }
+
+    private Runnable deserialize(byte[] payload) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(payload))) {
+            in.setObjectInputFilter(inputFilter);
+            return (Runnable) in.readObject();
+        }
+    }
+
+    /**
+     * 在工作队列有剩余容量时回放溢出任务，提交被拒绝时停止本轮回放且不确认该记录
+     */
+    private void drain() {
+        ThreadPoolExecutor target = executor.get();
+        if (Objects.isNull(target)) {
+            return;
+        }
+        if (target.isShutdown()) {
+            releaseAfterShutdown();
+            return;
+        }
+        if (overflowFile.getPendingCount() == 0) {
+            return;
+        }
+        DRAINING.set(Boolean.TRUE);
+        long drained = 0L;
+        try {
+            while (target.getQueue().remainingCapacity() > 0) {
+                byte[] payload = overflowFile.peek();
+                if (Objects.isNull(payload)) {
+                    break;
+                }
+                Runnable task;
+                try {
+                    task = deserialize(payload);
+                } catch (IOException | ClassNotFoundException | ClassCastException ex) {
+                    log.error("[Omega Starter] - Discarding unreadable overflow task from {}.", overflowFile.getPath(), ex);
+                    overflowFile.commit();
+                    continue;
+                }
+                try {
+                    target.execute(task);
+                } catch (RejectedExecutionException ex) {
+                    break;
+                }
+                overflowFile.commit();
+                drained++;
+            }
+        } catch (RuntimeException ex) {
+            log.error("[Omega Starter] - Draining overflow file {} failed.", overflowFile.getPath(), ex);
+        } finally {
+            DRAINING.remove();
+            if (drained > 0L) {
+                drainedCount.addAndGet(drained);
+                overflowFile.flush();
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.lcsk42.starter.core.threadpool.priority;
+
+import com.lcsk42.starter.core.enums.TaskPriority;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 声明任务类的优先级，标注在提交到多优先级线程池的 Runnable 或 Callable 实现类上
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Prioritized {
+
+    /**
+     * 任务优先级
+     *
+     * @return 任务优先级
+     */
+    TaskPriority value();
+}
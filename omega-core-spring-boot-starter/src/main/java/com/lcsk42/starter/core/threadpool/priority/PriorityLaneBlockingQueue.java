@@ -0,0 +1,538 @@
+package com.lcsk42.starter.core.threadpool.priority;
+
+import com.lcsk42.starter.core.enums.PriorityDequeueMode;
+import com.lcsk42.starter.core.enums.TaskPriority;
+import com.lcsk42.starter.core.threadpool.monitor.MonitoredThreadPoolExecutor;
+import org.springframework.lang.NonNull;
+
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 多优先级通道的有界阻塞队列。
+ * <p>
+ * 每个 {@link TaskPriority} 对应一个先进先出的通道，全部通道共享一个总容量。入队时通过 {@link TaskPriorities#priorityOf(Object)}
+ * 解析任务优先级（会先去掉 {@link MonitoredThreadPoolExecutor} 的监控包装）。出队时：
+ * <ol>
+ *     <li>老化：若较低优先级通道的队首任务等待时间超过老化阈值，提前出队其中等待最久的任务，避免低优先级任务饿死；
+ *     老化出队每 {@value #AGED_DEQUEUE_INTERVAL} 次出队最多一次，过载时大量任务同时老化也不会退化为先进先出，
+ *     其余出队仍按优先级进行；</li>
+ *     <li>{@link PriorityDequeueMode#WEIGHTED_FAIR}：在非空通道间按权重平滑加权轮转，如权重 8:4:1 时每 13 次出队中高优先级占 8 次；</li>
+ *     <li>{@link PriorityDequeueMode#STRICT}：出队最高优先级的非空通道。</li>
+ * </ol>
+ * 每个通道统计入队数、出队数、老化出队数与累计排队耗时，见 {@link #getLaneStats()}。
+ * </p>
+ */
+public class PriorityLaneBlockingQueue extends AbstractQueue<Runnable> implements BlockingQueue<Runnable> {
+
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+
+    // 默认权重，依次对应 HIGH、NORMAL、LOW
+    private static final int[] DEFAULT_WEIGHTS = {8, 4, 1};
+
+    // 老化出队的最小间隔（出队次数），即老化任务最多占出队数的 1/4
+    private static final int AGED_DEQUEUE_INTERVAL = 4;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition notEmpty = lock.newCondition();
+
+    private final Condition notFull = lock.newCondition();
+
+    private final List<ArrayDeque<Entry>> lanes = new ArrayList<>(PRIORITIES.length);
+
+    private final int capacity;
+
+    private final PriorityDequeueMode dequeueMode;
+
+    private final int[] weights;
+
+    // 平滑加权轮转的当前权重
+    private final int[] currentWeights;
+
+    // 老化阈值 (单位: 纳秒)，小于等于 0 表示不老化
+    private final long agingNanos;
+
+    // 距上次老化出队的出队次数，达到间隔后不再累加
+    private int dequeuesSinceAged = AGED_DEQUEUE_INTERVAL;
+
+    private int count;
+
+    private final AtomicLongArray enqueuedCounts = new AtomicLongArray(PRIORITIES.length);
+
+    private final AtomicLongArray dequeuedCounts = new AtomicLongArray(PRIORITIES.length);
+
+    private final AtomicLongArray agedCounts = new AtomicLongArray(PRIORITIES.length);
+
+    private final AtomicLongArray totalWaitNanos = new AtomicLongArray(PRIORITIES.length);
+
+    /**
+     * 构造使用加权公平出队、默认权重且不老化的队列
+     *
+     * @param capacity 队列总容量
+     */
+    public PriorityLaneBlockingQueue(int capacity) {
+        this(capacity, PriorityDequeueMode.WEIGHTED_FAIR, DEFAULT_WEIGHTS, 0L);
+    }
+
+    /**
+     * 构造多优先级通道队列
+     *
+     * @param capacity    队列总容量
+     * @param dequeueMode 出队策略
+     * @param weights     各优先级权重，按 {@link TaskPriority} 声明顺序排列，仅加权公平模式使用
+     * @param agingMillis 老化阈值 (单位: 毫秒)，小于等于 0 表示不老化
+     * @throws IllegalArgumentException 如果容量小于等于 0，或权重数量与优先级数量不一致、存在小于等于 0 的权重
+     */
+    public PriorityLaneBlockingQueue(int capacity, PriorityDequeueMode dequeueMode, int[] weights, long agingMillis) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be positive");
+        }
+        if (Objects.isNull(weights) || weights.length != PRIORITIES.length) {
+            throw new IllegalArgumentException("Priority weights must be specified for each of " + List.of(PRIORITIES));
+        }
+        for (int weight : weights) {
+            if (weight <= 0) {
+                throw new IllegalArgumentException("Priority weights must be positive");
+            }
+        }
+        this.capacity = capacity;
+        this.dequeueMode = Objects.requireNonNull(dequeueMode, "dequeueMode cannot be null");
+        this.weights = weights.clone();
+        this.currentWeights = new int[PRIORITIES.length];
+        this.agingNanos = TimeUnit.MILLISECONDS.toNanos(agingMillis);
+        for (int i = 0; i < PRIORITIES.length; i++) {
+            lanes.add(new ArrayDeque<>());
+        }
+    }
+
+    /**
+     * 获取队列总容量
+     *
+     * @return 队列总容量
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public PriorityDequeueMode getDequeueMode() {
+        return dequeueMode;
+    }
+
+    @Override
+    public boolean offer(@NonNull Runnable e) {
+        Objects.requireNonNull(e);
+        lock.lock();
+        try {
+            if (count >= capacity) {
+                return false;
+            }
+            enqueue(e);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(Runnable e, long timeout, @NonNull TimeUnit unit) throws InterruptedException {
+        Objects.requireNonNull(e);
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count >= capacity) {
+                if (nanos <= 0L) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            enqueue(e);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(@NonNull Runnable e) throws InterruptedException {
+        Objects.requireNonNull(e);
+        lock.lockInterruptibly();
+        try {
+            while (count >= capacity) {
+                notFull.await();
+            }
+            enqueue(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable poll() {
+        lock.lock();
+        try {
+            return count == 0 ? null : dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable poll(long timeout, @NonNull TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                if (nanos <= 0L) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @NonNull
+    @Override
+    public Runnable take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                notEmpty.await();
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 返回最高优先级非空通道的队首任务（不考虑加权轮转与老化）
+     *
+     * @return 队首任务，队列为空时为 null
+     */
+    @Override
+    public Runnable peek() {
+        lock.lock();
+        try {
+            for (ArrayDeque<Entry> lane : lanes) {
+                Entry entry = lane.peekFirst();
+                if (Objects.nonNull(entry)) {
+                    return entry.task();
+                }
+            }
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 获取指定优先级通道的排队任务数
+     *
+     * @param priority 优先级
+     * @return 排队任务数
+     */
+    public int size(TaskPriority priority) {
+        lock.lock();
+        try {
+            return lanes.get(priority.ordinal()).size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        lock.lock();
+        try {
+            return capacity - count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (Objects.isNull(o)) {
+            return false;
+        }
+        lock.lock();
+        try {
+            for (ArrayDeque<Entry> lane : lanes) {
+                Iterator<Entry> iterator = lane.iterator();
+                while (iterator.hasNext()) {
+                    if (o.equals(iterator.next().task())) {
+                        iterator.remove();
+                        count--;
+                        notFull.signal();
+                        return true;
+                    }
+                }
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            lanes.forEach(ArrayDeque::clear);
+            count = 0;
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int drainTo(@NonNull Collection<? super Runnable> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(@NonNull Collection<? super Runnable> c, int maxElements) {
+        Objects.requireNonNull(c);
+        if (c == this) {
+            throw new IllegalArgumentException();
+        }
+        lock.lock();
+        try {
+            int n = 0;
+            while (n < maxElements && count > 0) {
+                c.add(dequeue());
+                n++;
+            }
+            return n;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 返回按优先级从高到低排列的弱一致迭代器，遍历创建时的快照，
+     * {@link Iterator#remove()} 在锁内从所属通道删除上一次返回的任务（任务已出队时忽略）
+     *
+     * @return 弱一致迭代器
+     */
+    @NonNull
+    @Override
+    public Iterator<Runnable> iterator() {
+        lock.lock();
+        try {
+            List<Entry> snapshot = new ArrayList<>(count);
+            lanes.forEach(snapshot::addAll);
+            return new Itr(snapshot);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 获取指定优先级通道的累计出队任务数
+     *
+     * @param priority 优先级
+     * @return 累计出队任务数
+     */
+    public long getDequeuedCount(TaskPriority priority) {
+        return dequeuedCounts.get(priority.ordinal());
+    }
+
+    /**
+     * 获取指定优先级通道因老化而提前出队的任务数
+     *
+     * @param priority 优先级
+     * @return 老化出队任务数
+     */
+    public long getAgedCount(TaskPriority priority) {
+        return agedCounts.get(priority.ordinal());
+    }
+
+    /**
+     * 获取指定优先级通道已出队任务的累计排队耗时
+     *
+     * @param priority 优先级
+     * @return 累计排队耗时 (单位: 纳秒)
+     */
+    public long getTotalWaitNanos(TaskPriority priority) {
+        return totalWaitNanos.get(priority.ordinal());
+    }
+
+    /**
+     * 获取各优先级通道的统计
+     *
+     * @return 按优先级从高到低排列的通道统计
+     */
+    public List<PriorityLaneStats> getLaneStats() {
+        List<PriorityLaneStats> stats = new ArrayList<>(PRIORITIES.length);
+        for (TaskPriority priority : PRIORITIES) {
+            int index = priority.ordinal();
+            stats.add(new PriorityLaneStats(priority,
+                    weights[index],
+                    size(priority),
+                    enqueuedCounts.get(index),
+                    dequeuedCounts.get(index),
+                    agedCounts.get(index),
+                    totalWaitNanos.get(index)));
+        }
+        return stats;
+    }
+
+    private void enqueue(Runnable task) {
+        int index = TaskPriorities.priorityOf(MonitoredThreadPoolExecutor.unwrap(task)).ordinal();
+        lanes.get(index).addLast(new Entry(task, System.nanoTime()));
+        count++;
+        enqueuedCounts.incrementAndGet(index);
+        notEmpty.signal();
+    }
+
+    private Runnable dequeue() {
+        long now = System.nanoTime();
+        int index = selectLane(now);
+        Entry entry = lanes.get(index).pollFirst();
+        count--;
+        dequeuedCounts.incrementAndGet(index);
+        totalWaitNanos.addAndGet(index, now - entry.enqueuedAt());
+        notFull.signal();
+        return entry.task();
+    }
+
+    /**
+     * 选择出队通道，调用方需持有锁且队列非空
+     *
+     * @param now 当前时间 (单位: 纳秒)
+     * @return 通道下标
+     */
+    private int selectLane(long now) {
+        if (agingNanos > 0L) {
+            if (dequeuesSinceAged < AGED_DEQUEUE_INTERVAL) {
+                dequeuesSinceAged++;
+            } else {
+                int aged = selectAgedLane(now);
+                if (aged > 0) {
+                    dequeuesSinceAged = 1;
+                    agedCounts.incrementAndGet(aged);
+                    return aged;
+                }
+            }
+        }
+        if (dequeueMode == PriorityDequeueMode.STRICT) {
+            for (int i = 0; i < PRIORITIES.length; i++) {
+                if (!lanes.get(i).isEmpty()) {
+                    return i;
+                }
+            }
+        }
+        // 平滑加权轮转：非空通道累加各自权重，选出当前权重最大者并减去本轮总权重
+        int selected = -1;
+        int totalWeight = 0;
+        for (int i = 0; i < PRIORITIES.length; i++) {
+            if (lanes.get(i).isEmpty()) {
+                continue;
+            }
+            currentWeights[i] += weights[i];
+            totalWeight += weights[i];
+            if (selected < 0 || currentWeights[i] > currentWeights[selected]) {
+                selected = i;
+            }
+        }
+        currentWeights[selected] -= totalWeight;
+        return selected;
+    }
+
+    /**
+     * 在最高优先级以外的通道中选择队首已老化且等待最久的通道，调用方需持有锁
+     *
+     * @param now 当前时间 (单位: 纳秒)
+     * @return 通道下标，没有老化的队首任务时为 -1
+     */
+    private int selectAgedLane(long now) {
+        int oldest = -1;
+        long oldestEnqueuedAt = 0L;
+        for (int i = 1; i < PRIORITIES.length; i++) {
+            Entry head = lanes.get(i).peekFirst();
+            if (Objects.nonNull(head) && now - head.enqueuedAt() >= agingNanos
+                    && (oldest < 0 || head.enqueuedAt() - oldestEnqueuedAt < 0L)) {
+                oldest = i;
+                oldestEnqueuedAt = head.enqueuedAt();
+            }
+        }
+        return oldest;
+    }
+
+    private record Entry(Runnable task, long enqueuedAt) {
+    }
+
+    private class Itr implements Iterator<Runnable> {
+
+        private final Iterator<Entry> snapshot;
+
+        private Entry lastReturned;
+
+        Itr(List<Entry> snapshot) {
+            this.snapshot = snapshot.iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return snapshot.hasNext();
+        }
+
+        @Override
+        public Runnable next() {
+            lastReturned = snapshot.next();
+            return lastReturned.task();
+        }
+
+        @Override
+        public void remove() {
+            if (Objects.isNull(lastReturned)) {
+                throw new IllegalStateException();
+            }
+            Entry target = lastReturned;
+            lastReturned = null;
+            lock.lock();
+            try {
+                for (ArrayDeque<Entry> lane : lanes) {
+                    Iterator<Entry> iterator = lane.iterator();
+                    while (iterator.hasNext()) {
+                        // 按引用匹配快照中的条目，避免误删同一任务的其他入队记录
+                        if (iterator.next() == target) {
+                            iterator.remove();
+                            count--;
+                            notFull.signal();
+                            return;
+                        }
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
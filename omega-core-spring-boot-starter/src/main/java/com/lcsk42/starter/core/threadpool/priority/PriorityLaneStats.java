@@ -0,0 +1,23 @@
+package com.lcsk42.starter.core.threadpool.priority;
+
+import com.lcsk42.starter.core.enums.TaskPriority;
+
+/**
+ * 优先级通道统计
+ *
+ * @param priority       通道优先级
+ * @param weight         加权公平模式下的权重
+ * @param size           当前排队任务数
+ * @param enqueuedCount  累计入队任务数
+ * @param dequeuedCount  累计出队任务数
+ * @param agedCount      因等待超过老化阈值而提前出队的任务数
+ * @param totalWaitNanos 已出队任务的累计排队耗时 (单位: 纳秒)
+ */
+public record PriorityLaneStats(TaskPriority priority,
+                                int weight,
+                                int size,
+                                long enqueuedCount,
+                                long dequeuedCount,
+                                long agedCount,
+                                long totalWaitNanos) {
+}
@@ -0,0 +1,20 @@
+package com.lcsk42.starter.core.threadpool.priority;
+
+import com.lcsk42.starter.core.enums.TaskPriority;
+
+/**
+ * 携带优先级的任务。
+ * <p>
+ * 提交到多优先级线程池的 Runnable 或 Callable 实现该接口、或在类上标注 {@link Prioritized} 即可指定优先级；
+ * Lambda 无法标注注解，可通过 {@link TaskPriorities#of(TaskPriority, Runnable)} 包装。
+ * </p>
+ */
+public interface PriorityTask {
+
+    /**
+     * 获取任务优先级
+     *
+     * @return 任务优先级
+     */
+    TaskPriority getPriority();
+}
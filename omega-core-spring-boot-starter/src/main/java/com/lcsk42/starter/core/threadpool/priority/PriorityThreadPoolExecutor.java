@@ -0,0 +1,97 @@
+package com.lcsk42.starter.core.threadpool.priority;
+
+import com.lcsk42.starter.core.enums.TaskPriority;
+import com.lcsk42.starter.core.threadpool.monitor.MonitoredThreadPoolExecutor;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 多优先级线程池执行器，工作队列为 {@link PriorityLaneBlockingQueue}。
+ * <p>
+ * {@code submit} 产生的 FutureTask 会保留原任务的优先级，使优先级在 execute 与 submit 两种提交方式下均生效。
+ * </p>
+ */
+public class PriorityThreadPoolExecutor extends MonitoredThreadPoolExecutor {
+
+    /**
+     * 使用给定参数构造新的 PriorityThreadPoolExecutor
+     *
+     * @param corePoolSize    池中保持的线程数
+     * @param maximumPoolSize 池中最大线程数
+     * @param keepAliveTime   多余空闲线程等待新任务的时长
+     * @param unit            时间单位
+     * @param workQueue       多优先级通道队列
+     * @param threadFactory   创建新线程的工厂
+     * @param handler         执行被阻塞时使用的处理器
+     */
+    public PriorityThreadPoolExecutor(int corePoolSize,
+                                      int maximumPoolSize,
+                                      long keepAliveTime,
+                                      TimeUnit unit,
+                                      PriorityLaneBlockingQueue workQueue,
+                                      ThreadFactory threadFactory,
+                                      RejectedExecutionHandler handler) {
+        super(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory, handler);
+    }
+
+    /**
+     * 以指定优先级执行任务
+     *
+     * @param priority 任务优先级
+     * @param command  要执行的任务
+     */
+    public void execute(TaskPriority priority, Runnable command) {
+        execute(TaskPriorities.of(priority, command));
+    }
+
+    /**
+     * 以指定优先级提交任务
+     *
+     * @param priority 任务优先级
+     * @param task     要执行的任务
+     * @param <T>      任务返回结果的类型
+     * @return 表示任务结果的 Future 对象
+     */
+    public <T> Future<T> submit(TaskPriority priority, Callable<T> task) {
+        return submit(TaskPriorities.of(priority, task));
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+        return new PriorityFutureTask<>(runnable, value, TaskPriorities.priorityOf(runnable));
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+        return new PriorityFutureTask<>(callable, TaskPriorities.priorityOf(callable));
+    }
+
+    /**
+     * 保留原任务优先级的 FutureTask
+     */
+    private static final class PriorityFutureTask<T> extends FutureTask<T> implements PriorityTask {
+
+        private final TaskPriority priority;
+
+        private PriorityFutureTask(Callable<T> callable, TaskPriority priority) {
+            super(callable);
+            this.priority = priority;
+        }
+
+        private PriorityFutureTask(Runnable runnable, T result, TaskPriority priority) {
+            super(runnable, result);
+            this.priority = priority;
+        }
+
+        @Override
+        public TaskPriority getPriority() {
+            return priority;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.lcsk42.starter.core.threadpool.priority;
+
+import com.lcsk42.starter.core.enums.TaskPriority;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+/**
+ * 任务优先级工具类，提供优先级包装与解析
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TaskPriorities {
+
+    // 任务类 -> 类上声明的优先级，未标注时为空
+    private static final ClassValue<Optional<TaskPriority>> DECLARED_PRIORITIES = new ClassValue<>() {
+        @Override
+        protected Optional<TaskPriority> computeValue(Class<?> type) {
+            return Optional.ofNullable(type.getAnnotation(Prioritized.class)).map(Prioritized::value);
+        }
+    };
+
+    /**
+     * 为 Runnable 指定优先级
+     *
+     * @param priority 任务优先级
+     * @param task     任务
+     * @return 携带优先级的任务
+     */
+    public static Runnable of(TaskPriority priority, Runnable task) {
+        return new PriorityRunnable(Objects.requireNonNull(priority), Objects.requireNonNull(task));
+    }
+
+    /**
+     * 为 Callable 指定优先级
+     *
+     * @param priority 任务优先级
+     * @param task     任务
+     * @param <T>      任务返回结果的类型
+     * @return 携带优先级的任务
+     */
+    public static <T> Callable<T> of(TaskPriority priority, Callable<T> task) {
+        return new PriorityCallable<>(Objects.requireNonNull(priority), Objects.requireNonNull(task));
+    }
+
+    /**
+     * 解析任务优先级：优先使用 {@link PriorityTask#getPriority()}，其次使用类上的 {@link Prioritized}，
+     * 均未指定时为 {@link TaskPriority#NORMAL}
+     *
+     * @param task 任务
+     * @return 任务优先级
+     */
+    public static TaskPriority priorityOf(Object task) {
+        if (task instanceof PriorityTask priorityTask) {
+            return Optional.ofNullable(priorityTask.getPriority()).orElse(TaskPriority.NORMAL);
+        }
+        if (Objects.isNull(task)) {
+            return TaskPriority.NORMAL;
+        }
+        return DECLARED_PRIORITIES.get(task.getClass()).orElse(TaskPriority.NORMAL);
+    }
+
+    private record PriorityRunnable(TaskPriority priority, Runnable delegate) implements Runnable, PriorityTask {
+
+        @Override
+        public void run() {
+            delegate.run();
+        }
+
+        @Override
+        public TaskPriority getPriority() {
+            return priority;
+        }
+    }
+
+    private record PriorityCallable<T>(TaskPriority priority, Callable<T> delegate) implements Callable<T>, PriorityTask {
+
+        @Override
+        public T call() throws Exception {
+            return delegate.call();
+        }
+
+        @Override
+        public TaskPriority getPriority() {
+            return priority;
+        }
+    }
+}
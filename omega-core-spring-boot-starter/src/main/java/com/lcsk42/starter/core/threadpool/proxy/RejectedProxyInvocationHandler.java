@@ -16,6 +16,8 @@ import java.util.concurrent.atomic.AtomicLong;
 @AllArgsConstructor
 public class RejectedProxyInvocationHandler implements InvocationHandler {
 
+    private static final String REJECTED_EXECUTION_METHOD = "rejectedExecution";
+
     /**
      * 被代理的实际拒绝策略实现
      */
@@ -37,13 +39,16 @@ public class RejectedProxyInvocationHandler implements InvocationHandler {
      */
     @Override
     public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-        // 增加拒绝计数器
-        rejectCount.incrementAndGet();
+        // 仅统计拒绝策略调用，toString、hashCode 等 Object 方法不计数
+        if (REJECTED_EXECUTION_METHOD.equals(method.getName())) {
+            // 增加拒绝计数器
+            long count = rejectCount.incrementAndGet();
 
-        try {
             // 记录线程池拒绝的错误日志
-            log.error("The thread pool executes the rejection strategy, and the alarm is simulated here...");
+            log.error("[Omega Starter] - The thread pool executes the rejection strategy, {} rejections so far.", count);
+        }
 
+        try {
             // 调用实际的拒绝策略方法
             return method.invoke(target, args);
         } catch (InvocationTargetException ex) {
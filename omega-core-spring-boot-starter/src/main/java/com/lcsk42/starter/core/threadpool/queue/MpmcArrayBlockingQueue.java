@@ -0,0 +1,431 @@
+package com.lcsk42.starter.core.threadpool.queue;
+
+import org.springframework.lang.NonNull;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 基于数组的无锁有界多生产者多消费者阻塞队列。
+ * <p>
+ * 入队与出队采用每槽位序号的算法（Vyukov bounded MPMC）：生产者与消费者各自通过 CAS 推进位置，
+ * 槽位序号同时表示"可写"与"可读"，快速路径不加锁、不为每个元素分配节点。
+ * 只有消费者在队列为空需要阻塞时才使用锁与条件变量挂起，生产者仅在存在挂起的消费者时才加锁唤醒。
+ * 容量向上取整为 2 的幂。从队列中间删除元素（{@link #remove(Object)} 与迭代器的删除）以 CAS 将槽位替换为墓碑，
+ * 消费者出队时以原子交换取出槽位内容并跳过墓碑，因此同一元素只会被删除或出队一次，
+ * 已取消的任务可以被 {@link java.util.concurrent.ThreadPoolExecutor#purge()} 清理。
+ * </p>
+ *
+ * @param <E> 元素类型
+ */
+public class MpmcArrayBlockingQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+
+    // 队列已满时生产者的退避时长 (单位: 纳秒)
+    private static final long FULL_BACKOFF_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    // 被删除元素的占位，出队时跳过
+    private static final Object TOMBSTONE = new Object();
+
+    private final int capacity;
+
+    private final int mask;
+
+    private final AtomicReferenceArray<Object> buffer;
+
+    // 槽位序号：等于位置时可写，等于位置 + 1 时可读
+    private final AtomicLongArray sequences;
+
+    private final AtomicLong enqueuePosition = new AtomicLong();
+
+    private final AtomicLong dequeuePosition = new AtomicLong();
+
+    // 挂起的消费者数量，生产者据此决定是否需要唤醒
+    private final AtomicInteger waitingConsumers = new AtomicInteger();
+
+    // 尚未被消费者跳过的墓碑数量，用于修正元素数量
+    private final AtomicInteger tombstones = new AtomicInteger();
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition notEmpty = lock.newCondition();
+
+    /**
+     * 构造指定容量的队列
+     *
+     * @param capacity 队列容量，向上取整为 2 的幂
+     * @throws IllegalArgumentException 如果容量小于等于 0 或超过 2^30
+     */
+    public MpmcArrayBlockingQueue(int capacity) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Queue capacity must be positive and not greater than 2^30");
+        }
+        this.capacity = 1 << (32 - Integer.numberOfLeadingZeros(capacity - 1));
+        this.mask = this.capacity - 1;
+        this.buffer = new AtomicReferenceArray<>(this.capacity);
+        this.sequences = new AtomicLongArray(this.capacity);
+        for (int i = 0; i < this.capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 获取队列容量
+     *
+     * @return 队列容量（2 的幂）
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public boolean offer(@NonNull E e) {
+        return tryEnqueue(e);
+    }
+
+    /**
+     * 入队一个元素，队列已满时返回 false。限时入队与阻塞入队直接使用该方法，不受子类覆盖 {@link #offer(Object)} 的影响
+     */
+    private boolean tryEnqueue(E e) {
+        Objects.requireNonNull(e);
+        long position = enqueuePosition.get();
+        int index;
+        for (; ; ) {
+            index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0L) {
+                if (enqueuePosition.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = enqueuePosition.get();
+            } else if (difference < 0L) {
+                // 槽位仍未被上一轮的消费者释放，队列已满
+                return false;
+            } else {
+                position = enqueuePosition.get();
+            }
+        }
+        buffer.setPlain(index, e);
+        sequences.set(index, position + 1);
+        if (waitingConsumers.get() > 0) {
+            signalNotEmpty();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, @NonNull TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!tryEnqueue(e)) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0L) {
+                return false;
+            }
+            backoff(remaining);
+        }
+        return true;
+    }
+
+    @Override
+    public void put(@NonNull E e) throws InterruptedException {
+        while (!tryEnqueue(e)) {
+            backoff(FULL_BACKOFF_NANOS);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        for (; ; ) {
+            Object e = pollSlot();
+            if (e != TOMBSTONE) {
+                return (E) e;
+            }
+            tombstones.decrementAndGet();
+        }
+    }
+
+    // 出队一个槽位的内容，可能是墓碑；队列为空时返回 null
+    private Object pollSlot() {
+        long position = dequeuePosition.get();
+        int index;
+        for (; ; ) {
+            index = (int) position & mask;
+            long difference = sequences.get(index) - (position + 1);
+            if (difference == 0L) {
+                if (dequeuePosition.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = dequeuePosition.get();
+            } else if (difference < 0L) {
+                // 槽位尚未写入，队列为空
+                return null;
+            } else {
+                position = dequeuePosition.get();
+            }
+        }
+        // 与删除方的 CAS 竞争，原子取出保证元素只会被出队或删除其中之一
+        Object e = buffer.getAndSet(index, null);
+        sequences.set(index, position + capacity);
+        return e;
+    }
+
+    @Override
+    public E poll(long timeout, @NonNull TimeUnit unit) throws InterruptedException {
+        E e = poll();
+        if (Objects.nonNull(e)) {
+            return e;
+        }
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        waitingConsumers.incrementAndGet();
+        try {
+            // 先登记为等待者再重试出队，保证与生产者"先发布再检查等待者"的顺序不会丢失唤醒
+            while (Objects.isNull(e = poll())) {
+                if (nanos <= 0L) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return e;
+        } finally {
+            waitingConsumers.decrementAndGet();
+            lock.unlock();
+        }
+    }
+
+    @NonNull
+    @Override
+    public E take() throws InterruptedException {
+        E e = poll();
+        if (Objects.nonNull(e)) {
+            return e;
+        }
+        lock.lockInterruptibly();
+        waitingConsumers.incrementAndGet();
+        try {
+            while (Objects.isNull(e = poll())) {
+                notEmpty.await();
+            }
+            return e;
+        } finally {
+            waitingConsumers.decrementAndGet();
+            lock.unlock();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E peek() {
+        for (; ; ) {
+            long position = dequeuePosition.get();
+            int index = (int) position & mask;
+            long sequence = sequences.get(index);
+            if (sequence != position + 1) {
+                if (sequence < position + 1) {
+                    return null;
+                }
+                continue;
+            }
+            Object e = buffer.get(index);
+            if (e == TOMBSTONE) {
+                // 队首是墓碑时先将其出队再查看下一个元素
+                if (dequeuePosition.compareAndSet(position, position + 1)) {
+                    buffer.set(index, null);
+                    sequences.set(index, position + capacity);
+                    tombstones.decrementAndGet();
+                }
+                continue;
+            }
+            // 读取期间槽位未被消费才返回
+            if (dequeuePosition.get() == position && Objects.nonNull(e)) {
+                return (E) e;
+            }
+        }
+    }
+
+    /**
+     * 获取近似元素数量，不包含已删除但尚未被跳过的元素
+     *
+     * @return 元素数量
+     */
+    @Override
+    public int size() {
+        for (; ; ) {
+            long before = dequeuePosition.get();
+            long enqueued = enqueuePosition.get();
+            long after = dequeuePosition.get();
+            if (before == after) {
+                long occupied = Math.min(enqueued - after, capacity);
+                return (int) Math.max(occupied - tombstones.get(), 0L);
+            }
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * 获取剩余容量，已删除但尚未被跳过的元素仍占用槽位
+     *
+     * @return 剩余容量
+     */
+    @Override
+    public int remainingCapacity() {
+        for (; ; ) {
+            long before = dequeuePosition.get();
+            long enqueued = enqueuePosition.get();
+            long after = dequeuePosition.get();
+            if (before == after) {
+                return (int) Math.max(capacity - Math.min(enqueued - after, capacity), 0L);
+            }
+        }
+    }
+
+    /**
+     * 删除一个与给定对象相等的元素，被删除的槽位替换为墓碑，由消费者出队时跳过
+     *
+     * @param o 元素
+     * @return 是否删除了元素
+     */
+    @Override
+    public boolean remove(Object o) {
+        if (Objects.isNull(o)) {
+            return false;
+        }
+        long from = dequeuePosition.get();
+        long to = enqueuePosition.get();
+        for (long position = from; position < to && position < from + capacity; position++) {
+            int index = (int) position & mask;
+            Object e = buffer.get(index);
+            if (sequences.get(index) == position + 1 && Objects.nonNull(e) && e != TOMBSTONE
+                    && o.equals(e) && removeAt(index, e)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 槽位内容仍是该元素时替换为墓碑，已被出队时返回 false
+    private boolean removeAt(int index, Object e) {
+        if (buffer.compareAndSet(index, e, TOMBSTONE)) {
+            tombstones.incrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        while (Objects.nonNull(poll())) {
+            // 逐个出队直到为空
+        }
+    }
+
+    @Override
+    public int drainTo(@NonNull Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(@NonNull Collection<? super E> c, int maxElements) {
+        Objects.requireNonNull(c);
+        if (c == this) {
+            throw new IllegalArgumentException();
+        }
+        int n = 0;
+        E e;
+        while (n < maxElements && Objects.nonNull(e = poll())) {
+            c.add(e);
+            n++;
+        }
+        return n;
+    }
+
+    /**
+     * 返回当前已发布元素的弱一致快照迭代器，{@link Iterator#remove()} 将上一次返回的元素所在槽位替换为墓碑，
+     * 元素已被出队时忽略
+     *
+     * @return 快照迭代器
+     */
+    @NonNull
+    @Override
+    public Iterator<E> iterator() {
+        List<Slot> snapshot = new ArrayList<>();
+        long from = dequeuePosition.get();
+        long to = enqueuePosition.get();
+        for (long position = from; position < to && position < from + capacity; position++) {
+            int index = (int) position & mask;
+            Object e = buffer.get(index);
+            if (sequences.get(index) == position + 1 && Objects.nonNull(e) && e != TOMBSTONE) {
+                snapshot.add(new Slot(index, e));
+            }
+        }
+        return new Itr(snapshot);
+    }
+
+    private void signalNotEmpty() {
+        lock.lock();
+        try {
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static void backoff(long maxNanos) throws InterruptedException {
+        LockSupport.parkNanos(Math.min(maxNanos, FULL_BACKOFF_NANOS));
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+    }
+
+    private record Slot(int index, Object element) {
+    }
+
+    private class Itr implements Iterator<E> {
+
+        private final Iterator<Slot> snapshot;
+
+        private Slot lastReturned;
+
+        Itr(List<Slot> snapshot) {
+            this.snapshot = snapshot.iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return snapshot.hasNext();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+            lastReturned = snapshot.next();
+            return (E) lastReturned.element();
+        }
+
+        @Override
+        public void remove() {
+            if (Objects.isNull(lastReturned)) {
+                throw new IllegalStateException();
+            }
+            removeAt(lastReturned.index(), lastReturned.element());
+            lastReturned = null;
+        }
+    }
+}
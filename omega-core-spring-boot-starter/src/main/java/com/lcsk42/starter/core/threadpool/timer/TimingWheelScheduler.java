@@ -0,0 +1,325 @@
+package com.lcsk42.starter.core.threadpool.timer;
+
+import com.lcsk42.starter.core.threadpool.build.ThreadFactoryBuilder;
+import com.lcsk42.starter.core.threadpool.build.ThreadPoolBuilder;
+import com.lcsk42.starter.core.threadpool.context.ContextPropagation;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 分层哈希时间轮调度器，适合大量短生命周期的超时与延迟重试任务。
+ * <p>
+ * 第 0 层每个槽位覆盖一个刻度，第 n 层每个槽位覆盖 wheelSize^n 个刻度，层级按需创建。
+ * 调度与取消只向无锁队列登记，均为 O(1)；单个推进线程每个刻度先摘除已取消的任务、放入新任务，
+ * 在高层槽位对齐时将其中的任务降级到低层，再把第 0 层当前槽位中的任务交给分发执行器执行。
+ * 与 {@link java.util.concurrent.ScheduledThreadPoolExecutor} 的堆不同，调度开销不随等待中的任务数增长，
+ * 代价是到期精度为一个刻度（任务不会提前执行，最多延后一个刻度加分发排队时间）。
+ * 调度时捕获 {@link ContextPropagation} 中注册的上下文，执行时回放。
+ * 分发执行器拒绝到期任务时任务回到等待状态并在下一个刻度重试，不会被丢弃；
+ * 分发执行器已关闭时不再重试，任务句柄标记为被拒绝（{@link WheelTimeout#isRejected()}）。
+ * </p>
+ */
+@Slf4j
+public class TimingWheelScheduler implements Closeable {
+
+    // 每个刻度最多从登记队列中转入的任务数，避免突发调度阻塞推进
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    private final long tickNanos;
+
+    private final int wheelBits;
+
+    private final int wheelMask;
+
+    // 层数上限，保证 level * wheelBits 小于 63
+    private final int maxLevels;
+
+    // 各层槽位，只由推进线程访问
+    private final List<WheelBucket[]> levels = new ArrayList<>();
+
+    private final Queue<WheelTimeout> scheduledTimeouts = new ConcurrentLinkedQueue<>();
+
+    private final Queue<WheelTimeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+
+    private final AtomicLong pendingCount = new AtomicLong();
+
+    private final long maxPendingTimeouts;
+
+    private final Executor dispatcher;
+
+    // 由调度器创建、需在关闭时一并关闭的分发线程池
+    private final ExecutorService ownedDispatcher;
+
+    private final long startTime;
+
+    private final Thread worker;
+
+    // 当前刻度，只由推进线程访问
+    private long currentTick;
+
+    private volatile boolean closed;
+
+    /**
+     * 构造时间轮调度器，分发线程池由 {@link ThreadPoolBuilder} 以 {@code <name>-dispatch} 为名创建并在关闭时一并关闭
+     *
+     * @param name      调度器名称，用于线程名
+     * @param tick      刻度
+     * @param wheelSize 每层槽位数，向上取整为 2 的幂
+     * @return 时间轮调度器
+     */
+    public static TimingWheelScheduler create(String name, Duration tick, int wheelSize) {
+        ExecutorService dispatcher = ThreadPoolBuilder.builder()
+                .threadFactory(name + "-dispatch-", false)
+                .poolName(name + "-dispatch")
+                .build();
+        return new TimingWheelScheduler(name, tick, wheelSize, 0L, dispatcher, dispatcher);
+    }
+
+    /**
+     * 使用外部分发执行器构造时间轮调度器，关闭调度器时不会关闭该执行器
+     *
+     * @param name               调度器名称，用于线程名
+     * @param tick               刻度
+     * @param wheelSize          每层槽位数，向上取整为 2 的幂
+     * @param maxPendingTimeouts 最大等待中任务数，小于等于 0 表示不限制
+     * @param dispatcher         到期任务的分发执行器
+     */
+    public TimingWheelScheduler(String name, Duration tick, int wheelSize, long maxPendingTimeouts, Executor dispatcher) {
+        this(name, tick, wheelSize, maxPendingTimeouts, dispatcher, null);
+    }
+
+    private TimingWheelScheduler(String name,
+                                 Duration tick,
+                                 int wheelSize,
+                                 long maxPendingTimeouts,
+                                 Executor dispatcher,
+                                 ExecutorService ownedDispatcher) {
+        this.tickNanos = tick.toNanos();
+        if (tickNanos < TimeUnit.MILLISECONDS.toNanos(1)) {
+            throw new IllegalArgumentException("Tick must be at least 1 millisecond");
+        }
+        if (wheelSize <= 1 || wheelSize > (1 << 20)) {
+            throw new IllegalArgumentException("Wheel size must be greater than 1 and not greater than 2^20");
+        }
+        this.wheelBits = 32 - Integer.numberOfLeadingZeros(wheelSize - 1);
+        this.wheelMask = (1 << wheelBits) - 1;
+        this.maxLevels = Math.max(62 / wheelBits, 1);
+        this.maxPendingTimeouts = maxPendingTimeouts;
+        this.dispatcher = Objects.requireNonNull(dispatcher, "dispatcher cannot be null");
+        this.ownedDispatcher = ownedDispatcher;
+        this.levels.add(newLevel());
+        this.startTime = System.nanoTime();
+        this.worker = ThreadFactoryBuilder.builder()
+                .prefix(name + "-tick-")
+                .daemon(true)
+                .build()
+                .newThread(this::run);
+        this.worker.start();
+    }
+
+    /**
+     * 延迟执行任务
+     *
+     * @param task  任务
+     * @param delay 延迟时长，小于等于 0 时在下一个刻度执行
+     * @param unit  时间单位
+     * @return 任务句柄
+     * @throws RejectedExecutionException 如果调度器已关闭或等待中的任务数达到上限
+     */
+    public WheelTimeout schedule(Runnable task, long delay, TimeUnit unit) {
+        Objects.requireNonNull(task, "task cannot be null");
+        if (closed) {
+            throw new RejectedExecutionException("Timing wheel scheduler has been closed.");
+        }
+        long pending = pendingCount.incrementAndGet();
+        if (maxPendingTimeouts > 0L && pending > maxPendingTimeouts) {
+            pendingCount.decrementAndGet();
+            throw new RejectedExecutionException("Number of pending timeouts (" + pending
+                    + ") is greater than or equal to maximum allowed pending timeouts (" + maxPendingTimeouts + ")");
+        }
+        long delayNanos = unit.toNanos(Math.max(delay, 0L));
+        long elapsed = System.nanoTime() - startTime + delayNanos;
+        // 与 Netty HashedWheelTimer 一致，超长延迟相加溢出时截断为最大值，避免变为立即到期
+        if (delayNanos > 0L && elapsed < 0L) {
+            elapsed = Long.MAX_VALUE;
+        }
+        WheelTimeout timeout = new WheelTimeout(this, ContextPropagation.wrap(task), startTime + elapsed);
+        scheduledTimeouts.offer(timeout);
+        return timeout;
+    }
+
+    /**
+     * 延迟执行任务
+     *
+     * @param task  任务
+     * @param delay 延迟时长
+     * @return 任务句柄
+     * @throws RejectedExecutionException 如果调度器已关闭或等待中的任务数达到上限
+     */
+    public WheelTimeout schedule(Runnable task, Duration delay) {
+        return schedule(task, delay.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 获取等待中（未到期且未取消）的任务数
+     *
+     * @return 等待中的任务数
+     */
+    public long getPendingCount() {
+        return pendingCount.get();
+    }
+
+    /**
+     * 停止推进，未到期的任务不再执行；由调度器创建的分发线程池会在已分发的任务执行完后关闭
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(worker);
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        if (Objects.nonNull(ownedDispatcher)) {
+            ownedDispatcher.shutdown();
+        }
+    }
+
+    void onCancelled(WheelTimeout timeout) {
+        pendingCount.decrementAndGet();
+        cancelledTimeouts.offer(timeout);
+    }
+
+    private void run() {
+        while (!closed) {
+            long sleepNanos = startTime + (currentTick + 1) * tickNanos - System.nanoTime();
+            if (sleepNanos > 0L) {
+                LockSupport.parkNanos(this, sleepNanos);
+                continue;
+            }
+            currentTick++;
+            try {
+                removeCancelled();
+                transferScheduled();
+                advance(currentTick);
+            } catch (RuntimeException ex) {
+                log.error("[Omega Starter] - Advancing timing wheel failed.", ex);
+            }
+        }
+    }
+
+    private void removeCancelled() {
+        WheelTimeout timeout;
+        while (Objects.nonNull(timeout = cancelledTimeouts.poll())) {
+            if (Objects.nonNull(timeout.bucket)) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    private void transferScheduled() {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            WheelTimeout timeout = scheduledTimeouts.poll();
+            if (Objects.isNull(timeout)) {
+                return;
+            }
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            long elapsed = timeout.deadlineNanos - startTime;
+            // 向上取整，保证任务不会早于到期时间执行；先除后补一，避免接近最大值时溢出
+            timeout.deadlineTick = elapsed <= 0L ? 0L : elapsed / tickNanos + (elapsed % tickNanos == 0L ? 0L : 1L);
+            place(timeout);
+        }
+    }
+
+    /**
+     * 按距离到期的刻度数放入满足 diff < wheelSize^(level + 1) 的最低层，已到期的任务直接分发
+     *
+     * @param timeout 定时任务
+     */
+    private void place(WheelTimeout timeout) {
+        if (timeout.isCancelled()) {
+            return;
+        }
+        long remainingTicks = timeout.deadlineTick - currentTick;
+        if (remainingTicks <= 0L) {
+            expire(timeout);
+            return;
+        }
+        int level = 0;
+        while (level + 1 < maxLevels && (remainingTicks >>> ((level + 1) * wheelBits)) != 0L) {
+            level++;
+        }
+        while (levels.size() <= level) {
+            levels.add(newLevel());
+        }
+        int slot = (int) ((timeout.deadlineTick >>> (level * wheelBits)) & wheelMask);
+        levels.get(level)[slot].add(timeout);
+    }
+
+    /**
+     * 推进到指定刻度：从高到低降级对齐层的当前槽位，再分发第 0 层当前槽位
+     *
+     * @param tick 刻度
+     */
+    private void advance(long tick) {
+        int alignedLevel = 0;
+        while (alignedLevel + 1 < levels.size()
+                && (tick & ((1L << ((alignedLevel + 1) * wheelBits)) - 1)) == 0L) {
+            alignedLevel++;
+        }
+        for (int level = alignedLevel; level >= 1; level--) {
+            levels.get(level)[(int) ((tick >>> (level * wheelBits)) & wheelMask)].flush(this::place);
+        }
+        // 第 0 层槽位中的任务均在本刻度到期，经 place 再次判断以防误差导致提前执行
+        levels.get(0)[(int) (tick & wheelMask)].flush(this::place);
+    }
+
+    private void expire(WheelTimeout timeout) {
+        if (!timeout.expire()) {
+            return;
+        }
+        try {
+            dispatcher.execute(timeout.task);
+            pendingCount.decrementAndGet();
+        } catch (RejectedExecutionException ex) {
+            if (dispatcher instanceof ExecutorService executorService && executorService.isShutdown()) {
+                timeout.reject();
+                pendingCount.decrementAndGet();
+                log.error("[Omega Starter] - Dispatcher is shut down, expired timeout {} was rejected.",
+                        timeout.task, ex);
+                return;
+            }
+            // 分发执行器饱和，回到等待状态并在下一个刻度重试，以推迟执行代替丢弃
+            timeout.retry();
+            timeout.deadlineTick = currentTick + 1;
+            place(timeout);
+        }
+    }
+
+    private WheelBucket[] newLevel() {
+        WheelBucket[] buckets = new WheelBucket[wheelMask + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new WheelBucket();
+        }
+        return buckets;
+    }
+}
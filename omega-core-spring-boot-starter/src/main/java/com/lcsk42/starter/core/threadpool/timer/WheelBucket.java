@@ -0,0 +1,63 @@
+package com.lcsk42.starter.core.threadpool.timer;
+
+import java.util.function.Consumer;
+
+/**
+ * 时间轮槽位，保存定时任务的双向链表，只由推进线程访问
+ */
+final class WheelBucket {
+
+    private WheelTimeout head;
+
+    private WheelTimeout tail;
+
+    void add(WheelTimeout timeout) {
+        timeout.bucket = this;
+        timeout.prev = tail;
+        timeout.next = null;
+        if (tail == null) {
+            head = timeout;
+        } else {
+            tail.next = timeout;
+        }
+        tail = timeout;
+    }
+
+    void remove(WheelTimeout timeout) {
+        if (timeout.bucket != this) {
+            return;
+        }
+        if (timeout.prev == null) {
+            head = timeout.next;
+        } else {
+            timeout.prev.next = timeout.next;
+        }
+        if (timeout.next == null) {
+            tail = timeout.prev;
+        } else {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.bucket = null;
+        timeout.prev = null;
+        timeout.next = null;
+    }
+
+    /**
+     * 清空槽位并逐个交给处理函数
+     *
+     * @param consumer 处理函数
+     */
+    void flush(Consumer<WheelTimeout> consumer) {
+        WheelTimeout timeout = head;
+        head = null;
+        tail = null;
+        while (timeout != null) {
+            WheelTimeout next = timeout.next;
+            timeout.bucket = null;
+            timeout.prev = null;
+            timeout.next = null;
+            consumer.accept(timeout);
+            timeout = next;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.lcsk42.starter.core.threadpool.timer;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * 时间轮中的一个定时任务句柄，用于取消任务或查询状态。
+ * <p>
+ * 句柄同时是所在槽位双向链表的节点，链表指针只由时间轮的推进线程读写。
+ * 到期后交给分发执行器；分发被拒绝时回到等待状态并重试，分发执行器已关闭时标记为被拒绝。
+ * </p>
+ */
+public final class WheelTimeout {
+
+    private static final int ST_PENDING = 0;
+
+    private static final int ST_CANCELLED = 1;
+
+    private static final int ST_EXPIRED = 2;
+
+    private static final int ST_REJECTED = 3;
+
+    private static final AtomicIntegerFieldUpdater<WheelTimeout> STATE_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(WheelTimeout.class, "state");
+
+    private final TimingWheelScheduler scheduler;
+
+    final Runnable task;
+
+    final long deadlineNanos;
+
+    // 以下字段只由推进线程访问
+    long deadlineTick;
+
+    WheelBucket bucket;
+
+    WheelTimeout prev;
+
+    WheelTimeout next;
+
+    private volatile int state = ST_PENDING;
+
+    WheelTimeout(TimingWheelScheduler scheduler, Runnable task, long deadlineNanos) {
+        this.scheduler = scheduler;
+        this.task = task;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * 取消任务，O(1)：只修改状态并登记，由推进线程在下一次推进时从槽位中摘除
+     *
+     * @return 取消成功返回 true，任务已到期或已取消时返回 false
+     */
+    public boolean cancel() {
+        if (!STATE_UPDATER.compareAndSet(this, ST_PENDING, ST_CANCELLED)) {
+            return false;
+        }
+        scheduler.onCancelled(this);
+        return true;
+    }
+
+    /**
+     * 判断任务是否已取消
+     *
+     * @return 已取消返回 true
+     */
+    public boolean isCancelled() {
+        return state == ST_CANCELLED;
+    }
+
+    /**
+     * 判断任务是否已到期并交给分发执行器
+     *
+     * @return 已到期返回 true
+     */
+    public boolean isExpired() {
+        return state == ST_EXPIRED;
+    }
+
+    /**
+     * 判断任务是否因分发执行器已关闭而被拒绝，被拒绝的任务不会执行
+     *
+     * @return 被拒绝返回 true
+     */
+    public boolean isRejected() {
+        return state == ST_REJECTED;
+    }
+
+    /**
+     * 获取到期时间
+     *
+     * @return 到期时间，与 {@link System#nanoTime()} 可比较
+     */
+    public long getDeadlineNanos() {
+        return deadlineNanos;
+    }
+
+    boolean expire() {
+        return STATE_UPDATER.compareAndSet(this, ST_PENDING, ST_EXPIRED);
+    }
+
+    void retry() {
+        STATE_UPDATER.compareAndSet(this, ST_EXPIRED, ST_PENDING);
+    }
+
+    void reject() {
+        STATE_UPDATER.compareAndSet(this, ST_EXPIRED, ST_REJECTED);
+    }
+}
@@ -0,0 +1,205 @@
+package com.lcsk42.starter.core.threadpool.virtual;
+
+import com.lcsk42.starter.core.threadpool.context.ContextPropagation;
+import com.lcsk42.starter.core.threadpool.context.ContextSnapshot;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 基于虚拟线程的执行器，每个任务在一个独立命名的虚拟线程中运行。
+ * <p>
+ * 虚拟线程在阻塞 IO 时会卸载出载体线程，适合大量阻塞在 Redis、数据库、远程调用上的任务。
+ * 可选地通过公平信号量限制同时运行的任务数，用于保护下游连接池等有限资源；
+ * 许可在虚拟线程内获取，提交方不会被阻塞，等待许可的任务只占用一个挂起的虚拟线程。
+ * 提交时捕获 {@link ContextPropagation} 中注册的上下文，在虚拟线程中回放。
+ * </p>
+ */
+public class VirtualThreadExecutor extends AbstractExecutorService {
+
+    // 线程名称前缀（格式："前缀-计数器"）
+    private final String threadNamePrefix;
+
+    // 最大并发数，小于等于 0 表示不限制
+    private final int maxConcurrency;
+
+    // 并发许可，不限制并发时为 null
+    private final Semaphore permits;
+
+    // 每任务一个虚拟线程的底层执行器，负责线程创建与生命周期管理
+    private final ExecutorService delegate;
+
+    // 已提交任务总数
+    private final AtomicLong taskCount = new AtomicLong();
+
+    // 已结束任务总数（包含等待许可期间被中断的任务）
+    private final AtomicLong completedTaskCount = new AtomicLong();
+
+    // 正在运行的任务数
+    private final AtomicInteger activeCount = new AtomicInteger();
+
+    // 正在等待并发许可的任务数
+    private final AtomicInteger waitingCount = new AtomicInteger();
+
+    /**
+     * 构造虚拟线程执行器
+     *
+     * @param threadNamePrefix 线程名称前缀
+     * @param maxConcurrency   最大并发数，小于等于 0 表示不限制
+     */
+    public VirtualThreadExecutor(String threadNamePrefix, int maxConcurrency) {
+        Assert.hasLength(threadNamePrefix, "The thread name prefix cannot be empty or an empty string.");
+        this.threadNamePrefix = threadNamePrefix;
+        this.maxConcurrency = Math.max(maxConcurrency, 0);
+        this.permits = maxConcurrency > 0 ? new Semaphore(maxConcurrency, true) : null;
+        // 前缀已以 "-" 结尾时不再追加分隔符，避免出现 "global--0" 这样的线程名
+        String namePrefix = threadNamePrefix.endsWith("-") ? threadNamePrefix : threadNamePrefix + "-";
+        ThreadFactory threadFactory = Thread.ofVirtual().name(namePrefix, 0).factory();
+        this.delegate = Executors.newThreadPerTaskExecutor(threadFactory);
+    }
+
+    /**
+     * 在新的虚拟线程中执行任务
+     *
+     * @param command 要执行的任务
+     * @throws RejectedExecutionException 如果执行器已关闭
+     */
+    @Override
+    public void execute(@NonNull Runnable command) {
+        Objects.requireNonNull(command);
+        taskCount.incrementAndGet();
+        ContextSnapshot context = ContextPropagation.capture();
+        try {
+            delegate.execute(() -> runWithinPermit(command, context));
+        } catch (RejectedExecutionException ex) {
+            taskCount.decrementAndGet();
+            throw ex;
+        }
+    }
+
+    private void runWithinPermit(Runnable command, ContextSnapshot context) {
+        try {
+            if (Objects.nonNull(permits)) {
+                waitingCount.incrementAndGet();
+                try {
+                    permits.acquire();
+                } catch (InterruptedException ex) {
+                    // 关闭执行器时中断，任务不再执行
+                    Thread.currentThread().interrupt();
+                    return;
+                } finally {
+                    waitingCount.decrementAndGet();
+                }
+            }
+            activeCount.incrementAndGet();
+            Object[] backup = context.replay();
+            try {
+                command.run();
+            } finally {
+                context.restore(backup);
+                activeCount.decrementAndGet();
+                if (Objects.nonNull(permits)) {
+                    permits.release();
+                }
+            }
+        } finally {
+            completedTaskCount.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    /**
+     * 立即关闭执行器并中断全部虚拟线程（包括等待许可的任务）
+     *
+     * @return 始终为空列表，任务提交后即拥有独立的虚拟线程，不存在排队中的任务
+     */
+    @NonNull
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, @NonNull TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * 获取线程名称前缀
+     *
+     * @return 线程名称前缀
+     */
+    public String getThreadNamePrefix() {
+        return threadNamePrefix;
+    }
+
+    /**
+     * 获取最大并发数
+     *
+     * @return 最大并发数，0 表示不限制
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * 获取已提交任务总数
+     *
+     * @return 已提交任务总数
+     */
+    public long getTaskCount() {
+        return taskCount.get();
+    }
+
+    /**
+     * 获取已结束任务总数
+     *
+     * @return 已结束任务总数
+     */
+    public long getCompletedTaskCount() {
+        return completedTaskCount.get();
+    }
+
+    /**
+     * 获取正在运行的任务数
+     *
+     * @return 正在运行的任务数
+     */
+    public int getActiveCount() {
+        return activeCount.get();
+    }
+
+    /**
+     * 获取正在等待并发许可的任务数，相当于线程池的队列长度
+     *
+     * @return 等待许可的任务数
+     */
+    public int getWaitingCount() {
+        return waitingCount.get();
+    }
+}
@@ -0,0 +1,93 @@
+package com.lcsk42.starter.core.threadpool.virtual;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 虚拟线程钉住（pinning）监控。
+ * <p>
+ * 虚拟线程在 synchronized 块或本地方法中阻塞时无法卸载，会一直占用载体线程，
+ * 大量钉住会使虚拟线程退化为数量等于载体线程数的平台线程池。
+ * 该监控通过 JFR 事件流订阅 {@code jdk.VirtualThreadPinned} 事件，超过阈值时输出线程名称、持续时间与调用栈，
+ * 无需启动参数 {@code -Djdk.tracePinnedThreads} 即可在运行期定位钉住的代码。
+ * </p>
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements DisposableBean {
+
+    private static final String VIRTUAL_THREAD_PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    // 日志中输出的最大栈帧数
+    private static final int MAX_LOGGED_FRAMES = 16;
+
+    private final RecordingStream recordingStream;
+
+    // 累计钉住次数
+    private final LongAdder pinnedCount = new LongAdder();
+
+    /**
+     * 构造并启动钉住监控
+     *
+     * @param threshold 钉住时长阈值，超过该时长的钉住才会被记录
+     */
+    public VirtualThreadPinningMonitor(Duration threshold) {
+        this.recordingStream = new RecordingStream();
+        this.recordingStream.enable(VIRTUAL_THREAD_PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        this.recordingStream.onEvent(VIRTUAL_THREAD_PINNED_EVENT, this::onPinned);
+        this.recordingStream.startAsync();
+    }
+
+    /**
+     * 获取累计钉住次数
+     *
+     * @return 自监控启动以来超过阈值的钉住次数
+     */
+    public long getPinnedCount() {
+        return pinnedCount.sum();
+    }
+
+    @Override
+    public void destroy() {
+        recordingStream.close();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCount.increment();
+        RecordedThread thread = event.getThread();
+        String threadName = Objects.isNull(thread) ? "unknown" : thread.getJavaName();
+        log.warn("[Omega Starter] - Virtual thread [{}] was pinned to its carrier thread for {} ms.{}",
+                threadName, event.getDuration().toMillis(), formatStackTrace(event.getStackTrace()));
+    }
+
+    private static String formatStackTrace(RecordedStackTrace stackTrace) {
+        if (Objects.isNull(stackTrace)) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder();
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        for (int i = 0; i < Math.min(frames.size(), MAX_LOGGED_FRAMES); i++) {
+            RecordedFrame frame = frames.get(i);
+            builder.append(System.lineSeparator())
+                    .append("\tat ")
+                    .append(frame.getMethod().getType().getName())
+                    .append('.')
+                    .append(frame.getMethod().getName())
+                    .append(':')
+                    .append(frame.getLineNumber());
+        }
+        if (frames.size() > MAX_LOGGED_FRAMES || stackTrace.isTruncated()) {
+            builder.append(System.lineSeparator()).append("\t...");
+        }
+        return builder.toString();
+    }
+}
@@ -8,7 +8,6 @@ import org.springframework.lang.NonNull;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
-import java.util.concurrent.ThreadPoolExecutor;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class GlobalThreadPool {
@@ -17,20 +16,34 @@ public final class GlobalThreadPool {
      * 全局线程池执行器。
      * 这是一个可在整个应用程序中使用的单例实例。
      */
-    private static ThreadPoolExecutor threadPoolExecutor;
+    private static volatile ExecutorService threadPoolExecutor;
 
     /**
      * 初始化全局线程池执行器。
      * 该方法应在应用程序启动时调用一次以设置线程池。
      */
     public static synchronized void init() {
-        if (threadPoolExecutor != null) {
-            threadPoolExecutor.shutdownNow();
-        }
+        init(false, 0);
+    }
 
+    /**
+     * 按指定模式重新初始化全局线程池执行器。
+     * 先创建并切换到新执行器，再平缓关闭原执行器，原执行器中已提交的任务会继续执行完毕。
+     *
+     * @param virtual        是否使用虚拟线程
+     * @param maxConcurrency 虚拟线程模式下的最大并发数，小于等于 0 表示不限制
+     */
+    public static synchronized void init(boolean virtual, int maxConcurrency) {
+        ExecutorService previous = threadPoolExecutor;
         threadPoolExecutor = ThreadPoolBuilder.builder()
                 .threadFactory("global-", false)
-                .build();
+                .poolName("global")
+                .virtual(virtual)
+                .maxConcurrency(maxConcurrency)
+                .buildExecutorService();
+        if (previous != null) {
+            previous.shutdown();
+        }
     }
 
     /**
@@ -1,12 +1,19 @@
 package com.lcsk42.starter.core.util;
 
+import com.lcsk42.starter.core.threadpool.fanout.FanOut;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.SneakyThrows;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 
 /**
  * 线程操作工具类。
@@ -70,4 +77,66 @@ public final class ThreadUtil {
     public static Future<?> submit(Runnable runnable) {
         return GlobalThreadPool.submit(runnable);
     }
+
+    /**
+     * 使用全局线程池以有界并行度对每个元素执行映射。
+     * 任一元素失败或超过截止时间时取消其余元素，详见 {@link FanOut}。
+     *
+     * @param items          元素集合
+     * @param mapper         映射函数
+     * @param maxConcurrency 最大并行度
+     * @param timeout        截止时间（相对调用时刻）
+     * @param <T>            元素类型
+     * @param <R>            结果类型
+     * @return 与元素顺序一致的结果列表
+     * @throws InterruptedException 如果等待期间被中断
+     * @throws ExecutionException   如果任一元素执行失败
+     * @throws TimeoutException     如果超过截止时间仍未完成
+     */
+    public static <T, R> List<R> parallelMap(Collection<? extends T> items,
+                                             Function<? super T, ? extends R> mapper,
+                                             int maxConcurrency,
+                                             Duration timeout)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        return FanOut.parallelMap(GlobalThreadPool.getExecutor(), items, mapper, maxConcurrency, timeout);
+    }
+
+    /**
+     * 使用全局线程池以有界并行度执行全部任务。
+     * 任一任务失败或超过截止时间时取消其余任务，详见 {@link FanOut}。
+     *
+     * @param tasks          任务集合
+     * @param maxConcurrency 最大并行度
+     * @param timeout        截止时间（相对调用时刻）
+     * @param <T>            结果类型
+     * @return 与任务顺序一致的结果列表
+     * @throws InterruptedException 如果等待期间被中断
+     * @throws ExecutionException   如果任一任务执行失败
+     * @throws TimeoutException     如果超过截止时间仍未完成
+     */
+    public static <T> List<T> invokeAll(Collection<? extends Callable<T>> tasks,
+                                        int maxConcurrency,
+                                        Duration timeout)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        return FanOut.invokeAll(GlobalThreadPool.getExecutor(), tasks, maxConcurrency, timeout);
+    }
+
+    /**
+     * 使用全局线程池以有界并行度执行任务，返回首个成功的结果并取消其余任务，详见 {@link FanOut}。
+     *
+     * @param tasks          任务集合
+     * @param maxConcurrency 最大并行度
+     * @param timeout        截止时间（相对调用时刻）
+     * @param <T>            结果类型
+     * @return 首个成功任务的结果
+     * @throws InterruptedException 如果等待期间被中断
+     * @throws ExecutionException   如果全部任务失败
+     * @throws TimeoutException     如果超过截止时间仍没有任务成功
+     */
+    public static <T> T invokeAny(Collection<? extends Callable<T>> tasks,
+                                  int maxConcurrency,
+                                  Duration timeout)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        return FanOut.invokeAny(GlobalThreadPool.getExecutor(), tasks, maxConcurrency, timeout);
+    }
 }
@@ -0,0 +1,42 @@
+package com.lcsk42.starter.core.config;
+
+import com.lcsk42.starter.core.threadpool.dynamic.ThreadPoolEndpoint;
+import com.lcsk42.starter.core.threadpool.monitor.ThreadPoolMeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 核心自动配置的上下文测试，确认嵌套配置类随自动配置一并生效
+ */
+class CoreAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(CoreAutoConfiguration.class));
+
+    @Test
+    void registersThreadPoolMeterBinder() {
+        contextRunner.run(context -> {
+            assertNull(context.getStartupFailure());
+            assertEquals(1, context.getBeansOfType(ThreadPoolMeterBinder.class).size());
+
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            context.getBean(ThreadPoolMeterBinder.class).bindTo(registry);
+            assertNotNull(registry.find("omega.thread.pool.max").tag("name", "task-executor").gauge());
+        });
+    }
+
+    @Test
+    void registersThreadPoolEndpoint() {
+        contextRunner.run(context -> {
+            assertNull(context.getStartupFailure());
+            assertEquals(1, context.getBeansOfType(ThreadPoolEndpoint.class).size());
+            assertNotNull(context.getBean(ThreadPoolEndpoint.class).threadPools());
+        });
+    }
+}
@@ -0,0 +1,57 @@
+package com.lcsk42.starter.core.threadpool.eager;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 无锁任务队列在线程数未达到最大值时的重试入队测试
+ */
+class LockFreeTaskQueueTest {
+
+    private LockFreeTaskQueue queue;
+
+    private EagerThreadPoolExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        // 容量 2，尚未启动任何线程，线程数始终低于最大值
+        queue = new LockFreeTaskQueue(2);
+        executor = new EagerThreadPoolExecutor(1, 4, 60L, TimeUnit.SECONDS, queue,
+                Executors.defaultThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void retryOfferEnqueuesWhilePoolSizeBelowMaximum() throws InterruptedException {
+        Runnable task = () -> {
+        };
+
+        assertFalse(queue.offer(task));
+        assertTrue(queue.retryOffer(task, 100L, TimeUnit.MILLISECONDS));
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    void retryOfferTimesOutWhenQueueIsFull() throws InterruptedException {
+        Runnable task = () -> {
+        };
+
+        assertTrue(queue.retryOffer(task, 100L, TimeUnit.MILLISECONDS));
+        assertTrue(queue.retryOffer(task, 100L, TimeUnit.MILLISECONDS));
+        assertFalse(queue.retryOffer(task, 10L, TimeUnit.MILLISECONDS));
+        assertEquals(2, queue.size());
+    }
+}
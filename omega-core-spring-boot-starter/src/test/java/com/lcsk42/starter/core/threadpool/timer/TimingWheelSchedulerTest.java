@@ -0,0 +1,147 @@
+package com.lcsk42.starter.core.threadpool.timer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 分层时间轮的降级、取消、溢出与分发拒绝测试
+ */
+class TimingWheelSchedulerTest {
+
+    private TimingWheelScheduler scheduler;
+
+    @AfterEach
+    void tearDown() {
+        if (scheduler != null) {
+            scheduler.close();
+        }
+    }
+
+    @Test
+    void cascadesAcrossLevelsWithoutFiringEarly() throws Exception {
+        // 每层 4 个槽位，延迟覆盖第 0 至第 3 层，需要逐层降级后才能到期
+        scheduler = new TimingWheelScheduler("cascade", Duration.ofMillis(1), 4, 0L, Runnable::run);
+        List<Long> delays = List.of(3L, 13L, 40L, 150L);
+        CountDownLatch latch = new CountDownLatch(delays.size());
+        Map<Long, Long> lateness = new ConcurrentHashMap<>();
+        for (long delay : delays) {
+            long[] deadline = new long[1];
+            WheelTimeout timeout = scheduler.schedule(() -> {
+                lateness.put(delay, System.nanoTime() - deadline[0]);
+                latch.countDown();
+            }, delay, TimeUnit.MILLISECONDS);
+            deadline[0] = timeout.getDeadlineNanos();
+        }
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        for (long delay : delays) {
+            assertTrue(lateness.get(delay) >= 0L, "timeout of " + delay + "ms fired early");
+        }
+        assertPendingDrained();
+    }
+
+    @Test
+    void cancelledTimeoutNeverRuns() throws Exception {
+        scheduler = new TimingWheelScheduler("cancel", Duration.ofMillis(1), 4, 0L, Runnable::run);
+        AtomicBoolean cancelledRan = new AtomicBoolean();
+        CountDownLatch sentinel = new CountDownLatch(1);
+        WheelTimeout cancelled = scheduler.schedule(() -> cancelledRan.set(true), 30, TimeUnit.MILLISECONDS);
+        scheduler.schedule(sentinel::countDown, 60, TimeUnit.MILLISECONDS);
+
+        assertTrue(cancelled.cancel());
+        assertFalse(cancelled.cancel());
+        assertTrue(cancelled.isCancelled());
+        assertTrue(sentinel.await(5, TimeUnit.SECONDS));
+        assertFalse(cancelledRan.get());
+        assertFalse(cancelled.isExpired());
+        assertPendingDrained();
+    }
+
+    @Test
+    void expiredTimeoutCannotBeCancelled() throws Exception {
+        scheduler = new TimingWheelScheduler("expired", Duration.ofMillis(1), 4, 0L, Runnable::run);
+        CountDownLatch latch = new CountDownLatch(1);
+        WheelTimeout timeout = scheduler.schedule(latch::countDown, 5, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(timeout.isExpired());
+        assertFalse(timeout.cancel());
+        assertPendingDrained();
+    }
+
+    @Test
+    void overflowingDelayIsClampedInsteadOfFiringImmediately() throws Exception {
+        scheduler = new TimingWheelScheduler("overflow", Duration.ofMillis(1), 4, 0L, Runnable::run);
+        AtomicBoolean ran = new AtomicBoolean();
+        WheelTimeout timeout = scheduler.schedule(() -> ran.set(true), Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+
+        TimeUnit.MILLISECONDS.sleep(50);
+        assertFalse(ran.get());
+        assertFalse(timeout.isExpired());
+        assertTrue(timeout.getDeadlineNanos() - System.nanoTime() > 0L);
+        assertTrue(timeout.cancel());
+    }
+
+    @Test
+    void rejectedDispatchIsRetried() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(1);
+        scheduler = new TimingWheelScheduler("retry", Duration.ofMillis(1), 4, 0L, task -> {
+            if (attempts.incrementAndGet() <= 3) {
+                throw new RejectedExecutionException("saturated");
+            }
+            task.run();
+        });
+        WheelTimeout timeout = scheduler.schedule(latch::countDown, 5, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(4, attempts.get());
+        assertTrue(timeout.isExpired());
+        assertPendingDrained();
+    }
+
+    @Test
+    void shutdownDispatcherRejectsTimeout() throws Exception {
+        ExecutorService dispatcher = Executors.newSingleThreadExecutor();
+        dispatcher.shutdown();
+        scheduler = new TimingWheelScheduler("rejected", Duration.ofMillis(1), 4, 0L, dispatcher);
+        WheelTimeout timeout = scheduler.schedule(() -> {
+        }, 5, TimeUnit.MILLISECONDS);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!timeout.isRejected() && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(5);
+        }
+        assertTrue(timeout.isRejected());
+        assertFalse(timeout.isExpired());
+        assertFalse(timeout.cancel());
+        assertPendingDrained();
+    }
+
+    /**
+     * 分发返回后才扣减等待数，任务本身可能先于扣减完成，因此轮询等待
+     */
+    private void assertPendingDrained() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (scheduler.getPendingCount() != 0L && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(1);
+        }
+        assertEquals(0L, scheduler.getPendingCount());
+    }
+}